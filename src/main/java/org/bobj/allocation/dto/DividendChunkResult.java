@@ -0,0 +1,37 @@
+package org.bobj.allocation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배당금 청크 지급 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DividendChunkResult {
+
+    private Long allocationsId;                 // 배당금 ID (보상 시 지급 기록 삭제용)
+    private int batchNumber;                    // 청크 번호 (1부터 시작)
+    private Map<Long, BigDecimal> paidAmounts;  // 사용자별 지급액 (보상 처리용)
+    private List<Long> failedUserIds;           // 지급 대상에서 제외된 사용자 ID
+
+    public int getSuccessCount() {
+        return paidAmounts.size();
+    }
+
+    public int getFailCount() {
+        return failedUserIds.size();
+    }
+
+    public BigDecimal getTotalPaidAmount() {
+        return paidAmounts.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -5,8 +5,11 @@ import org.apache.ibatis.annotations.Param;
 import org.bobj.allocation.domain.AllocationVO;
 import org.bobj.allocation.dto.AllocationResponseDTO;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface AllocationMapper {
@@ -45,4 +48,19 @@ public interface AllocationMapper {
      * 특정 펀딩의 다음 배당 예정일 조회 (가장 최근 배당일 + 1개월)
      */
     LocalDate findNextPaymentDate(@Param("fundingId") Long fundingId);
+
+    /**
+     * 청크 대상자 중 이미 배당금이 지급된 사용자 ID 조회 (재처리 시 중복 지급 방지)
+     */
+    List<Long> findPaidUserIds(@Param("allocationsId") Long allocationsId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 사용자별 배당금 지급 기록 일괄 저장
+     */
+    void insertPayments(@Param("allocationsId") Long allocationsId, @Param("payments") Map<Long, BigDecimal> payments);
+
+    /**
+     * 회수가 끝난 사용자의 지급 기록 삭제
+     */
+    void deletePayments(@Param("allocationsId") Long allocationsId, @Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,20 @@
+package org.bobj.allocation.service;
+
+/**
+ * 청크 롤백 예외 클래스
+ * 1% 임계값 초과로 인한 청크 롤백을 나타내는 사용자 정의 예외
+ *
+ * 용도:
+ * - 시스템 오류와 1% 임계값 롤백을 구분하기 위함
+ * - executeBatchTasks에서 예외 타입별로 다른 로깅 처리
+ * - 통계 산출 시 롤백 청크 수와 오류 청크 수를 분리 집계
+ */
+class ChunkRollbackException extends RuntimeException {
+    public ChunkRollbackException(String message) {
+        super(message);
+    }
+
+    public ChunkRollbackException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,98 @@
+package org.bobj.allocation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bobj.allocation.domain.AllocationVO;
+import org.bobj.allocation.dto.DividendChunkResult;
+import org.bobj.allocation.dto.DividendPaymentDTO;
+import org.bobj.allocation.mapper.AllocationMapper;
+import org.bobj.point.service.PointService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 배당금 청크 지급/보상 서비스
+ * AllocationBatchService와 분리된 빈이므로 각 청크가 프록시를 거쳐 실제 독립 트랜잭션으로 실행된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DividendChunkService {
+
+    private final PointService pointService;
+    private final AllocationMapper allocationMapper;
+
+    /**
+     * 청크 단위 배당금 지급 (1% 임계값 롤백 포함)
+     *
+     * 처리 단계:
+     * 1. 지급 불가 대상(사용자/주식 수 누락) 분류 후 사용자별 배당금 합산
+     * 2. 실패율이 임계값 초과 시 ChunkRollbackException → 청크 트랜잭션 전체 롤백
+     * 3. 이전 시도에서 이미 지급된 사용자 제외 (allocation_payment 기록 기준)
+     * 4. 포인트 일괄 잠금 + 일괄 UPDATE + ALLOCATION 거래 일괄 INSERT + 사용자별 지급 기록 INSERT
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public DividendChunkResult payChunkTransactional(AllocationVO allocation, List<DividendPaymentDTO> shareholderChunk,
+                                                     int batchNumber, double rollbackThreshold) {
+        Map<Long, BigDecimal> dividendMap = new HashMap<>();
+        List<Long> failedUserIds = new ArrayList<>();
+
+        for (DividendPaymentDTO shareholder : shareholderChunk) {
+            if (shareholder.getUserId() == null || shareholder.getShareCount() == null || shareholder.getShareCount() <= 0) {
+                failedUserIds.add(shareholder.getUserId());
+                continue;
+            }
+            // 개인별 배당금 계산 (주당 배당금 × 보유 주식 수)
+            shareholder.setDividendPerShare(allocation.getDividendPerShare());
+            dividendMap.merge(shareholder.getUserId(), shareholder.calculateTotalDividend(), BigDecimal::add);
+        }
+
+        double failureRate = (double) failedUserIds.size() / shareholderChunk.size() * 100;
+        if (failureRate > rollbackThreshold) {
+            throw new ChunkRollbackException(
+                    String.format("청크 %d 롤백: 실패율 %.2f%% > 임계값 %.1f%%", batchNumber, failureRate, rollbackThreshold));
+        }
+
+        // 재처리 시 회수하지 못했거나 보상이 실패해 지급 상태로 남은 사용자는 다시 지급하지 않음
+        List<Long> paidUserIds = dividendMap.isEmpty() ? List.of()
+                : allocationMapper.findPaidUserIds(allocation.getAllocationsId(), dividendMap.keySet());
+        paidUserIds.forEach(dividendMap::remove);
+
+        if (!dividendMap.isEmpty()) {
+            pointService.allocateDividendBulk(dividendMap);
+            allocationMapper.insertPayments(allocation.getAllocationsId(), dividendMap);
+        }
+
+        log.info("🧩 청크 지급 완료 - 배당금 ID: {}, 청크 번호: {}, 지급: {}명, 제외: {}명, 기지급: {}명",
+                allocation.getAllocationsId(), batchNumber, dividendMap.size(), failedUserIds.size(), paidUserIds.size());
+
+        return new DividendChunkResult(allocation.getAllocationsId(), batchNumber, dividendMap, failedUserIds);
+    }
+
+    /**
+     * 이미 커밋된 청크의 지급을 되돌리는 보상 트랜잭션
+     * 회수된 사용자의 지급 기록만 삭제하므로, 회수하지 못한 사용자는 재처리 시 다시 지급되지 않는다.
+     * @return 잔액 부족으로 회수하지 못한 사용자별 금액
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public Map<Long, BigDecimal> compensateChunkTransactional(DividendChunkResult paidChunk) {
+        Map<Long, BigDecimal> uncollected = pointService.cancelDividendBulk(paidChunk.getPaidAmounts());
+
+        Set<Long> collectedUserIds = new HashSet<>(paidChunk.getPaidAmounts().keySet());
+        collectedUserIds.removeAll(uncollected.keySet());
+        if (!collectedUserIds.isEmpty()) {
+            allocationMapper.deletePayments(paidChunk.getAllocationsId(), collectedUserIds);
+        }
+        log.warn("🔄 청크 지급 취소 완료 - 청크 번호: {}, 대상: {}명, 금액: {}원, 회수 실패: {}명",
+                paidChunk.getBatchNumber(), paidChunk.getSuccessCount(), paidChunk.getTotalPaidAmount(), uncollected.size());
+        return uncollected;
+    }
+}
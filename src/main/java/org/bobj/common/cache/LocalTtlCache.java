@@ -0,0 +1,138 @@
+package org.bobj.common.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한 + 항목별 TTL을 지원하는 스레드 안전 로컬 캐시
+ * - 같은 키를 동시에 로딩하면 로더는 한 번만 실행되고 나머지 스레드는 그 결과를 기다린다. (single-flight)
+ * - null 결과도 캐싱할 수 있어 실패 캐시(negative cache)로 사용할 수 있다.
+ * - 최대 크기를 넘으면 만료된 항목을 먼저 지우고, 그래도 넘으면 만료가 가장 가까운 항목부터 지운다.
+ */
+public class LocalTtlCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public LocalTtlCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 로더를 실행해 저장 후 반환한다.
+     * @param ttlForValue 로딩된 값(null 포함)에 적용할 TTL, null 또는 0이면 캐싱하지 않음
+     */
+    public V get(K key, Supplier<V> loader, Function<V, Duration> ttlForValue) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired()) {
+            return entry.value;
+        }
+
+        CompletableFuture<V> ownFuture = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, ownFuture);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V value = loader.get();
+            put(key, value, ttlForValue.apply(value));
+            ownFuture.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error까지 대기 중인 스레드에 전달해야 join()에서 영원히 멈추지 않는다.
+            ownFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ownFuture);
+        }
+    }
+
+    // 캐시된 값 조회 (없거나 만료면 null)
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public boolean containsKey(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired();
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttl.toNanos()));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict() {
+        entries.entrySet().removeIf(e -> e.getValue().isExpired());
+
+        int overflow = entries.size() - maxSize;
+        if (overflow <= 0) {
+            return;
+        }
+        // 한 번에 10% 여유를 두고 정리해 매 put마다 정렬하지 않도록 함
+        int toRemove = overflow + maxSize / 10;
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiresAtNanos))
+                .limit(toRemove)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
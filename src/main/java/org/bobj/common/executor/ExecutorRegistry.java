@@ -0,0 +1,123 @@
+package org.bobj.common.executor;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 배치 작업용 공용 스레드 풀 레지스트리
+ * - 호출마다 Executors.newFixedThreadPool을 만들지 않고 이름별로 하나의 풀을 재사용한다.
+ * - DB 작업 풀은 Hikari 최대 커넥션 수에서 요청 처리용 여유분을 뺀 크기로 제한한다.
+ * - 애플리케이션 종료 시 모든 풀을 정리한다.
+ */
+@Log4j2
+@Component
+public class ExecutorRegistry {
+
+    // DB 커넥션을 사용하는 배치 작업 (배당 지급, 펀딩 환불, 매각 환불 등)
+    public static final String DB_BATCH = "db-batch";
+    // 외부 API 호출 (좌표 변환 등) - DB 커넥션을 잡지 않음
+    public static final String EXTERNAL_API = "external-api";
+    // 요청 경로에서 분리한 후처리 작업 (월세 추정 등) - 내부에서 다른 풀 작업을 기다릴 수 있음
+    public static final String BACKGROUND = "background";
+    // 실시간 알림 발행 (호가창 웹소켓 등) - 오래 걸리는 후처리와 섞이지 않도록 분리
+    public static final String REALTIME = "realtime";
+    // 시가 단일가 매매 - 개장 직후 배당 지급 등 DB 배치 작업이 DB_BATCH를 채워도 연속 매칭 전환이 밀리지 않도록 분리
+    public static final String AUCTION = "auction";
+
+    // 요청 처리용으로 남겨둘 커넥션 수
+    private static final int RESERVED_CONNECTIONS = 2;
+    private static final int DEFAULT_DB_POOL_SIZE = 10;
+    private static final int EXTERNAL_API_POOL_SIZE = 5;
+    private static final int BACKGROUND_POOL_SIZE = 2;
+    private static final int REALTIME_POOL_SIZE = 2;
+    private static final int AUCTION_POOL_SIZE = 1;      // 실행 중 중복 방지 플래그로 한 번에 하나만 돎
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final Map<String, MeteredThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastReportedCompleted = new ConcurrentHashMap<>();
+
+    public ExecutorRegistry(DataSource dataSource) {
+        int maxConnections = dataSource instanceof HikariDataSource hikari
+                ? hikari.getMaximumPoolSize()
+                : DEFAULT_DB_POOL_SIZE;
+        // 단일가 매매 풀도 DB 커넥션을 쓰므로 그만큼 DB 배치 풀에서 뺌
+        int dbBatchSize = Math.max(1, maxConnections - RESERVED_CONNECTIONS - AUCTION_POOL_SIZE);
+
+        register(DB_BATCH, dbBatchSize);
+        register(EXTERNAL_API, EXTERNAL_API_POOL_SIZE);
+        register(BACKGROUND, BACKGROUND_POOL_SIZE);
+        register(REALTIME, REALTIME_POOL_SIZE);
+        register(AUCTION, AUCTION_POOL_SIZE);
+        log.info("배치 스레드 풀 초기화 - {}: {}개 (DB 커넥션 {}개), {}: {}개, {}: {}개, {}: {}개, {}: {}개",
+                DB_BATCH, dbBatchSize, maxConnections, EXTERNAL_API, EXTERNAL_API_POOL_SIZE,
+                BACKGROUND, BACKGROUND_POOL_SIZE, REALTIME, REALTIME_POOL_SIZE, AUCTION, AUCTION_POOL_SIZE);
+    }
+
+    public ExecutorService get(String name) {
+        MeteredThreadPoolExecutor executor = executors.get(name);
+        if (executor == null) {
+            throw new IllegalArgumentException("등록되지 않은 스레드 풀입니다: " + name);
+        }
+        return executor;
+    }
+
+    // 이름의 풀에서 CompletableFuture 작업 실행 (실패 수 집계 포함)
+    public <T> CompletableFuture<T> supplyAsync(String name, Supplier<T> supplier) {
+        return ((MeteredThreadPoolExecutor) get(name)).supplyAsync(supplier);
+    }
+
+    public int getPoolSize(String name) {
+        return executors.get(name).getMaximumPoolSize();
+    }
+
+    public ExecutorStats getStats(String name) {
+        return executors.get(name).snapshot();
+    }
+
+    public List<ExecutorStats> getAllStats() {
+        return executors.values().stream().map(MeteredThreadPoolExecutor::snapshot).toList();
+    }
+
+    // 5분마다 처리량이 있었던 풀의 통계 기록
+    @Scheduled(fixedDelay = 300000)
+    public void reportStats() {
+        for (ExecutorStats stats : getAllStats()) {
+            Long previous = lastReportedCompleted.put(stats.getName(), stats.getCompletedCount());
+            if (previous == null || previous != stats.getCompletedCount()) {
+                log.info("스레드 풀 통계 - {}", stats);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ExecutorService::shutdown);
+        for (MeteredThreadPoolExecutor executor : executors.values()) {
+            try {
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    List<Runnable> pendingTasks = executor.shutdownNow();
+                    log.warn("스레드 풀 강제 종료 - {}, 대기 중인 작업: {}개", executor.getName(), pendingTasks.size());
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void register(String name, int poolSize) {
+        executors.put(name, new MeteredThreadPoolExecutor(name, poolSize, QUEUE_CAPACITY));
+    }
+}
@@ -0,0 +1,21 @@
+package org.bobj.common.executor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutorStats {
+    private String name;
+    private int poolSize;
+    private int activeCount;
+    private int queuedCount;
+    private long completedCount;
+    private long failedCount;
+    private long callerRunsCount;
+    private double averageExecutionMillis;
+}
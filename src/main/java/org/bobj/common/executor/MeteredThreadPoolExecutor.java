@@ -0,0 +1,117 @@
+package org.bobj.common.executor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 작업 수/실패 수/실행 시간/거절(호출 스레드 실행) 횟수를 집계하는 고정 크기 스레드 풀
+ */
+public class MeteredThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final String name;
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalExecutionNanos = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    public MeteredThreadPoolExecutor(String name, int poolSize, int queueCapacity) {
+        super(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(name));
+        this.name = name;
+        allowCoreThreadTimeOut(true);
+
+        // 큐가 가득 차면 제출한 스레드가 직접 실행 (작업 유실 없이 속도 조절)
+        RejectedExecutionHandler callerRunsPolicy = new CallerRunsPolicy();
+        setRejectedExecutionHandler((task, executor) -> {
+            callerRuns.increment();
+            callerRunsPolicy.rejectedExecution(task, executor);
+        });
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        startNanos.set(System.nanoTime());
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        Long start = startNanos.get();
+        if (start != null) {
+            totalExecutionNanos.add(System.nanoTime() - start);
+            startNanos.remove();
+        }
+        completed.increment();
+        // submit/invokeAll로 들어온 FutureTask는 예외를 삼키므로 완료된 Future의 결과에서 실패를 확인 (ThreadPoolExecutor javadoc 방식)
+        if (t == null && r instanceof Future<?> future && future.isDone()) {
+            try {
+                future.get();
+            } catch (CancellationException e) {
+                // 취소는 실패로 보지 않음
+            } catch (ExecutionException e) {
+                t = e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (t != null) {
+            failed.increment();
+        }
+    }
+
+    /**
+     * CompletableFuture 작업 제출 - CompletableFuture.supplyAsync 작업은 예외를 내부에서 처리해 afterExecute에 전달되지 않으므로
+     * 완료 시점에 실패를 집계한다.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(supplier, this);
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                failed.increment();
+            }
+        });
+        return future;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ExecutorStats snapshot() {
+        long completedCount = completed.sum();
+        return ExecutorStats.builder()
+                .name(name)
+                .poolSize(getMaximumPoolSize())
+                .activeCount(getActiveCount())
+                .queuedCount(getQueue().size())
+                .completedCount(completedCount)
+                .failedCount(failed.sum())
+                .callerRunsCount(callerRuns.sum())
+                .averageExecutionMillis(completedCount > 0
+                        ? totalExecutionNanos.sum() / completedCount / 1_000_000.0
+                        : 0)
+                .build();
+    }
+
+    private static ThreadFactory namedThreadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
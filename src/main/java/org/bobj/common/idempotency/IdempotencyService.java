@@ -0,0 +1,183 @@
+package org.bobj.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.common.cache.LocalTtlCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키(Idempotency-Key) 처리
+ * - 클라이언트가 타임아웃 후 같은 키로 재시도하면 요청을 다시 실행하지 않고 처음 응답을 그대로 돌려준다.
+ * - 키는 (범위, 사용자, 키) 단위로 Redis에 SET NX로 선점하고, 처리 중 표시 → 완료 응답 순으로 기록한다.
+ *   처리 중 표시는 짧은 TTL만 두어 서버가 중간에 죽어도 키가 영구히 잠기지 않는다.
+ * - 실패한 요청은 키를 지워 같은 키로 다시 시도할 수 있게 한다.
+ * - 같은 키에 다른 요청 내용이 오면 재사용으로 보고 거절한다.
+ * - 완료 응답은 크기 제한이 있는 로컬 캐시에도 두어 재시도 폭주 시 Redis 조회를 줄이고, Redis 장애 시에는 로컬 저장소만으로 동작한다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final Duration COMPLETED_TTL = Duration.ofHours(24);
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(60);
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final LocalTtlCache<String, IdempotencyRecord> localStore = new LocalTtlCache<>(10_000);
+
+    /**
+     * 멱등 키로 요청을 한 번만 실행한다.
+     * @param scope        API 구분 (예: "order")
+     * @param idempotencyKey 클라이언트가 보낸 키, 없으면 멱등 처리 없이 바로 실행
+     * @param request      같은 키의 재사용 여부를 판단할 요청 내용
+     * @param responseType 저장된 응답을 복원할 타입
+     */
+    public <T> T execute(String scope, Long userId, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String key = KEY_PREFIX + scope + ":" + userId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        IdempotencyRecord existing = localStore.getIfPresent(key);
+        if (existing == null && !acquire(key, fingerprint)) {
+            existing = read(key);
+        }
+        if (existing != null) {
+            return replay(key, existing, fingerprint, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+        complete(key, fingerprint, response);
+        return response;
+    }
+
+    // 키 선점 - 이미 있으면 false (Redis 장애 시 로컬 저장소로 선점)
+    private boolean acquire(String key, String fingerprint) {
+        IdempotencyRecord inProgress = new IdempotencyRecord(false, fingerprint, null);
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(key, serialize(inProgress), IN_PROGRESS_TTL);
+            return Boolean.TRUE.equals(acquired);
+        } catch (RuntimeException e) {
+            log.warn("멱등 키 Redis 선점 실패, 로컬 저장소 사용 - key: {}, 오류: {}", key, e.getMessage());
+            synchronized (localStore) {
+                if (localStore.containsKey(key)) {
+                    return false;
+                }
+                localStore.put(key, inProgress, IN_PROGRESS_TTL);
+                return true;
+            }
+        }
+    }
+
+    private IdempotencyRecord read(String key) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            if (value != null) {
+                return objectMapper.readValue(value, IdempotencyRecord.class);
+            }
+        } catch (Exception e) {
+            log.warn("멱등 키 Redis 조회 실패 - key: {}, 오류: {}", key, e.getMessage());
+        }
+        return localStore.getIfPresent(key);
+    }
+
+    private <T> T replay(String key, IdempotencyRecord record, String fingerprint, Class<T> responseType) {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            throw new IllegalArgumentException("이미 다른 요청에 사용된 Idempotency-Key입니다.");
+        }
+        if (!record.isCompleted()) {
+            throw new IllegalStateException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        localStore.put(key, record, LOCAL_TTL);
+        log.info("멱등 키 재요청 - 저장된 응답 반환, key: {}", key);
+        try {
+            return record.getResponse() == null ? null : objectMapper.readValue(record.getResponse(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 복원할 수 없습니다.", e);
+        }
+    }
+
+    private void complete(String key, String fingerprint, Object response) {
+        IdempotencyRecord record;
+        try {
+            record = new IdempotencyRecord(true, fingerprint,
+                    response == null ? null : objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            // 요청은 이미 처리됐으므로 응답 저장 실패로 요청을 실패시키지 않음 (처리 중 표시는 TTL로 만료)
+            log.error("멱등 응답 직렬화 실패 - key: {}", key, e);
+            return;
+        }
+        localStore.put(key, record, LOCAL_TTL);
+        try {
+            stringRedisTemplate.opsForValue().set(key, serialize(record), COMPLETED_TTL);
+        } catch (RuntimeException e) {
+            log.warn("멱등 응답 Redis 저장 실패 - key: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    private void release(String key) {
+        localStore.invalidate(key);
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("멱등 키 해제 실패 - key: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return DigestUtils.md5DigestAsHex(body);
+        } catch (JsonProcessingException e) {
+            return DigestUtils.md5DigestAsHex(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private String serialize(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 기록 직렬화 실패", e);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class IdempotencyRecord {
+        private boolean completed;
+        private String fingerprint;
+        private String response;    // 완료된 요청의 응답 JSON
+    }
+}
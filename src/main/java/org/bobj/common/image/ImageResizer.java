@@ -0,0 +1,96 @@
+package org.bobj.common.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * 이미지 축소 유틸
+ * - 지정한 가로 폭에 맞춰 비율을 유지하며 줄이고 JPEG로 다시 인코딩한다.
+ * - 원본이 더 작으면 확대하지 않고 재인코딩만 한다.
+ * - 큰 비율로 줄일 때 계단 현상이 생기지 않도록 절반씩 단계적으로 줄인다.
+ */
+public final class ImageResizer {
+
+    public static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    private ImageResizer() {
+    }
+
+    /**
+     * @return 축소된 JPEG 바이트, 읽을 수 없는 이미지면 null
+     */
+    public static byte[] resizeToJpeg(byte[] original, int targetWidth, float quality) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(original));
+        if (source == null) {
+            return null;
+        }
+
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+
+        // JPEG는 알파 채널이 없으므로 흰 배경의 RGB로 변환
+        BufferedImage current = toRgb(source);
+        while (current.getWidth() / 2 >= width) {
+            current = scale(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        if (current.getWidth() != width) {
+            current = scale(current, width, height);
+        }
+        return writeJpeg(current, quality);
+    }
+
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] writeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,62 @@
+package org.bobj.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.user.security.UserPrincipal;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 호가창 요청(SEND /app/order-book/{fundingId}) 속도 제한
+ * - 요청마다 호가창을 다시 계산하므로 사용자(비로그인은 세션) + 펀딩별로 제한한다.
+ * - 한도를 넘은 메시지는 컨트롤러로 전달하지 않고 버린다. (구독 중인 /topic 갱신은 계속 받음)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RateLimitChannelInterceptor implements ChannelInterceptor {
+
+    private static final Pattern ORDER_BOOK_DESTINATION = Pattern.compile("^/app/order-book/(\\d+)$");
+
+    private final RateLimiterService rateLimiterService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SEND || accessor.getDestination() == null) {
+            return message;
+        }
+        Matcher matcher = ORDER_BOOK_DESTINATION.matcher(accessor.getDestination());
+        if (!matcher.matches()) {
+            return message;
+        }
+
+        String key = clientKey(accessor) + ":" + matcher.group(1);
+        if (rateLimiterService.tryAcquire(RateLimitPolicy.ORDER_BOOK_STOMP, key) > 0) {
+            log.debug("STOMP 요청 속도 제한 - key: {}", key);
+            return null;
+        }
+        return message;
+    }
+
+    // 핸드셰이크 시 인증된 사용자는 사용자 ID, 아니면 WebSocket 세션 ID
+    private String clientKey(StompHeaderAccessor accessor) {
+        Principal user = accessor.getUser();
+        if (user instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getUserId() != null) {
+            return "user:" + principal.getUserId();
+        }
+        return "session:" + accessor.getSessionId();
+    }
+}
@@ -0,0 +1,126 @@
+package org.bobj.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.common.exception.ErrorResponse;
+import org.bobj.user.security.UserPrincipal;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 API 요청 속도 제한 필터 (JWT 인증 필터 뒤에서 실행)
+ * - POST/PATCH /api/auth/orders/** : 사용자별
+ * - GET /api/order-books/{fundingId} : 사용자(비로그인은 IP) + 펀딩별
+ * 한도를 넘으면 컨트롤러까지 가지 않고 429와 Retry-After 헤더를 돌려준다.
+ * X-Forwarded-For는 클라이언트가 임의로 넣을 수 있으므로 설정된 프록시(ratelimit.trusted-proxies)에서 온 요청일 때만 사용한다.
+ */
+@Log4j2
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Pattern ORDER_PATH = Pattern.compile("^/api/auth/orders(/.*)?$");
+    private static final Pattern ORDER_BOOK_PATH = Pattern.compile("^/api/order-books/(\\d+)/?$");
+
+    private final RateLimiterService rateLimiterService;
+    private final ObjectMapper objectMapper;
+    private final Set<String> trustedProxies;
+
+    // trustedProxies: 쉼표로 구분한 프록시 IP 목록 (비어 있으면 X-Forwarded-For를 쓰지 않음)
+    public RateLimitFilter(RateLimiterService rateLimiterService, ObjectMapper objectMapper, String trustedProxies) {
+        this.rateLimiterService = rateLimiterService;
+        this.objectMapper = objectMapper;
+        this.trustedProxies = trustedProxies == null ? Set.of() : Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(ip -> !ip.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+
+        RateLimitPolicy policy = null;
+        String key = null;
+        if (("POST".equals(method) || "PATCH".equals(method)) && ORDER_PATH.matcher(path).matches()) {
+            policy = RateLimitPolicy.ORDER_WRITE;
+            key = clientKey(request);
+        } else if ("GET".equals(method)) {
+            Matcher matcher = ORDER_BOOK_PATH.matcher(path);
+            if (matcher.matches()) {
+                policy = RateLimitPolicy.ORDER_BOOK_QUERY;
+                key = clientKey(request) + ":" + matcher.group(1);
+            }
+        }
+
+        if (policy != null) {
+            long retryAfter = rateLimiterService.tryAcquire(policy, key);
+            if (retryAfter > 0) {
+                log.warn("요청 속도 제한 - 정책: {}, key: {}, 경로: {}", policy, key, path);
+                reject(request, response, retryAfter);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 로그인 사용자는 사용자 ID, 아니면 클라이언트 IP
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getUserId() != null) {
+            return "user:" + principal.getUserId();
+        }
+        return "ip:" + clientIp(request);
+    }
+
+    /**
+     * 클라이언트 IP
+     * - 직접 접속한 주소가 신뢰 프록시가 아니면 그 주소를 그대로 쓴다.
+     * - 신뢰 프록시를 거쳐 왔으면 X-Forwarded-For를 뒤에서부터 보며 신뢰 프록시가 아닌 첫 주소를 쓴다.
+     *   (앞쪽 값은 클라이언트가 넣은 값일 수 있으므로 맨 앞 값을 쓰지 않음)
+     */
+    String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterSeconds)
+            throws IOException {
+        ErrorResponse body = ErrorResponse.from(HttpStatus.TOO_MANY_REQUESTS,
+                "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.", request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+}
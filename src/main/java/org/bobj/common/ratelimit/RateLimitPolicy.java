@@ -0,0 +1,25 @@
+package org.bobj.common.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 속도 제한 정책 (버킷 용량 = 순간 허용량, 충전 속도 = 지속 허용량)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitPolicy {
+
+    // 주문 등록/취소 - 사용자별 (매칭 실행을 유발하므로 가장 엄격)
+    ORDER_WRITE("order", 5, 1),
+
+    // 호가창 REST 조회 - 사용자(비로그인은 IP) + 펀딩별
+    ORDER_BOOK_QUERY("order-book", 20, 5),
+
+    // 호가창 STOMP 요청 (/app/order-book/{fundingId}) - 사용자(비로그인은 세션) + 펀딩별, 요청마다 호가창을 다시 계산
+    ORDER_BOOK_STOMP("order-book-ws", 5, 2);
+
+    private final String prefix;
+    private final long capacity;
+    private final double refillPerSecond;
+}
@@ -0,0 +1,81 @@
+package org.bobj.common.ratelimit;
+
+import lombok.extern.log4j.Log4j2;
+import org.bobj.common.cache.LocalTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * 정책 + 키(사용자, 펀딩 등)별 토큰 버킷 속도 제한
+ * - 기본은 인스턴스 로컬 버킷(TokenBucket)을 사용한다. 오래 쓰이지 않은 버킷은 만료되어 다시 가득 찬 상태로 만들어진다.
+ * - ratelimit.redis.enabled=true면 Redis 해시(tokens, ts)에 버킷 상태를 두고 Lua 스크립트로 충전/차감을 원자적으로 처리해
+ *   여러 인스턴스가 같은 한도를 공유한다. Redis 장애 시에는 로컬 버킷으로 대신 판단한다.
+ */
+@Log4j2
+@Service
+public class RateLimiterService {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final Duration LOCAL_IDLE_TTL = Duration.ofMinutes(10);
+
+    // 허용: 0, 거절: 다음 토큰까지 남은 밀리초
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local ratePerMs = tonumber(ARGV[2]) " +
+            "local now = tonumber(ARGV[3]) " +
+            "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(state[1]) or capacity " +
+            "local ts = tonumber(state[2]) or now " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * ratePerMs) " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 else wait = math.ceil((1 - tokens) / ratePerMs) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / ratePerMs) + 1000) " +
+            "return wait",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean redisEnabled;
+
+    private final LocalTtlCache<String, TokenBucket> localBuckets = new LocalTtlCache<>(50_000);
+
+    public RateLimiterService(StringRedisTemplate stringRedisTemplate,
+                              @Value("${ratelimit.redis.enabled:false}") boolean redisEnabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisEnabled = redisEnabled;
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지의 초 (Retry-After)
+     */
+    public long tryAcquire(RateLimitPolicy policy, String key) {
+        String bucketKey = policy.getPrefix() + ":" + key;
+        if (redisEnabled) {
+            try {
+                Long waitMillis = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+                        Collections.singletonList(KEY_PREFIX + bucketKey),
+                        String.valueOf(policy.getCapacity()),
+                        String.valueOf(policy.getRefillPerSecond() / 1000),
+                        String.valueOf(System.currentTimeMillis()));
+                if (waitMillis != null) {
+                    return waitMillis == 0 ? 0 : Math.max(1, (waitMillis + 999) / 1000);
+                }
+            } catch (Exception e) {
+                log.warn("Redis 속도 제한 확인 실패, 로컬 버킷 사용 - key: {}, 오류: {}", bucketKey, e.getMessage());
+            }
+        }
+
+        TokenBucket bucket = localBuckets.get(bucketKey,
+                () -> new TokenBucket(policy.getCapacity(), policy.getRefillPerSecond()),
+                b -> LOCAL_IDLE_TTL);
+        localBuckets.put(bucketKey, bucket, LOCAL_IDLE_TTL);    // 사용할 때마다 만료 연장
+        return bucket.tryAcquire() ? 0 : bucket.secondsUntilNextToken();
+    }
+}
@@ -0,0 +1,78 @@
+package org.bobj.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 기반 요청 속도 제한기
+ * - 초당 refillPerSecond개씩 토큰이 채워지고, 최대 capacity개까지 쌓인다. (순간 버스트 허용)
+ * - tryAcquire: 토큰이 없으면 바로 false (요청 거절용)
+ * - acquire: 토큰이 생길 때까지 필요한 만큼만 대기 (외부 API 호출 간격 조절용)
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    // 시간 소스 지정 (테스트용)
+    TokenBucket(long capacity, double refillPerSecond, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("토큰 버킷 용량과 충전 속도는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    // 토큰 1개를 얻을 때까지 대기
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / refillPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 다음 토큰까지 남은 시간(초) - 응답 헤더(Retry-After) 등에 사용
+    public synchronized long secondsUntilNextToken() {
+        refill();
+        if (tokens >= 1) {
+            return 0;
+        }
+        // 올림 - 내림하면 Retry-After 시점에도 토큰이 아직 없을 수 있음
+        long waitNanos = (long) Math.ceil((1 - tokens) / refillPerNano);
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
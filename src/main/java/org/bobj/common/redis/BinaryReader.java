@@ -0,0 +1,105 @@
+package org.bobj.common.redis;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * BinaryWriter로 기록한 값을 같은 순서로 읽는다.
+ * 데이터가 중간에 끝나면 IllegalStateException
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        check(1);
+        return buffer[position++];
+    }
+
+    public long readVarLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalStateException("잘못된 가변 길이 정수");
+    }
+
+    public int readVarInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    public byte[] readBytes() {
+        int length = readVarInt();
+        check(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    public BigDecimal readDecimal() {
+        int flag = readByte();
+        if (flag == BinaryWriter.NULL) {
+            return null;
+        }
+        int scale = readVarInt();
+        if (flag == BinaryWriter.PRESENT) {
+            return BigDecimal.valueOf(readVarLong(), scale);
+        }
+        return new BigDecimal(new BigInteger(readBytes()), scale);
+    }
+
+    public String readString() {
+        if (readByte() == BinaryWriter.NULL) {
+            return null;
+        }
+        int length = readVarInt();
+        check(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public Integer readInteger() {
+        return readByte() == BinaryWriter.NULL ? null : readVarInt();
+    }
+
+    public Double readDouble() {
+        if (readByte() == BinaryWriter.NULL) {
+            return null;
+        }
+        check(8);
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | (buffer[position++] & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public LocalDateTime readDateTime() {
+        if (readByte() == BinaryWriter.NULL) {
+            return null;
+        }
+        long epochSecond = readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+    }
+
+    private void check(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalStateException("직렬화 데이터가 손상되었습니다.");
+        }
+    }
+}
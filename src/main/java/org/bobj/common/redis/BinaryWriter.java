@@ -0,0 +1,118 @@
+package org.bobj.common.redis;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Redis 바이너리 직렬화기용 버퍼 쓰기
+ * - 정수는 가변 길이(varint, 음수는 zigzag)로 기록해 작은 값(수량, scale, 개수)은 1바이트로 끝난다.
+ * - null 가능 필드는 앞에 1바이트 표시를 둔다.
+ * - BigDecimal은 (scale, unscaled long)으로, long 범위를 넘는 경우에만 바이트 배열로 기록한다.
+ * - LocalDateTime은 시간대 변환 없이 (epoch 초, 나노초)로 기록한다.
+ * 동기화 없는 단일 스레드용 버퍼 (직렬화 호출마다 새로 만든다)
+ */
+public final class BinaryWriter {
+
+    static final int NULL = 0;
+    static final int PRESENT = 1;
+    static final int BIG_DECIMAL_BYTES = 2;
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryWriter writeByte(int value) {
+        ensure(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        ensure(10);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[position++] = (byte) zigzag;
+        return this;
+    }
+
+    public BinaryWriter writeBytes(byte[] bytes) {
+        writeVarLong(bytes.length);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    public BinaryWriter writeDecimal(BigDecimal value) {
+        if (value == null) {
+            return writeByte(NULL);
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            writeByte(PRESENT);
+            writeVarLong(value.scale());
+            return writeVarLong(unscaled.longValue());
+        }
+        writeByte(BIG_DECIMAL_BYTES);
+        writeVarLong(value.scale());
+        return writeBytes(unscaled.toByteArray());
+    }
+
+    public BinaryWriter writeString(String value) {
+        if (value == null) {
+            return writeByte(NULL);
+        }
+        writeByte(PRESENT);
+        return writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public BinaryWriter writeInteger(Integer value) {
+        if (value == null) {
+            return writeByte(NULL);
+        }
+        writeByte(PRESENT);
+        return writeVarLong(value);
+    }
+
+    public BinaryWriter writeDouble(Double value) {
+        if (value == null) {
+            return writeByte(NULL);
+        }
+        writeByte(PRESENT);
+        long bits = Double.doubleToRawLongBits(value);
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (bits >>> shift);
+        }
+        return this;
+    }
+
+    public BinaryWriter writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            return writeByte(NULL);
+        }
+        writeByte(PRESENT);
+        writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+        return writeVarLong(value.getNano());
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensure(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
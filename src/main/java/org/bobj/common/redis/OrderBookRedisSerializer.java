@@ -0,0 +1,79 @@
+package org.bobj.common.redis;
+
+import org.bobj.orderbook.dto.OrderBookEntryDTO;
+import org.bobj.orderbook.dto.response.OrderBookResponseDTO;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 호가창 캐시(orderbook:*) 바이너리 직렬화
+ * - 형식(v1): 버전 | 현재가 | 상한가 | 하한가 | 매수 호가[개수, (가격, 수량)...] | 매도 호가[...] | 기준 시각
+ * - 필드명/클래스 정보를 싣지 않아 JSON보다 작고, 리플렉션 없이 읽고 쓴다.
+ * - 버전이 다른 값(이전 JSON 캐시 등)은 null로 읽어 캐시 미스로 처리한다.
+ */
+public class OrderBookRedisSerializer implements RedisSerializer<OrderBookResponseDTO> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public byte[] serialize(OrderBookResponseDTO orderBook) throws SerializationException {
+        if (orderBook == null) {
+            return new byte[0];
+        }
+        BinaryWriter writer = new BinaryWriter(256)
+                .writeByte(VERSION)
+                .writeDecimal(orderBook.getCurrentPrice())
+                .writeDecimal(orderBook.getUpperLimitPrice())
+                .writeDecimal(orderBook.getLowerLimitPrice());
+        writeEntries(writer, orderBook.getBuyOrders());
+        writeEntries(writer, orderBook.getSellOrders());
+        return writer.writeDateTime(orderBook.getTimestamp()).toByteArray();
+    }
+
+    @Override
+    public OrderBookResponseDTO deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] != VERSION) {
+            return null;
+        }
+        try {
+            BinaryReader reader = new BinaryReader(bytes, 1);
+            return OrderBookResponseDTO.builder()
+                    .currentPrice(reader.readDecimal())
+                    .upperLimitPrice(reader.readDecimal())
+                    .lowerLimitPrice(reader.readDecimal())
+                    .buyOrders(readEntries(reader))
+                    .sellOrders(readEntries(reader))
+                    .timestamp(reader.readDateTime())
+                    .build();
+        } catch (RuntimeException e) {
+            throw new SerializationException("호가창 역직렬화 실패", e);
+        }
+    }
+
+    // 개수 -1은 null 목록
+    private void writeEntries(BinaryWriter writer, List<OrderBookEntryDTO> entries) {
+        if (entries == null) {
+            writer.writeVarLong(-1);
+            return;
+        }
+        writer.writeVarLong(entries.size());
+        for (OrderBookEntryDTO entry : entries) {
+            writer.writeDecimal(entry.getPrice()).writeInteger(entry.getQuantity());
+        }
+    }
+
+    private List<OrderBookEntryDTO> readEntries(BinaryReader reader) {
+        int size = reader.readVarInt();
+        if (size < 0) {
+            return null;
+        }
+        List<OrderBookEntryDTO> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new OrderBookEntryDTO(reader.readDecimal(), reader.readInteger()));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,66 @@
+package org.bobj.common.redis;
+
+import org.bobj.property.dto.RealEstateTransactionDTO;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실거래가 목록 캐시(realestate:*) 바이너리 직렬화
+ * - 형식(v1): 버전 | 개수 | (아파트명, 거래금액, 지번, 읍면동, 행정구역, 위도, 경도, 거리)...
+ * - 항목마다 클래스/필드명을 반복하던 JSON 대비 크기가 줄고, 버전이 다른 값은 null(캐시 미스)로 읽는다.
+ */
+public class RealEstateTransactionsRedisSerializer implements RedisSerializer<List<RealEstateTransactionDTO>> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public byte[] serialize(List<RealEstateTransactionDTO> transactions) throws SerializationException {
+        if (transactions == null) {
+            return new byte[0];
+        }
+        BinaryWriter writer = new BinaryWriter(96 * transactions.size() + 8)
+                .writeByte(VERSION)
+                .writeVarLong(transactions.size());
+        for (RealEstateTransactionDTO t : transactions) {
+            writer.writeString(t.getAptNm())
+                    .writeString(t.getDealAmount())
+                    .writeString(t.getJibun())
+                    .writeString(t.getUmdNm())
+                    .writeString(t.getEstateAgentSggNm())
+                    .writeDouble(t.getLatitude())
+                    .writeDouble(t.getLongitude())
+                    .writeDouble(t.getDistanceFromProperty());
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public List<RealEstateTransactionDTO> deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] != VERSION) {
+            return null;
+        }
+        try {
+            BinaryReader reader = new BinaryReader(bytes, 1);
+            int size = reader.readVarInt();
+            List<RealEstateTransactionDTO> transactions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                transactions.add(RealEstateTransactionDTO.builder()
+                        .aptNm(reader.readString())
+                        .dealAmount(reader.readString())
+                        .jibun(reader.readString())
+                        .umdNm(reader.readString())
+                        .estateAgentSggNm(reader.readString())
+                        .latitude(reader.readDouble())
+                        .longitude(reader.readDouble())
+                        .distanceFromProperty(reader.readDouble())
+                        .build());
+            }
+            return transactions;
+        } catch (RuntimeException e) {
+            throw new SerializationException("실거래가 목록 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.bobj.common.redis;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Lua 스크립트 생성 도우미
+ * - 목록을 돌려주는 스크립트는 결과 타입을 List.class로만 지정할 수 있어, 원소 타입을 붙인 RedisScript로 감싼다.
+ * - StringRedisTemplate으로 실행하면 원소는 문자열로 역직렬화된다.
+ */
+public final class RedisScripts {
+
+    private RedisScripts() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static RedisScript<List<String>> stringList(String script) {
+        return (RedisScript<List<String>>) (RedisScript) new DefaultRedisScript<>(script, List.class);
+    }
+}
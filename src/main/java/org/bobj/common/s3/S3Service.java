@@ -3,15 +3,25 @@ package org.bobj.common.s3;
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bobj.common.cache.LocalTtlCache;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -19,36 +29,26 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3Service {
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    public String upload(MultipartFile file, boolean isPublicRead) {
-        final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다.");
-        }
+    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    private static final long PRESIGNED_URL_VALIDITY_MS = 1000 * 60 * 3; // 3분간 유효
+    private static final long PRESIGNED_URL_WINDOW_MS = 1000 * 60;       // 1분 단위로 같은 URL 재사용
+    private static final int UUID_LENGTH = 36;
 
-        String originalFilename = file.getOriginalFilename();
-        String ext = originalFilename != null && originalFilename.contains(".")
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : "";
+    private final LocalTtlCache<String, String> presignedUrlCache = new LocalTtlCache<>(10_000);
 
-        String sanitizedFileName = originalFilename != null
-                ? originalFilename.replaceAll("[^a-zA-Z0-9\\.\\-]", "_")
-                : "unknown";
+    public String upload(MultipartFile file, boolean isPublicRead) {
+        validateSize(file);
 
-        String folder = isPublicRead ? "uploads/photo/" : "uploads/document/";
-        String key = folder + UUID.randomUUID() + "_" + sanitizedFileName;
+        String originalFilename = file.getOriginalFilename();
+        String key = createKey(originalFilename, isPublicRead);
 
         try {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            metadata.setContentType(file.getContentType());
-
-            if (originalFilename != null) {
-                metadata.addUserMetadata("original-filename", originalFilename);
-            }
+            ObjectMetadata metadata = createMetadata(file);
 
             if (isPublicRead) {
                 amazonS3.putObject(
@@ -65,12 +65,153 @@ public class S3Service {
         }
     }
 
+    /**
+     * 여러 파일 동시 업로드 (TransferManager 풀에서 병렬 처리, 큰 파일은 멀티파트)
+     * - 모든 파일 크기를 먼저 검증한 뒤 업로드를 시작한다.
+     * - 하나라도 실패하면 진행 중인 업로드는 중단하고 이미 올라간 파일은 삭제한 뒤 예외를 던진다.
+     * @return 요청 순서와 같은 순서의 업로드 결과
+     */
+    public List<S3UploadResult> uploadAll(List<S3UploadRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        requests.forEach(request -> validateSize(request.getFile()));
+
+        List<Upload> uploads = new ArrayList<>();
+        List<S3UploadResult> results = new ArrayList<>();
+        try {
+            for (S3UploadRequest request : requests) {
+                MultipartFile file = request.getFile();
+                String originalFilename = file.getOriginalFilename();
+                String key = createKey(originalFilename, request.isPublicRead());
+
+                uploads.add(transferManager.upload(
+                        new PutObjectRequest(bucket, key, file.getInputStream(), createMetadata(file))));
+                results.add(new S3UploadResult(amazonS3.getUrl(bucket, key).toString(), key, originalFilename));
+            }
+
+            for (Upload upload : uploads) {
+                upload.waitForCompletion();
+            }
+            log.info("S3 일괄 업로드 완료 - {}개", results.size());
+            return results;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortAndDelete(uploads, results);
+            throw new RuntimeException("파일 업로드 실패");
+        } catch (Exception e) {
+            log.error("S3 일괄 업로드 실패", e);
+            abortAndDelete(uploads, results);
+            throw new RuntimeException("파일 업로드 실패");
+        }
+    }
+
+    // 저장된 객체를 바이트 배열로 읽음 (썸네일 등 파생 이미지 생성용)
+    public byte[] download(String key) {
+        try (S3Object object = amazonS3.getObject(bucket, key);
+             S3ObjectInputStream content = object.getObjectContent()) {
+            return content.readAllBytes();
+        } catch (IOException e) {
+            log.error("S3 다운로드 실패 - 키: {}", key, e);
+            throw new RuntimeException("파일 다운로드 실패");
+        }
+    }
+
+    // 서버에서 생성한 바이트 데이터를 지정한 키로 업로드 (파생 이미지는 모두 public-read 경로)
+    public String uploadBytes(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+
+        amazonS3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(bytes), metadata));
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    // 이 버킷의 객체 URL에서 키 추출 (다른 URL이면 null)
+    public String keyFromUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        String prefix = amazonS3.getUrl(bucket, "").toString();
+        if (!url.startsWith(prefix)) {
+            return null;
+        }
+        return URLDecoder.decode(url.substring(prefix.length()), StandardCharsets.UTF_8);
+    }
+
+    // 업로드한 파일 삭제 (DB 저장 실패 시 보상 처리용, 실패해도 예외를 던지지 않음)
+    public void deleteQuietly(List<S3UploadResult> uploaded) {
+        if (uploaded == null || uploaded.isEmpty()) {
+            return;
+        }
+        try {
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                    .withKeys(uploaded.stream().map(S3UploadResult::getKey).toArray(String[]::new))
+                    .withQuiet(true);
+            amazonS3.deleteObjects(request);
+            log.info("S3 업로드 파일 정리 - {}개", uploaded.size());
+        } catch (Exception e) {
+            log.error("S3 업로드 파일 정리 실패 - 키: {}",
+                    uploaded.stream().map(S3UploadResult::getKey).toList(), e);
+        }
+    }
+
+    private void abortAndDelete(List<Upload> uploads, List<S3UploadResult> results) {
+        uploads.forEach(upload -> {
+            if (!upload.isDone()) {
+                upload.abort();
+            }
+        });
+        deleteQuietly(results);
+    }
+
+    private void validateSize(MultipartFile file) {
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다.");
+        }
+    }
+
+    private String createKey(String originalFilename, boolean isPublicRead) {
+        String sanitizedFileName = originalFilename != null
+                ? originalFilename.replaceAll("[^a-zA-Z0-9\\.\\-]", "_")
+                : "unknown";
+
+        String folder = isPublicRead ? "uploads/photo/" : "uploads/document/";
+        return folder + UUID.randomUUID() + "_" + sanitizedFileName;
+    }
+
+    private ObjectMetadata createMetadata(MultipartFile file) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.getSize());
+        metadata.setContentType(file.getContentType());
+
+        if (file.getOriginalFilename() != null) {
+            metadata.addUserMetadata("original-filename", file.getOriginalFilename());
+        }
+        return metadata;
+    }
+
+    // 문서 다운로드용 presigned URL (같은 키는 시간 구간(window)마다 한 번만 서명)
+    public String getPresignedDownloadUrl(String key, String originalFilename) {
+        String filename = originalFilename != null && !originalFilename.isEmpty()
+                ? originalFilename
+                : filenameFromKey(key);
+        long window = System.currentTimeMillis() / PRESIGNED_URL_WINDOW_MS;
+
+        // 구간 끝 기준으로 만료를 잡아 캐시된 URL도 최소 3분은 유효하도록 함
+        Date expiration = new Date((window + 1) * PRESIGNED_URL_WINDOW_MS + PRESIGNED_URL_VALIDITY_MS);
+        return presignedUrlCache.get(key + "|" + window,
+                () -> generatePresignedUrl(key, filename, expiration),
+                url -> Duration.ofMillis(PRESIGNED_URL_WINDOW_MS));
+    }
+
     public String generatePresignedUrl(String key, String originalFilename) {
-        Date expiration = new Date();
-        long expTimeMillis = expiration.getTime();
-        expTimeMillis += 1000 * 60 * 3; // 3분간 유효
-        expiration.setTime(expTimeMillis);
+        return generatePresignedUrl(key, originalFilename, new Date(System.currentTimeMillis() + PRESIGNED_URL_VALIDITY_MS));
+    }
 
+    private String generatePresignedUrl(String key, String originalFilename, Date expiration) {
         ResponseHeaderOverrides responseHeaders = new ResponseHeaderOverrides();
         if (originalFilename != null && !originalFilename.isEmpty()) {
             responseHeaders.setContentDisposition("attachment; filename=\"" + originalFilename + "\"");
@@ -86,9 +227,24 @@ public class S3Service {
         return url.toString();
     }
 
+    // 업로드 시 저장한 원본 파일명 메타데이터 조회 (DB에 파일명이 없는 기존 문서 보충용)
+    // 메타데이터가 없거나 객체가 없으면 키에서 추출한 파일명 사용, 그 밖의 S3 오류는 그대로 던짐
     public String getOriginalFilenameFromS3(String key) {
-        ObjectMetadata metadata = amazonS3.getObjectMetadata(bucket, key);
-        String originalFilename = metadata.getUserMetaDataOf("original-filename");
-        return originalFilename != null ? originalFilename : key.substring(key.lastIndexOf('/') + 1);
+        try {
+            String originalFilename = amazonS3.getObjectMetadata(bucket, key).getUserMetaDataOf("original-filename");
+            return originalFilename != null ? originalFilename : filenameFromKey(key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return filenameFromKey(key);
+            }
+            throw e;
+        }
+    }
+
+    // 원본 파일명이 저장되지 않은 기존 문서용 - 키에서 "UUID_" 접두어를 뗀 파일명 사용 (S3 조회 없음)
+    static String filenameFromKey(String key) {
+        String name = key.substring(key.lastIndexOf('/') + 1);
+        int separator = name.indexOf('_');
+        return separator == UUID_LENGTH ? name.substring(separator + 1) : name;
     }
 }
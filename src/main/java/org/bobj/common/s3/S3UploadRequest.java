@@ -0,0 +1,12 @@
+package org.bobj.common.s3;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.multipart.MultipartFile;
+
+@Getter
+@AllArgsConstructor
+public class S3UploadRequest {
+    private final MultipartFile file;
+    private final boolean publicRead;
+}
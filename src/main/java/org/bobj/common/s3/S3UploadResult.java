@@ -0,0 +1,12 @@
+package org.bobj.common.s3;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class S3UploadResult {
+    private final String url;
+    private final String key;
+    private final String originalFilename;
+}
@@ -2,10 +2,16 @@ package org.bobj.config;
 
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.bobj.common.ratelimit.TokenBucket;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.OkHttp3ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * 프로젝트 전반에서 사용될 공용 Bean들을 등록하는 설정 클래스
  */
@@ -18,6 +24,25 @@ public class AppConfig {
         return new RestTemplate();
     }
 
+    //공공데이터포털/브이월드 등 공공 API 호출용 RestTemplate (커넥션 풀 + 타임아웃 공유)
+    @Bean
+    public RestTemplate publicApiRestTemplate() {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(20, 5, TimeUnit.MINUTES))
+                .connectTimeout(3, TimeUnit.SECONDS)
+                .readTimeout(10, TimeUnit.SECONDS)
+                .callTimeout(15, TimeUnit.SECONDS)
+                .retryOnConnectionFailure(true)
+                .build();
+        return new RestTemplate(new OkHttp3ClientHttpRequestFactory(client));
+    }
+
+    //공공데이터포털 API 호출 속도 제한 (초당 10건, 순간 5건까지 허용)
+    @Bean
+    public TokenBucket publicDataApiRateLimiter() {
+        return new TokenBucket(5, 10);
+    }
+
     //JSON 데이터, Java 객체 사이 변환 ObjectMapper를 Bean 등록.
     //LocalDateTime 등의 Java 8 날짜/시간 타입을 처리 JavaTimeModule
     @Bean
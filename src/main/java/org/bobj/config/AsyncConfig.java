@@ -1,8 +1,10 @@
 package org.bobj.config;
 
+import org.bobj.common.executor.ExecutorRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -24,4 +26,25 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // 지분 분배 청크용 - 청크 완료를 기다리는 분배 작업(shareDistributionExecutor)과 스레드를 나눠 서로를 기다리며 멈추지 않게 한다.
+    @Bean(name = "shareDistributionChunkExecutor")
+    public TaskExecutor shareDistributionChunkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("share-chunk-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.initialize();
+        return executor;
+    }
+
+    // 환불 등 DB 배치 작업용 - ExecutorRegistry의 DB 배치 풀을 공유해 전체 배치 병렬도를 DB 커넥션 수 이내로 유지한다.
+    @Bean(name = "batchJobExecutor")
+    public TaskExecutor batchJobExecutor(ExecutorRegistry executorRegistry) {
+        return new TaskExecutorAdapter(executorRegistry.get(ExecutorRegistry.DB_BATCH));
+    }
 }
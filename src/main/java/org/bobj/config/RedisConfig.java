@@ -3,8 +3,11 @@ package org.bobj.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.bobj.common.redis.OrderBookRedisSerializer;
+import org.bobj.common.redis.RealEstateTransactionsRedisSerializer;
 import org.bobj.order.consumer.OrderQueueConsumer;
 import org.bobj.orderbook.dto.response.OrderBookResponseDTO;
+import org.bobj.property.dto.RealEstateTransactionDTO;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,9 +22,10 @@ import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 @Configuration
 @PropertySource(
     value = {
@@ -83,20 +87,26 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisTemplate<String, OrderBookResponseDTO> orderBookRedisTemplate(RedisConnectionFactory connectionFactory,
-                                                                              ObjectMapper objectMapper) {
+    public RedisTemplate<String, OrderBookResponseDTO> orderBookRedisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, OrderBookResponseDTO> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
         // Key serializer
         template.setKeySerializer(new StringRedisSerializer());
 
-        // Value serializer에 objectMapper 적용
-        Jackson2JsonRedisSerializer<OrderBookResponseDTO> serializer =
-                new Jackson2JsonRedisSerializer<>(OrderBookResponseDTO.class);
-        serializer.setObjectMapper(objectMapper);  // <-- JavaTimeModule 적용된 ObjectMapper
+        // 호가창은 가장 자주 읽고 쓰는 캐시이므로 필드명/타입 정보 없는 바이너리 형식으로 저장
+        template.setValueSerializer(new OrderBookRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
 
-        template.setValueSerializer(serializer);
+    // 실거래가 목록 캐시 (realestate:*) - 바이너리 형식
+    @Bean
+    public RedisTemplate<String, List<RealEstateTransactionDTO>> realEstateRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, List<RealEstateTransactionDTO>> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new RealEstateTransactionsRedisSerializer());
         template.afterPropertiesSet();
         return template;
     }
@@ -6,10 +6,15 @@ import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class S3Config {
 
@@ -22,6 +27,10 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    private static final int UPLOAD_THREADS = 8;                             // 동시 업로드 수
+    private static final long MULTIPART_THRESHOLD_BYTES = 8L * 1024 * 1024;  // 8MB 이상은 멀티파트
+    private static final long MULTIPART_PART_SIZE_BYTES = 5L * 1024 * 1024;
+
     @Bean
     public AmazonS3 amazonS3() {
         if (accessKey != null && !accessKey.isEmpty() &&
@@ -40,4 +49,20 @@ public class S3Config {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    // 파일 업로드용 TransferManager - 동시 업로드 수를 고정 크기 풀로 제한하고, 큰 파일은 멀티파트로 업로드
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(MULTIPART_THRESHOLD_BYTES)
+                .withMinimumUploadPartSize(MULTIPART_PART_SIZE_BYTES)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(UPLOAD_THREADS, runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+    }
+}
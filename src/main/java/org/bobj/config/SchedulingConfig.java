@@ -0,0 +1,35 @@
+package org.bobj.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업용 스케줄러 스레드 풀
+ * - 기본 스케줄러는 스레드가 하나뿐이라, 오전 9시 배당 지급처럼 오래 걸리는 작업이 돌면
+ *   1초 단위 단일가 매매, 200ms 단위 청약 반영 등 짧은 주기 작업이 모두 멈춘다.
+ * - 동시에 돌 수 있는 긴 작업(자정 매각/펀딩 마감, 배당 지급, 캔들 보정)보다 넉넉하게 잡아 짧은 주기 작업이 항상 스레드를 얻도록 한다.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private static final int POOL_SIZE = 6;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(POOL_SIZE);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler());
+    }
+}
@@ -1,5 +1,8 @@
 package org.bobj.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bobj.common.ratelimit.RateLimitFilter;
+import org.bobj.common.ratelimit.RateLimiterService;
 import org.bobj.user.service.CustomOAuth2UserService;
 import org.bobj.user.security.JwtAuthenticationFilter;
 import org.bobj.user.security.JwtTokenProvider;
@@ -36,9 +39,19 @@ public class SecurityConfig {
     @Autowired
     private CookieUtil cookieUtil;
 
+    @Autowired
+    private RateLimiterService rateLimiterService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Value("${custom.oauth2.redirect-uri}")
     private String frontendRedirectUri;
 
+    // X-Forwarded-For를 믿을 프록시/로드밸런서 IP (쉼표 구분)
+    @Value("${ratelimit.trusted-proxies:}")
+    private String trustedProxies;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -65,6 +78,9 @@ public class SecurityConfig {
         // JWT 필터는 유지 (토큰이 있으면 인증 처리, 없어도 통과)
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
 
+        // 거래 API 속도 제한 (인증 정보로 사용자를 구분하므로 JWT 필터 뒤)
+        http.addFilterAfter(rateLimitFilter(), JwtAuthenticationFilter.class);
+
         return http.build();
     }
 
@@ -130,6 +146,11 @@ public class SecurityConfig {
         return new JwtAuthenticationFilter(jwtTokenProvider, userService, cookieUtil);
     }
 
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimiterService, objectMapper, trustedProxies);
+    }
+
     @Bean
     public OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler() {
         // Spring Non-Boot 환경에서 값 직접 주입
@@ -173,6 +194,7 @@ public class SecurityConfig {
         configuration.addAllowedHeader("Origin");           // 요청 출처 도메인
         configuration.addAllowedHeader("Access-Control-Request-Method");  // Preflight 메서드
         configuration.addAllowedHeader("Access-Control-Request-Headers"); // Preflight 헤더
+        configuration.addAllowedHeader("Idempotency-Key");  // 주문 재시도 중복 방지 키
 
         // 쿠키/인증 정보 허용 설정
         configuration.setAllowCredentials(true);    // HttpOnly 쿠키, Authorization 헤더 포함 요청 허용
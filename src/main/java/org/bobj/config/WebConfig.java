@@ -17,6 +17,7 @@ public class WebConfig extends AbstractAnnotationConfigDispatcherServletInitiali
         return new Class[]{
                 RootConfig.class,
                 AsyncConfig.class,
+                SchedulingConfig.class,
                 RedisConfig.class,
                 FirebaseConfig.class};
     }
@@ -2,6 +2,7 @@ package org.bobj.config;
 
 
 import lombok.RequiredArgsConstructor;
+import org.bobj.common.ratelimit.RateLimitChannelInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -14,6 +15,8 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final RateLimitChannelInterceptor rateLimitChannelInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/topic"); //메세지 수신 /topic/토픽번호
@@ -30,4 +33,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS(); //ws://가 아닌 http:// 엔드포인트를 사용할 수 있도록 해줌
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(rateLimitChannelInterceptor); // /app/order-book/{fundingId} 요청 속도 제한
+    }
+
 }
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.bobj.common.dto.CustomSlice;
 import org.bobj.common.exception.ErrorResponse;
+import org.bobj.common.idempotency.IdempotencyService;
 import org.bobj.common.response.ApiCommonResponse;
 import org.bobj.funding.dto.FundingOrderLimitDTO;
 import org.bobj.funding.dto.FundingOrderUserResponseDTO;
@@ -24,12 +25,14 @@ import java.math.BigDecimal;
 @Api(tags="펀딩 주문 API")
 public class FundingOrderController {
     private final FundingOrderService fundingOrderService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @ApiOperation(value = "펀딩 주문 생성", notes = "펀딩 ID, 회원 ID, 구매 주식 수 정보를 통해 펀딩 주문을 생성합니다.")
     @ApiImplicitParams({
             @ApiImplicitParam(name = "fundingId", value = "펀딩 ID", required = true, dataType = "long", paramType = "query"),
-            @ApiImplicitParam(name = "shareCount", value = "구매 주식 수", required = true, dataType = "int", paramType = "query")
+            @ApiImplicitParam(name = "shareCount", value = "구매 주식 수", required = true, dataType = "int", paramType = "query"),
+            @ApiImplicitParam(name = IdempotencyService.HEADER, value = "멱등 키 (재시도 시 같은 값을 보내면 다시 주문하지 않음)", required = false, dataType = "string", paramType = "header")
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "펀딩 주문 생성 성공"),
@@ -38,10 +41,15 @@ public class FundingOrderController {
     })
     public ResponseEntity<ApiCommonResponse<Void>> createFundingOrder(
             @ApiIgnore @AuthenticationPrincipal UserPrincipal principal,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestParam Long fundingId,
             @RequestParam int shareCount) {
         Long userId = principal.getUserId();
-        fundingOrderService.createFundingOrder(userId, fundingId, shareCount);
+        idempotencyService.execute("funding-order", userId, idempotencyKey, fundingId + ":" + shareCount,
+                Void.class, () -> {
+                    fundingOrderService.createFundingOrder(userId, fundingId, shareCount);
+                    return null;
+                });
         return ResponseEntity.ok(ApiCommonResponse.createSuccess(null));
     }
 
@@ -0,0 +1,25 @@
+package org.bobj.funding.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FundingRefundCheckpointVO {
+    private Long fundingId;
+    private String status;              // RUNNING, DONE
+    private Integer totalUsers;
+    private BigDecimal totalAmount;
+    private Integer completedChunks;
+    private Integer refundedUsers;
+    private BigDecimal refundedAmount;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
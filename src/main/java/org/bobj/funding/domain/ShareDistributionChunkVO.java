@@ -0,0 +1,25 @@
+package org.bobj.funding.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 지분 분배 청크 - 사용자 ID 구간 단위
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShareDistributionChunkVO {
+    private Long fundingId;
+    private Integer chunkIndex;
+    private Long fromUserId;
+    private Long toUserId;
+    private String status;          // PENDING, DONE, FAILED
+    private Integer insertedCount;
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime updatedAt;
+}
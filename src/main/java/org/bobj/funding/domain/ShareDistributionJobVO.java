@@ -0,0 +1,21 @@
+package org.bobj.funding.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShareDistributionJobVO {
+    private Long fundingId;
+    private String status;          // RUNNING, DONE, FAILED
+    private Integer totalUsers;
+    private Integer totalChunks;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
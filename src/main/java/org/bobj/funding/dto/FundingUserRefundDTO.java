@@ -0,0 +1,18 @@
+package org.bobj.funding.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// 펀딩 실패 시 사용자별 환불 합계
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FundingUserRefundDTO {
+    private Long userId;
+    private BigDecimal refundAmount;
+}
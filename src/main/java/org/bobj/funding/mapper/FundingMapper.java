@@ -45,6 +45,12 @@ public interface FundingMapper {
     //  목표 금액 도달 시 상태 ENDED + 마감 날짜 현재로 바꾸는 처리
     void markAsEnded(@Param("fundingId") Long fundingId);
 
+    // 모집 중인 펀딩 ID 조회
+    List<Long> findOpenFundingIds();
+
+    // 펀딩 모집 금액 갱신
+    void updateCurrentAmount(@Param("fundingId") Long fundingId, @Param("currentAmount") BigDecimal currentAmount);
+
     // 펀딩 모집 금액 증가
     void increaseCurrentAmount(@Param("fundingId") Long fundingId, @Param("orderPrice") BigDecimal orderPrice);
 
@@ -57,6 +63,9 @@ public interface FundingMapper {
     // 펀딩 실패인 펀딩 ID 조회
     List<Long> findFailedFundingIds();
 
+    // 환불이 끝나지 않은 실패 펀딩 ID 조회 (중단된 환불 작업 재개용)
+    List<Long> findFailedFundingIdsWithPendingRefund();
+
     // 펀딩 stauts FAILD로 변경
     void updateFundingStatusToFailed(@Param("fundingIds") List<Long> fundingIds);
 
@@ -5,6 +5,8 @@ import org.apache.ibatis.annotations.Param;
 import org.bobj.funding.domain.FundingOrderVO;
 import org.bobj.funding.dto.FundingOrderLimitDTO;
 import org.bobj.funding.dto.FundingOrderUserResponseDTO;
+import org.bobj.funding.dto.FundingUserRefundDTO;
+import org.bobj.share.domain.ShareVO;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -31,6 +33,9 @@ public interface FundingOrderMapper {
             @Param("userId") Long userId,
             @Param("fundingId") Long fundingId);
 
+    // 펀딩의 유효 청약(PENDING/SUCCESS) 주 수 합계
+    long sumActiveShareCountByFundingId(@Param("fundingId") Long fundingId);
+
     // 펀딩 ID에 해당하는 모든 주문 상태 변경
     void markOrdersAsSuccessByFundingId(@Param("fundingId") Long fundingId);
 
@@ -46,5 +51,24 @@ public interface FundingOrderMapper {
 
     FundingOrderVO findById(@Param("orderId") Long orderId);
 
+    // 지분 분배 대상 사용자 ID (정렬)
+    List<Long> findSuccessOrderUserIdsByFundingId(@Param("fundingId") Long fundingId);
+
+    // 사용자 ID 구간의 (사용자, 펀딩)별 지분 합계
+    List<ShareVO> sumSuccessSharesByUserRange(@Param("fundingId") Long fundingId,
+                                              @Param("fromUserId") Long fromUserId,
+                                              @Param("toUserId") Long toUserId);
+
+    // 펀딩 실패 환불 대상 - 사용자별 PENDING 주문 금액 합계
+    List<FundingUserRefundDTO> sumPendingOrderPriceGroupByUser(@Param("fundingId") Long fundingId);
+
+    // 청크 대상 사용자의 PENDING 주문 금액 합계 (락)
+    List<FundingUserRefundDTO> sumPendingOrderPriceByUserIdsForUpdate(@Param("fundingId") Long fundingId,
+                                                                      @Param("userIds") List<Long> userIds);
+
+    // 청크 대상 사용자의 PENDING 주문 REFUNDED 처리
+    int updatePendingOrdersToRefundedByUserIds(@Param("fundingId") Long fundingId,
+                                               @Param("userIds") List<Long> userIds);
+
 
 }
@@ -0,0 +1,24 @@
+package org.bobj.funding.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.bobj.funding.domain.FundingRefundCheckpointVO;
+
+import java.math.BigDecimal;
+
+@Mapper
+public interface FundingRefundCheckpointMapper {
+    // 환불 작업 시작 (재시작 시 남은 대상 기준으로 갱신)
+    void upsertRunning(@Param("fundingId") Long fundingId,
+                       @Param("totalUsers") int totalUsers,
+                       @Param("totalAmount") BigDecimal totalAmount);
+
+    // 청크 완료 기록 - 청크 트랜잭션 안에서 호출
+    void recordChunk(@Param("fundingId") Long fundingId,
+                     @Param("refundedUsers") int refundedUsers,
+                     @Param("refundedAmount") BigDecimal refundedAmount);
+
+    void markDone(@Param("fundingId") Long fundingId);
+
+    FundingRefundCheckpointVO findByFundingId(@Param("fundingId") Long fundingId);
+}
@@ -0,0 +1,41 @@
+package org.bobj.funding.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.bobj.funding.domain.ShareDistributionChunkVO;
+import org.bobj.funding.domain.ShareDistributionJobVO;
+
+import java.util.List;
+
+@Mapper
+public interface ShareDistributionJobMapper {
+    // 작업 생성 - 이미 있으면 0 반환
+    int insertJobIfAbsent(@Param("fundingId") Long fundingId,
+                          @Param("totalUsers") int totalUsers,
+                          @Param("totalChunks") int totalChunks);
+
+    ShareDistributionJobVO findJob(@Param("fundingId") Long fundingId);
+
+    void updateJobStatus(@Param("fundingId") Long fundingId, @Param("status") String status);
+
+    // 진행 중인 작업의 갱신 시각만 현재로 (heartbeat)
+    void touchJob(@Param("fundingId") Long fundingId);
+
+    // 일정 시간 이상 갱신이 없는 미완료 작업의 펀딩 ID (재개 대상)
+    List<Long> findStaleIncompleteFundingIds(@Param("staleMinutes") int staleMinutes);
+
+    void insertChunks(@Param("chunks") List<ShareDistributionChunkVO> chunks);
+
+    List<ShareDistributionChunkVO> findIncompleteChunks(@Param("fundingId") Long fundingId);
+
+    ShareDistributionChunkVO findChunkForUpdate(@Param("fundingId") Long fundingId,
+                                                @Param("chunkIndex") int chunkIndex);
+
+    void markChunkDone(@Param("fundingId") Long fundingId,
+                       @Param("chunkIndex") int chunkIndex,
+                       @Param("insertedCount") int insertedCount);
+
+    void recordChunkFailure(@Param("fundingId") Long fundingId,
+                            @Param("chunkIndex") int chunkIndex,
+                            @Param("lastError") String lastError);
+}
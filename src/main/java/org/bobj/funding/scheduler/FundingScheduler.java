@@ -3,6 +3,7 @@ package org.bobj.funding.scheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.bobj.funding.service.FundingService;
+import org.bobj.funding.service.ShareDistributionService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,9 +12,18 @@ import org.springframework.stereotype.Component;
 @Log4j2
 public class FundingScheduler {
     private final FundingService fundingService;
+    private final ShareDistributionService shareDistributionService;
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정 실행
     public void runFundingFailJob(){
         fundingService.expireFunding();
     }
+
+    @Scheduled(fixedDelay = 600000) // 10분마다 중단/실패한 지분 분배 재개
+    public void resumeShareDistribution(){
+        for (Long fundingId : shareDistributionService.findResumableFundingIds()) {
+            log.info("지분 분배 재개 - fundingId: {}", fundingId);
+            shareDistributionService.distributeSharersAsync(fundingId);
+        }
+    }
 }
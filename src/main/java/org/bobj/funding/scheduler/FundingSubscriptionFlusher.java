@@ -0,0 +1,49 @@
+package org.bobj.funding.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.funding.service.FundingOrderService;
+import org.bobj.funding.service.FundingReservationService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 커밋된 펀딩 청약을 마이크로 배치로 fundings.current_amount에 반영한다.
+ * 펀딩 행 락은 청약 1건이 아니라 배치 1번마다 한 번만 잡힌다.
+ * 반영은 funding_order 합계로 다시 계산하는 방식이라 같은 펀딩을 여러 번 처리해도 안전하다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class FundingSubscriptionFlusher {
+    private final FundingReservationService reservationService;
+    private final FundingOrderService fundingOrderService;
+
+    @Scheduled(fixedDelay = 200)
+    public void flushSubscriptions() {
+        List<Long> fundingIds = reservationService.drainDirty();
+
+        for (Long fundingId : fundingIds) {
+            try {
+                fundingOrderService.syncCurrentAmount(fundingId);
+                log.debug("펀딩 청약 배치 반영 - 펀딩 ID: {}", fundingId);
+            } catch (Exception e) {
+                // 반영 실패 시 다음 주기에 다시 시도
+                log.error("펀딩 청약 배치 반영 실패 - 펀딩 ID: {}", fundingId, e);
+                reservationService.markDirty(fundingId);
+            }
+        }
+    }
+
+    // 청약 커밋 직후 재계산 표시 전에 서버가 중단된 경우를 위해 모집 중인 펀딩을 주기적으로 다시 맞춘다.
+    @Scheduled(fixedDelay = 60_000)
+    public void reconcileOpenFundings() {
+        try {
+            reservationService.markOpenFundingsDirty();
+        } catch (Exception e) {
+            log.error("모집 중 펀딩 재계산 표시 실패", e);
+        }
+    }
+}
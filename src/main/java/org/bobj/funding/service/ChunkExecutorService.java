@@ -3,11 +3,11 @@ package org.bobj.funding.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.bobj.share.domain.ShareVO;
+import org.bobj.funding.domain.ShareDistributionChunkVO;
+import org.bobj.funding.mapper.ShareDistributionJobMapper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Log4j2
@@ -15,25 +15,62 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class ChunkExecutorService {
     private final ChunkInsertService chunkInsertService;
+    private final ShareDistributionJobMapper jobMapper;
 
-//    private final ShareFailureRepository shareFailureRepository;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 500;
 
+    // 청크 분배 - 실패 시 백오프 후 재시도, 최종 실패는 청크 테이블에 기록되어 다음 재개 때 다시 처리된다.
+    @Async("shareDistributionChunkExecutor")
+    public CompletableFuture<Boolean> distributeChunkAsync(ShareDistributionChunkVO chunk){
+        Long fundingId = chunk.getFundingId();
+        int chunkIndex = chunk.getChunkIndex();
 
-    @Async("shareDistributionExecutor")
-    public CompletableFuture<Void> distributeChunkAsync(List<ShareVO> chunk, int chunkIndex){
-       try{
-           chunkInsertService.insertChunkTransactional(chunk);
-           log.info("청크 {} 주식 배분 완료(size:{})", chunkIndex, chunk.size());
-       }catch (Exception e) {
-           log.error("청크 {} 주식 배분 실패 - error: {}", chunkIndex, e.getMessage(), e);
-//           saveFailures(chunk, e.getMessage());
-       }
-        return CompletableFuture.completedFuture(null);
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try{
+                int inserted = chunkInsertService.insertChunkTransactional(fundingId, chunkIndex);
+                log.info("청크 {} 주식 배분 완료(inserted:{})", chunkIndex, inserted);
+                touchJob(fundingId);
+                return CompletableFuture.completedFuture(true);
+            }catch (Exception e) {
+                log.error("청크 {} 주식 배분 실패 ({}/{}) - error: {}", chunkIndex, attempt, MAX_ATTEMPTS, e.getMessage(), e);
+                saveFailure(fundingId, chunkIndex, e);
+
+                if (attempt < MAX_ATTEMPTS && !sleepBeforeRetry(attempt)) {
+                    break;
+                }
+            }
+        }
+        touchJob(fundingId);
+        return CompletableFuture.completedFuture(false);
     }
 
-    //실패한 청크 처리 - DB에 저장할 것인지 추후 고민
-//    private void saveFailures(List<ShareVO> chunk, String reason){
-//        List<ShareFa>
-//    }
+    // 작업 진행 표시 - 실행 중인 작업이 오래된 작업으로 보여 다시 시작되지 않도록 청크마다 갱신
+    private void touchJob(Long fundingId) {
+        try {
+            jobMapper.touchJob(fundingId);
+        } catch (Exception e) {
+            log.warn("지분 분배 작업 갱신 실패 - fundingId: {}, error: {}", fundingId, e.getMessage());
+        }
+    }
 
+    //실패한 청크 기록
+    private void saveFailure(Long fundingId, int chunkIndex, Exception e){
+        try {
+            String reason = String.valueOf(e.getMessage());
+            jobMapper.recordChunkFailure(fundingId, chunkIndex, reason.length() > 500 ? reason.substring(0, 500) : reason);
+        } catch (Exception recordError) {
+            log.error("청크 {} 실패 기록 중 오류 - error: {}", chunkIndex, recordError.getMessage());
+        }
+    }
+
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS * attempt);
+            return true;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
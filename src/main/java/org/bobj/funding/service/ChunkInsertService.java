@@ -3,6 +3,9 @@ package org.bobj.funding.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.bobj.funding.domain.ShareDistributionChunkVO;
+import org.bobj.funding.mapper.FundingOrderMapper;
+import org.bobj.funding.mapper.ShareDistributionJobMapper;
 import org.bobj.share.domain.ShareVO;
 import org.bobj.share.mapper.ShareMapper;
 import org.springframework.stereotype.Service;
@@ -13,17 +16,34 @@ import java.util.List;
 @Log4j2
 @Service
 @RequiredArgsConstructor
-public class ChunkInsertService { // 청크 크기로 나누어진 ShareVO 리스트 DB에 삽입 - 트랜잭션
+public class ChunkInsertService { // 청크 구간의 지분을 DB에 삽입 - 트랜잭션
 
     private final ShareMapper shareMapper;
+    private final FundingOrderMapper fundingOrderMapper;
+    private final ShareDistributionJobMapper jobMapper;
 
+    /**
+     * 청크 행에 락을 잡고, 아직 완료되지 않았을 때만 지분을 삽입하고 완료로 표시한다.
+     * 삽입과 완료 표시가 한 트랜잭션이므로 재시도/재개 시에도 지분이 중복 삽입되지 않는다.
+     * @return 삽입된 지분 행 수 (이미 완료된 청크면 0)
+     */
     @Transactional
-    public void insertChunkTransactional(List<ShareVO> chunk){
+    public int insertChunkTransactional(Long fundingId, int chunkIndex){
+        ShareDistributionChunkVO chunk = jobMapper.findChunkForUpdate(fundingId, chunkIndex);
+        if (chunk == null || "DONE".equals(chunk.getStatus())) {
+            return 0;
+        }
+
         try{
-            int inserted = shareMapper.insertSharesBatch(chunk);
+            List<ShareVO> shares = fundingOrderMapper.sumSuccessSharesByUserRange(
+                    fundingId, chunk.getFromUserId(), chunk.getToUserId());
+
+            int inserted = shares.isEmpty() ? 0 : shareMapper.insertSharesBatch(shares);
+            jobMapper.markChunkDone(fundingId, chunkIndex, inserted);
             log.debug("DB에 {}건 insert 성공", inserted);
+            return inserted;
         }catch(Exception e){
-            log.error("DB insert 중 예외 발생 - 청크 크기 : {}, 에러 {}", chunk.size(), e.getMessage(), e);
+            log.error("DB insert 중 예외 발생 - 청크 : {}, 에러 {}", chunkIndex, e.getMessage(), e);
             throw e;
         }
     }
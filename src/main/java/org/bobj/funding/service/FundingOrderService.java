@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.bobj.allocation.service.AllocationService;
 import org.bobj.common.dto.CustomSlice;
 import org.bobj.funding.domain.FundingOrderVO;
+import org.bobj.funding.domain.FundingStatus;
 import org.bobj.funding.domain.FundingVO;
 import org.bobj.funding.dto.FundingOrderLimitDTO;
 import org.bobj.funding.dto.FundingOrderUserResponseDTO;
@@ -16,6 +17,8 @@ import org.bobj.point.service.PointService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -32,19 +35,16 @@ public class FundingOrderService {
     private final ApplicationEventPublisher eventPublisher;
     private final AllocationService allocationService;
     private final PointService pointService;
+    private final FundingReservationService reservationService;
+    private final ShareDistributionJobService shareDistributionJobService;
 
 
     // 주문 추가
+    // 펀딩 행 락 없이 Redis 카운터로 수량을 예약하고, 모집 금액은 FundingSubscriptionFlusher가 묶어서 다시 계산한다.
     @Transactional
     public void createFundingOrder(Long userId, Long fundingId, int shareCount) {
-        FundingVO funding = fundingMapper.findByIdWithLock(fundingId);
-        if (funding == null) {
-            throw new IllegalArgumentException("존재하지 않는 펀딩입니다.");
-        }
-
-        int remainingShares = funding.getRemainingShares();
-        if (shareCount > remainingShares) {
-            throw new IllegalArgumentException("남은 주 수를 초과했습니다.");
+        if (shareCount <= 0) {
+            throw new IllegalArgumentException("구매 주 수는 1 이상이어야 합니다.");
         }
 
         BigDecimal sharePrice = BigDecimal.valueOf(5000);
@@ -56,37 +56,74 @@ public class FundingOrderService {
             throw new IllegalArgumentException("포인트가 부족합니다.");
         }
 
+        // 남은 주 수 예약 (초과 시 예외)
+        reservationService.reserve(fundingId, shareCount);
+
+        // 커밋되면 모집 금액 재계산 대상으로 표시, 롤백되면 예약 수량 복구
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    reservationService.markDirty(fundingId);
+                } else {
+                    reservationService.release(fundingId, shareCount);
+                }
+            }
+        });
+
         // 주문 생성
         fundingOrderMapper.insertFundingOrder(userId, fundingId, shareCount, orderPrice);
 
         // 포인트 차감 과정
         pointService.investPoint(userId, orderPrice);
+    }
 
-        // 펀딩 현재 모인 금액 증가
-        fundingMapper.increaseCurrentAmount(fundingId, orderPrice);
+    // 펀딩 모집 금액을 커밋된 청약 합계로 다시 계산 (여러 번 실행돼도 결과가 같음)
+    @Transactional
+    public void syncCurrentAmount(Long fundingId) {
+        FundingVO funding = fundingMapper.findByIdWithLock(fundingId);
+        if (funding == null) {
+            log.warn("청약 반영 대상 펀딩 없음 - 펀딩 ID: {}", fundingId);
+            return;
+        }
+        if (funding.getStatus() != FundingStatus.FUNDING) {
+            return;
+        }
+
+        long shares = fundingOrderMapper.sumActiveShareCountByFundingId(fundingId);
+        BigDecimal currentAmount = BigDecimal.valueOf(5000).multiply(BigDecimal.valueOf(shares));
+        if (funding.getCurrentAmount() == null || currentAmount.compareTo(funding.getCurrentAmount()) != 0) {
+            fundingMapper.updateCurrentAmount(fundingId, currentAmount);
+        }
 
         // 펀딩 완료 상태 체크
-        BigDecimal updatedAmount = funding.getCurrentAmount().add(orderPrice);
-        if (updatedAmount.compareTo(funding.getTargetAmount()) >= 0) {
-            log.info(" 펀딩 목표 달성! 펀딩 완료 처리 시작 - 펀딩 ID: {}", fundingId);
-
-            // 1. 펀딩을 완료 상태로 변경
-            fundingMapper.markAsEnded(fundingId);
-
-            // 2. 모든 주문을 성공 상태로 변경
-            fundingOrderMapper.markOrdersAsSuccessByFundingId(fundingId);
-
-             // 3. 펀딩 성공 이벤트(지분 분배, 알림)
-            eventPublisher.publishEvent(new FundingSuccessEvent(fundingId));
-
-            // 4. 첫 배당금 생성 (한달 후 지급 예정)
-            try {
-                allocationService.createFirstAllocation(fundingId);
-                log.info("펀딩 완료 및 첫 배당금 생성 성공 - 펀딩 ID: {}", fundingId);
-            } catch (Exception e) {
-                log.error("첫 배당금 생성 실패 - 펀딩 ID: {} (펀딩 완료는 정상 처리됨)", fundingId, e);
-                // 배당금 생성 실패가 펀딩 완료를 방해하지 않도록 예외를 전파하지 않음
-            }
+        if (currentAmount.compareTo(funding.getTargetAmount()) >= 0) {
+            completeFunding(fundingId);
+        }
+    }
+
+    private void completeFunding(Long fundingId) {
+        log.info(" 펀딩 목표 달성! 펀딩 완료 처리 시작 - 펀딩 ID: {}", fundingId);
+
+        // 1. 펀딩을 완료 상태로 변경
+        fundingMapper.markAsEnded(fundingId);
+
+        // 2. 모든 주문을 성공 상태로 변경
+        fundingOrderMapper.markOrdersAsSuccessByFundingId(fundingId);
+
+        // 지분 분배 작업도 같은 트랜잭션에서 생성 - 분배 시작 전에 서버가 중단돼도 재개 스케줄러가 찾을 수 있다.
+        shareDistributionJobService.prepareJobTransactional(fundingId, ShareDistributionService.CHUNK_SIZE);
+
+        // 3. 펀딩 성공 이벤트(지분 분배, 알림)
+        eventPublisher.publishEvent(new FundingSuccessEvent(fundingId));
+
+        // 4. 첫 배당금 생성 (한달 후 지급 예정)
+        try {
+            allocationService.createFirstAllocation(fundingId);
+            log.info("펀딩 완료 및 첫 배당금 생성 성공 - 펀딩 ID: {}", fundingId);
+        } catch (Exception e) {
+            log.error("첫 배당금 생성 실패 - 펀딩 ID: {} (펀딩 완료는 정상 처리됨)", fundingId, e);
+            // 배당금 생성 실패가 펀딩 완료를 방해하지 않도록 예외를 전파하지 않음
         }
     }
 
@@ -105,6 +142,15 @@ public class FundingOrderService {
 
         // 4. 포인트 환불 처리
         pointService.refundForFundingCancel(userId, orderPrice);
+
+        // 5. 커밋 후 예약 수량 복구
+        int shareCount = order.getShareCount();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reservationService.release(fundingId, shareCount);
+            }
+        });
     }
 
     // 내가 투자한 주문 리스트
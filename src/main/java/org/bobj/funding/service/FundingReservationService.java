@@ -0,0 +1,144 @@
+package org.bobj.funding.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bobj.common.redis.RedisScripts;
+import org.bobj.funding.domain.FundingStatus;
+import org.bobj.funding.domain.FundingVO;
+import org.bobj.funding.mapper.FundingMapper;
+import org.bobj.funding.mapper.FundingOrderMapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 펀딩 청약 예약 엔진
+ * - 남은 주 수를 Redis 카운터로 관리하고 Lua 스크립트로 원자적으로 차감한다.
+ * - 청약마다 fundings 행에 FOR UPDATE 락을 잡지 않도록, 청약이 있었던 펀딩 ID만 Redis 집합에 표시하고
+ *   FundingSubscriptionFlusher가 펀딩별로 한 번에 current_amount를 funding_order 합계로 다시 계산한다.
+ *   반영할 수량을 메모리에 들고 있지 않으므로 서버가 재시작되거나 여러 대여도 청약 금액이 유실되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FundingReservationService {
+
+    private static final String REMAINING_KEY_PREFIX = "funding:remaining:";
+    private static final String DIRTY_KEY = "funding:subscription:dirty";
+    private static final long REMAINING_TTL_DAYS = 7;
+
+    // 키 없음: -2, 잔여 부족: -1, 성공: 차감 후 잔여 주 수 (성공 시 모집 금액 재계산 대상으로 표시)
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local remaining = redis.call('GET', KEYS[1]) " +
+            "if not remaining then return -2 end " +
+            "if tonumber(remaining) < tonumber(ARGV[1]) then return -1 end " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "return redis.call('DECRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 키가 없으면 다음 예약 시 DB 기준으로 다시 초기화되므로 복구하지 않는다.
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1]) end " +
+            "return -2",
+            Long.class);
+
+    // 재계산 대상 펀딩 ID를 꺼내고 비운다.
+    private static final RedisScript<List<String>> DRAIN_DIRTY_SCRIPT = RedisScripts.stringList(
+            "local ids = redis.call('SMEMBERS', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return ids");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FundingMapper fundingMapper;
+    private final FundingOrderMapper fundingOrderMapper;
+
+    /**
+     * 남은 주 수에서 shareCount만큼 예약한다.
+     * @return 예약 후 남은 주 수
+     */
+    public long reserve(Long fundingId, int shareCount) {
+        String key = REMAINING_KEY_PREFIX + fundingId;
+        List<String> keys = Arrays.asList(key, DIRTY_KEY);
+        String requested = String.valueOf(shareCount);
+        String id = String.valueOf(fundingId);
+
+        Long result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, requested, id);
+        if (result != null && result == -2) {
+            initializeRemaining(fundingId, key);
+            result = stringRedisTemplate.execute(RESERVE_SCRIPT, keys, requested, id);
+        }
+
+        if (result == null || result == -2) {
+            throw new IllegalStateException("펀딩 잔여 수량을 확인할 수 없습니다.");
+        }
+        if (result == -1) {
+            throw new IllegalArgumentException("남은 주 수를 초과했습니다.");
+        }
+        return result;
+    }
+
+    // 주문 롤백/환불 시 예약했던 주 수를 되돌린다.
+    public void release(Long fundingId, int shareCount) {
+        Long result = stringRedisTemplate.execute(RELEASE_SCRIPT,
+                Collections.singletonList(REMAINING_KEY_PREFIX + fundingId), String.valueOf(shareCount));
+        log.debug("펀딩 예약 수량 복구 - 펀딩 ID: {}, 수량: {}, 결과: {}", fundingId, shareCount, result);
+    }
+
+    // 실패/종료된 펀딩의 카운터 제거
+    public void evict(List<Long> fundingIds) {
+        if (fundingIds == null || fundingIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.delete(fundingIds.stream().map(id -> REMAINING_KEY_PREFIX + id).toList());
+        stringRedisTemplate.opsForSet().remove(DIRTY_KEY, fundingIds.stream().map(String::valueOf).toArray());
+    }
+
+    // 모집 금액 재계산 대상으로 표시 (청약 커밋 후, 반영 실패 시 재시도)
+    public void markDirty(Long fundingId) {
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(fundingId));
+    }
+
+    // 모집 중인 펀딩 전체를 재계산 대상으로 표시 (커밋 직후 표시 전에 서버가 죽은 경우 보정)
+    public void markOpenFundingsDirty() {
+        List<Long> fundingIds = fundingMapper.findOpenFundingIds();
+        if (!fundingIds.isEmpty()) {
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, fundingIds.stream().map(String::valueOf).toArray(String[]::new));
+        }
+    }
+
+    // 재계산 대상 펀딩 ID를 꺼내고 비운다.
+    @SuppressWarnings("unchecked")
+    public List<Long> drainDirty() {
+        List<String> ids = stringRedisTemplate.execute(DRAIN_DIRTY_SCRIPT, Collections.singletonList(DIRTY_KEY));
+        if (ids == null) {
+            return Collections.emptyList();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    private void initializeRemaining(Long fundingId, String key) {
+        FundingVO funding = fundingMapper.findById(fundingId);
+        if (funding == null) {
+            throw new IllegalArgumentException("존재하지 않는 펀딩입니다.");
+        }
+        if (funding.getStatus() != FundingStatus.FUNDING) {
+            throw new IllegalArgumentException("모집 중인 펀딩이 아닙니다.");
+        }
+
+        // current_amount는 반영이 늦을 수 있으므로 커밋된 청약 합계로 초기화 (다른 인스턴스가 먼저 초기화했다면 무시됨)
+        long remaining = funding.getTotalShares() - fundingOrderMapper.sumActiveShareCountByFundingId(fundingId);
+        Boolean initialized = stringRedisTemplate.opsForValue()
+                .setIfAbsent(key, String.valueOf(Math.max(remaining, 0)), REMAINING_TTL_DAYS, TimeUnit.DAYS);
+
+        if (Boolean.TRUE.equals(initialized)) {
+            log.info("펀딩 잔여 수량 카운터 초기화 - 펀딩 ID: {}, 잔여 주 수: {}", fundingId, remaining);
+        }
+    }
+}
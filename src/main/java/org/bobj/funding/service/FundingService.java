@@ -3,27 +3,21 @@ package org.bobj.funding.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bobj.common.dto.CustomSlice;
-import org.bobj.funding.domain.FundingOrderVO;
 import org.bobj.funding.dto.FundingDetailResponseDTO;
 import org.bobj.funding.dto.FundingEndedResponseDTO;
 import org.bobj.funding.dto.FundingTotalResponseDTO;
+import org.bobj.funding.dto.FundingUserRefundDTO;
 import org.bobj.funding.event.FundingFailureEvent;
 import org.bobj.funding.mapper.FundingMapper;
 import org.bobj.funding.mapper.FundingOrderMapper;
-import org.bobj.point.service.PointService;
+import org.bobj.funding.mapper.FundingRefundCheckpointMapper;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -33,7 +27,9 @@ public class FundingService {
     private final FundingOrderMapper fundingOrderMapper;
 
     private final ApplicationEventPublisher eventPublisher;
-    private final PointService pointService;
+    private final FundingReservationService reservationService;
+    private final FundingRefundCheckpointMapper checkpointMapper;
+    private final RefundChunkExecutorService refundChunkExecutorService;
 
     private static final int BATCH_SIZE = 1000;
 
@@ -49,64 +45,76 @@ public class FundingService {
         return new CustomSlice<>(content,hasNext);
     }
 
-    @Transactional
+    /**
+     * 펀딩 실패 처리
+     * 1. 기간이 끝난 미달 펀딩을 FAILED로 변경하고 실패 이벤트 발행
+     * 2. 환불이 끝나지 않은 FAILED 펀딩(이전 실행에서 중단된 펀딩 포함)을 청크 단위로 환불
+     *    모든 청크가 커밋된 뒤 마무리 전에 중단된 펀딩은 환불 대상 없이 마무리만 다시 실행된다.
+     * 청크마다 별도 트랜잭션으로 커밋되며, 실패한 청크는 다음 실행에서 이어서 처리된다.
+     */
     public void expireFunding() {
         // 펀딩 실패인 펀딩 ID 리스트 생성
         List<Long> failedFundingIds = fundingMapper.findFailedFundingIds();
 
         log.info("펀딩 실패 처리 대상 ID 목록: {}", failedFundingIds);
 
+        if (!failedFundingIds.isEmpty()) {
+            // 펀딩 staus FAILED로 변경
+            fundingMapper.updateFundingStatusToFailed(failedFundingIds);
 
-        if (failedFundingIds.isEmpty()) return;
+            // 청약 예약 카운터 제거
+            reservationService.evict(failedFundingIds);
 
-        // 펀딩 staus FAILED로 변경
-        fundingMapper.updateFundingStatusToFailed(failedFundingIds);
+            // 펀딩 실패 이벤트 발생(알림)
+            failedFundingIds.forEach(fId -> eventPublisher.publishEvent(new FundingFailureEvent(fId)));
+        }
 
-        // 멀티 스레드 설정
-        ExecutorService executor = Executors.newFixedThreadPool(10);
-        List<Callable<Void>> tasks = new ArrayList<>();
+        List<Long> refundTargetIds = fundingMapper.findFailedFundingIdsWithPendingRefund();
+        for (Long fId : refundTargetIds) {
+            refundFailedFunding(fId);
+        }
+    }
 
-        // 펀딩 ID에 해당하는 펀딩 주문들 staus를 REFUNED로 변경
-        for(Long fId : failedFundingIds){
-            List<Long> fundingOrderIds = fundingOrderMapper.findFundingOrderIdsByFundingId(fId);
+    private void refundFailedFunding(Long fundingId) {
+        long start = System.currentTimeMillis();
 
-            // 펀딩 실패 이벤트 발생(알림)
-            eventPublisher.publishEvent(new FundingFailureEvent(fId));
-
-            for(int i=0; i<fundingOrderIds.size(); i+=BATCH_SIZE){
-                List<Long> fundingOrderIdBatch = fundingOrderIds.subList(i, Math.min(i+BATCH_SIZE, fundingOrderIds.size()));
-                tasks.add(()->{
-                    fundingOrderMapper.updateFundingOrderStatusToRefundedByOrderIds(fundingOrderIdBatch);
-                    List<FundingOrderVO> orders = fundingOrderMapper.findAllOrdersByFundingId(fId);
-
-                    Map<Long, BigDecimal> refundMap = new HashMap<>();
-                    for (FundingOrderVO order : orders) {
-                        if (fundingOrderIdBatch.contains(order.getOrderId())) {
-                            refundMap.merge(order.getUserId(), order.getOrderPrice(), BigDecimal::add);
-                        }
-                    }
-                    pointService.refundForFundingFailure(refundMap);
-                    return null;
-                });
-            }
-        }
+        // 사용자별 환불 금액 합계 (한 번의 GROUP BY)
+        List<FundingUserRefundDTO> refunds = fundingOrderMapper.sumPendingOrderPriceGroupByUser(fundingId);
+        BigDecimal totalAmount = refunds.stream()
+                .map(FundingUserRefundDTO::getRefundAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        try{
-            List<Future<Void>> futures = executor.invokeAll(tasks);
+        checkpointMapper.upsertRunning(fundingId, refunds.size(), totalAmount);
+        log.info("펀딩 실패 환불 시작 - fundingId: {}, 대상 사용자: {}, 환불 합계: {}", fundingId, refunds.size(), totalAmount);
 
-            for(Future<Void> future: futures){
-                future.get();
-            }
+        List<Long> userIds = refunds.stream().map(FundingUserRefundDTO::getUserId).toList();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += BATCH_SIZE) {
+            List<Long> chunk = userIds.subList(i, Math.min(i + BATCH_SIZE, userIds.size()));
+            futures.add(refundChunkExecutorService.refundChunkAsync(fundingId, chunk, i / BATCH_SIZE + 1));
+        }
 
-            for (Long fId : failedFundingIds) {
-                fundingMapper.updateCurrentAmountToZero(fId);
+        int refundedUsers = 0;
+        int failedChunks = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            try {
+                refundedUsers += future.join();
+            } catch (Exception e) {
+                failedChunks++;
             }
-        } catch(Exception e){
-            log.error("펀딩 주문 상태 변경 또는 포인트 환불 중 실패 → 전체 롤백됩니다.", e);
-            throw new RuntimeException("펀딩 실패 처리 중 오류", e);
-        } finally {
-            executor.shutdown();
         }
+
+        long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+        log.info("펀딩 실패 환불 종료 - fundingId: {}, 청크: {}, 실패 청크: {}, 환불 사용자: {}, 소요: {} ms, 처리량: {} 명/초",
+                fundingId, futures.size(), failedChunks, refundedUsers, elapsed, refundedUsers * 1000L / elapsed);
+
+        if (failedChunks > 0) {
+            log.warn("펀딩 {} 환불 미완료 - 실패 청크 {}개는 다음 실행에서 재처리됩니다.", fundingId, failedChunks);
+            return;
+        }
+
+        fundingMapper.updateCurrentAmountToZero(fundingId);
+        checkpointMapper.markDone(fundingId);
     }
 
     public FundingDetailResponseDTO getFundingDetail(Long fundingId) {
@@ -0,0 +1,29 @@
+package org.bobj.funding.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefundChunkExecutorService {
+    private final RefundChunkService refundChunkService;
+
+    @Async("batchJobExecutor")
+    public CompletableFuture<Integer> refundChunkAsync(Long fundingId, List<Long> userIds, int chunkIndex) {
+        try {
+            int refunded = refundChunkService.refundChunkTransactional(fundingId, userIds);
+            log.debug("펀딩 {} 환불 청크 {} 완료 (환불 사용자: {})", fundingId, chunkIndex, refunded);
+            return CompletableFuture.completedFuture(refunded);
+        } catch (Exception e) {
+            // 실패한 청크의 주문은 PENDING으로 남아 다음 실행 때 다시 처리된다.
+            log.error("펀딩 {} 환불 청크 {} 실패 - error: {}", fundingId, chunkIndex, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
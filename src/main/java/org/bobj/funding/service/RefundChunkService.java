@@ -0,0 +1,50 @@
+package org.bobj.funding.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bobj.funding.dto.FundingUserRefundDTO;
+import org.bobj.funding.mapper.FundingOrderMapper;
+import org.bobj.funding.mapper.FundingRefundCheckpointMapper;
+import org.bobj.point.service.PointService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefundChunkService { // 펀딩 실패 환불 청크 1개 처리 - 트랜잭션
+
+    private final FundingOrderMapper fundingOrderMapper;
+    private final FundingRefundCheckpointMapper checkpointMapper;
+    private final PointService pointService;
+
+    /**
+     * 주문 상태 변경, 포인트 환불, 체크포인트 기록을 한 트랜잭션으로 처리한다.
+     * 금액은 락을 잡고 PENDING 주문 기준으로 다시 합산하므로, 이미 처리된 청크를 재실행해도 중복 환불되지 않는다.
+     * @return 환불된 사용자 수
+     */
+    @Transactional
+    public int refundChunkTransactional(Long fundingId, List<Long> userIds) {
+        List<FundingUserRefundDTO> refunds = fundingOrderMapper.sumPendingOrderPriceByUserIdsForUpdate(fundingId, userIds);
+        if (refunds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, BigDecimal> refundMap = refunds.stream()
+                .collect(Collectors.toMap(FundingUserRefundDTO::getUserId, FundingUserRefundDTO::getRefundAmount));
+        BigDecimal chunkAmount = refunds.stream()
+                .map(FundingUserRefundDTO::getRefundAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        fundingOrderMapper.updatePendingOrdersToRefundedByUserIds(fundingId, userIds);
+        pointService.refundForFundingFailure(refundMap);
+        checkpointMapper.recordChunk(fundingId, refunds.size(), chunkAmount);
+
+        return refunds.size();
+    }
+}
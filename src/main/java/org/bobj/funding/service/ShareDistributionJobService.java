@@ -0,0 +1,56 @@
+package org.bobj.funding.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.funding.domain.ShareDistributionChunkVO;
+import org.bobj.funding.domain.ShareDistributionJobVO;
+import org.bobj.funding.mapper.FundingOrderMapper;
+import org.bobj.funding.mapper.ShareDistributionJobMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ShareDistributionJobService { // 지분 분배 작업/청크 계획 생성 - 트랜잭션
+
+    private final FundingOrderMapper fundingOrderMapper;
+    private final ShareDistributionJobMapper jobMapper;
+
+    /**
+     * 펀딩의 분배 작업이 없으면 참여자를 사용자 ID 순으로 chunkSize명씩 나눈 청크 계획과 함께 생성한다.
+     * 이미 있으면 기존 작업을 그대로 반환한다.
+     * 펀딩 완료(주문 SUCCESS 처리) 트랜잭션 안에서 호출되어 작업 행이 주문 상태와 함께 커밋된다.
+     */
+    @Transactional
+    public ShareDistributionJobVO prepareJobTransactional(Long fundingId, int chunkSize) {
+        ShareDistributionJobVO job = jobMapper.findJob(fundingId);
+        if (job != null) {
+            return job;
+        }
+
+        List<Long> userIds = fundingOrderMapper.findSuccessOrderUserIdsByFundingId(fundingId);
+
+        List<ShareDistributionChunkVO> chunks = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += chunkSize) {
+            List<Long> chunkUserIds = userIds.subList(i, Math.min(i + chunkSize, userIds.size()));
+            chunks.add(ShareDistributionChunkVO.builder()
+                    .fundingId(fundingId)
+                    .chunkIndex(i / chunkSize + 1)
+                    .fromUserId(chunkUserIds.get(0))
+                    .toUserId(chunkUserIds.get(chunkUserIds.size() - 1))
+                    .build());
+        }
+
+        int created = jobMapper.insertJobIfAbsent(fundingId, userIds.size(), chunks.size());
+        if (created > 0 && !chunks.isEmpty()) {
+            jobMapper.insertChunks(chunks);
+            log.info("지분 분배 작업 생성 - fundingId: {}, 참여자: {}, 청크: {}", fundingId, userIds.size(), chunks.size());
+        }
+
+        return jobMapper.findJob(fundingId);
+    }
+}
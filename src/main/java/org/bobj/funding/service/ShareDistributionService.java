@@ -2,13 +2,12 @@ package org.bobj.funding.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.bobj.funding.domain.FundingOrderVO;
-import org.bobj.funding.mapper.FundingOrderMapper;
-import org.bobj.share.domain.ShareVO;
+import org.bobj.funding.domain.ShareDistributionChunkVO;
+import org.bobj.funding.domain.ShareDistributionJobVO;
+import org.bobj.funding.mapper.ShareDistributionJobMapper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -18,67 +17,64 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class ShareDistributionService {
 
-    private final FundingOrderMapper fundingOrderMapper;
+    private final ShareDistributionJobService jobService;
+    private final ShareDistributionJobMapper jobMapper;
     private final ChunkExecutorService chunkExeucutorService;
 
-    private static final int CHUNK_SIZE = 1000;
+    static final int CHUNK_SIZE = 1000;
+    private static final int STALE_JOB_MINUTES = 10;
 
+   // 지분 분배 - 같은 펀딩으로 다시 호출하면 완료되지 않은 청크만 이어서 처리한다.
    @Async("shareDistributionExecutor")
     public void distributeSharersAsync(Long fundingId) {
        long start = System.currentTimeMillis(); // 시작 시간 측정
        log.info("주식 배분 시작 - fundingId: {}", fundingId);
 
         try {
-            //펀딩에 참여자 펀딩 주문 조회
-            List<FundingOrderVO> orders = fundingOrderMapper.findAllOrdersByFundingId(fundingId);
-
-            log.debug("총 {} 명의 참가자", orders.size());
-
-            List<ShareVO> shares = orders.stream()
-                    .map(order -> ShareVO.builder()
-                            .userId(order.getUserId())
-                            .fundingId(order.getFundingId())
-                            .shareCount(order.getShareCount())
-                            .averageAmount(order.getOrderPrice().divide(BigDecimal.valueOf(order.getShareCount())))
-                            .build())
-                    .toList();
-
-            List<List<ShareVO>> chunks = partition(shares, CHUNK_SIZE);
-            log.info("총 {} 개의 청크로 분할 완료", chunks.size());
-
-
-            List<CompletableFuture<Void>> futures = new ArrayList<>();
-
+            // 작업은 펀딩 완료 트랜잭션에서 생성됨 (그 이전 데이터 등 작업이 없으면 여기서 생성)
+            ShareDistributionJobVO job = jobService.prepareJobTransactional(fundingId, CHUNK_SIZE);
+            if ("DONE".equals(job.getStatus())) {
+                log.info("이미 완료된 지분 분배 작업 - fundingId: {}", fundingId);
+                return;
+            }
 
-            for(int i=0;i<chunks.size();i++){
-                List<ShareVO> chunk = chunks.get(i);
+            // 재개 시 RUNNING으로 되돌리고 갱신 시각을 남겨, 청크가 도는 동안 재개 스케줄러가 다시 잡지 않게 함
+            jobMapper.updateJobStatus(fundingId, "RUNNING");
 
-                log.debug("청크 {} 시작 (size:{})", i+1, chunk.size());
+            List<ShareDistributionChunkVO> chunks = jobMapper.findIncompleteChunks(fundingId);
+            log.info("총 {} 명의 참가자, 처리할 청크 {}/{} 개", job.getTotalUsers(), chunks.size(), job.getTotalChunks());
 
-//                chunkExeucutorService.distributeChunkAsync(chunk, i+1);
-                futures.add(chunkExeucutorService.distributeChunkAsync(chunk, i + 1));
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (ShareDistributionChunkVO chunk : chunks) {
+                log.debug("청크 {} 시작 (userId {} ~ {})", chunk.getChunkIndex(), chunk.getFromUserId(), chunk.getToUserId());
+                futures.add(chunkExeucutorService.distributeChunkAsync(chunk));
             }
 
             // 모든 비동기 작업 완료 대기
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            long failedChunks = futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(success -> !success)
+                    .count();
+
+            if (failedChunks == 0) {
+                jobMapper.updateJobStatus(fundingId, "DONE");
+            } else {
+                jobMapper.updateJobStatus(fundingId, "FAILED");
+                log.warn("지분 분배 미완료 - fundingId: {}, 실패 청크: {} (재개 대상)", fundingId, failedChunks);
+            }
 
         }catch(Exception e){
             log.error("주식 배분 중 치명적인 오류 발생 - fundingId :{}, error: {}", fundingId, e.getMessage(), e);
         } finally {
             long end = System.currentTimeMillis();
-            log.info("✅ 지분 분배 완료 - 총 처리 시간: {} ms", (end - start));
+            log.info("✅ 지분 분배 종료 - fundingId: {}, 총 처리 시간: {} ms", fundingId, (end - start));
         }
 
     }
 
-    private <T> List<List<T>> partition(List<T> list, int size) { //청크 단위로 펀딩 주문 데이터 분할
-        List<List<T>> partitions = new ArrayList<>();
-
-        for (int i = 0; i < list.size(); i += size) {
-            partitions.add(list.subList(i, Math.min(i + size, list.size())));
-        }
-
-        return partitions;
+    // 실패했거나 중단된 분배 작업의 펀딩 ID
+    public List<Long> findResumableFundingIds() {
+        return jobMapper.findStaleIncompleteFundingIds(STALE_JOB_MINUTES);
     }
 
 }
@@ -2,33 +2,124 @@ package org.bobj.order.consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.bobj.common.redis.RedisScripts;
+import org.bobj.order.domain.OrderStatus;
 import org.bobj.order.domain.OrderVO;
 import org.bobj.order.mapper.OrderMapper;
+import org.bobj.order.producer.OrderQueueProducer;
 import org.bobj.order.service.OrderMatchingService;
 import org.bobj.orderbook.service.OrderBookService;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 @Log4j2
 public class OrderQueueConsumer  implements MessageListener {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final OrderMapper orderMapper;
     private final OrderMatchingService orderMatchingService;
     private final OrderBookService orderBookService;
+    private final OrderQueueProducer orderQueueProducer;
+
+    private static final String QUEUE_PREFIX = "order:queue:";
+    private static final String PROCESSING_PREFIX = "processing:order:queue:";     // + {fundingId}:{batchId}
+    private static final String BATCH_REGISTRY_PREFIX = "processing:order:batches:"; // + {fundingId}, 배치 키 → 꺼낸 시각(ms)
+    private static final String RETRY_PREFIX = "order:queue:retries:";              // + {fundingId}, 주문 ID → 실패 횟수
+    private static final String DEAD_LETTER_PREFIX = "order:queue:dead:";           // + {fundingId}, 재시도를 포기한 주문 ID
+    // 같은 주문이 이 횟수만큼 실패하면 큐에서 빼 dead-letter 목록으로 옮김
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_TTL_SECONDS = 24 * 60 * 60L;
+    private static final int BATCH_SIZE = 50;
+    private static final int LOOP_LIMIT = 500;
+    // 처리 중 키가 이 시간 이상 남아 있으면 소비자가 죽은 것으로 보고 큐로 되돌림
+    private static final long STALE_BATCH_MILLIS = 5 * 60 * 1000L;
+
+    // 큐 오른쪽(가장 오래된 쪽)에서 최대 ARGV[1]개를 꺼내 접수 순으로 배치 키에 옮기고 배치 목록에 등록
+    private static final RedisScript<List<String>> POP_BATCH_SCRIPT = RedisScripts.stringList(
+            "local n = redis.call('LLEN', KEYS[1]) " +
+            "if n == 0 then return {} end " +
+            "local take = math.min(tonumber(ARGV[1]), n) " +
+            "local items = redis.call('LRANGE', KEYS[1], -take, -1) " +
+            "redis.call('LTRIM', KEYS[1], 0, -take - 1) " +
+            "local fifo = {} " +
+            "for i = #items, 1, -1 do fifo[#fifo + 1] = items[i] end " +
+            "redis.call('RPUSH', KEYS[2], unpack(fifo)) " +
+            "redis.call('ZADD', KEYS[3], ARGV[2], KEYS[2]) " +
+            "return fifo");
 
-    // Pub/Sub 메시지를 처리하는 메서드
+    /**
+     * 배치 완료
+     * - 처리하지 못한 주문(접수 순)은 큐 맨 앞으로 되돌리고, 처리한 주문의 실패 횟수는 지운다.
+     * - 실패한 주문은 실패 횟수를 올려 큐 맨 뒤로 보내고, MAX_ATTEMPTS에 도달하면 dead-letter 목록으로 옮긴다.
+     * KEYS: 큐, 배치, 배치 목록, 실패 횟수, dead-letter
+     * ARGV: 실패 주문 ID(없으면 ""), 최대 시도 횟수, 실패 횟수 TTL(초), 되돌릴 개수 n, 되돌릴 주문 n개, 처리한 주문...
+     * @return 실패 주문의 누적 실패 횟수 (실패 주문이 없으면 0)
+     */
+    private static final RedisScript<Long> COMPLETE_BATCH_SCRIPT = new DefaultRedisScript<>(
+            "local n = tonumber(ARGV[4]) " +
+            "for i = 4 + n, 5, -1 do redis.call('RPUSH', KEYS[1], ARGV[i]) end " +
+            "if #ARGV > 4 + n and redis.call('EXISTS', KEYS[4]) == 1 then " +
+            "  for i = 5 + n, #ARGV do redis.call('HDEL', KEYS[4], ARGV[i]) end " +
+            "end " +
+            "local attempts = 0 " +
+            "if ARGV[1] ~= '' then " +
+            "  attempts = redis.call('HINCRBY', KEYS[4], ARGV[1], 1) " +
+            "  if attempts >= tonumber(ARGV[2]) then " +
+            "    redis.call('HDEL', KEYS[4], ARGV[1]) " +
+            "    redis.call('LPUSH', KEYS[5], ARGV[1]) " +
+            "  else " +
+            "    redis.call('EXPIRE', KEYS[4], ARGV[3]) " +
+            "    redis.call('LPUSH', KEYS[1], ARGV[1]) " +
+            "  end " +
+            "end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "redis.call('ZREM', KEYS[3], KEYS[2]) " +
+            "return attempts",
+            Long.class);
+
+    // 오래된 배치(소비자 중단 등)를 큐 맨 앞으로 되돌림
+    private static final RedisScript<Long> RECOVER_STALE_SCRIPT = new DefaultRedisScript<>(
+            "local stale = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1]) " +
+            "local count = 0 " +
+            "for _, batch in ipairs(stale) do " +
+            "  local items = redis.call('LRANGE', batch, 0, -1) " +
+            "  for i = #items, 1, -1 do redis.call('RPUSH', KEYS[1], items[i]) end " +
+            "  redis.call('DEL', batch) " +
+            "  redis.call('ZREM', KEYS[2], batch) " +
+            "  count = count + #items " +
+            "end " +
+            "return count",
+            Long.class);
+
+    /**
+     * Pub/Sub 메시지를 처리하는 메서드
+     * - 큐에서 주문 ID를 최대 BATCH_SIZE개씩 Lua 한 번으로 꺼내 배치별 처리 중 키로 옮긴다.
+     * - 취소 표시 확인은 배치 단위 파이프라인 한 번으로 처리한다.
+     * - 확인 응답(ack)은 주문마다 LREM하지 않고, 트랜잭션이 끝난 뒤 배치 키를 한 번에 지운다.
+     *   커밋되면 처리하지 못한 나머지만, 롤백되면 배치 전체를 큐 맨 앞으로 되돌린다.
+     * - 예외가 난 주문은 맨 앞이 아니라 큐 맨 뒤로 보내 다음 주문이 막히지 않게 하고,
+     *   MAX_ATTEMPTS번 실패하면 dead-letter 목록(order:queue:dead:{fundingId})으로 옮긴다.
+     */
     @Override
     @Transactional
     public void onMessage(Message message, byte[] pattern) {
-        String fundingIdStr = (String) redisTemplate.getStringSerializer().deserialize(message.getBody());
-        if (fundingIdStr != null) {
-            fundingIdStr = fundingIdStr.replaceAll("\"", "");
-        }
+        // 이벤트 내용은 펀딩 ID 문자열 그대로 (OrderQueueProducer가 StringRedisTemplate으로 발행)
+        String fundingIdStr = stringRedisTemplate.getStringSerializer().deserialize(message.getBody());
         if (fundingIdStr == null || fundingIdStr.isEmpty()) {
             log.warn("수신된 메시지 내용이 비어있습니다.");
             return;
@@ -37,64 +128,190 @@ public class OrderQueueConsumer  implements MessageListener {
         Long fundingId = Long.valueOf(fundingIdStr);
         log.info("🎉 새로운 주문 이벤트 수신. 체결 시작 (fundingId={})", fundingId);
 
-        String queueKey = "order:queue:" + fundingId;
-        String processingQueueKey = "processing:order:queue:" + fundingId;
-        final int LOOP_LIMIT = 500;
-        int loop = 0;
+        String queueKey = QUEUE_PREFIX + fundingId;
+        String registryKey = BATCH_REGISTRY_PREFIX + fundingId;
+        recoverStaleBatches(fundingId, queueKey, registryKey);
 
-        while (true) {
-            if (++loop > LOOP_LIMIT) {
+        int processed = 0;
+        boolean stop = false;
+        List<Batch> batches = new ArrayList<>();
+        while (!stop) {
+            if (processed >= LOOP_LIMIT) {
                 log.warn("루프 상한 도달 → 중단 (fundingId={})", fundingId);
                 break;
             }
 
-            Object orderIdObj = redisTemplate.opsForList().rightPopAndLeftPush(queueKey, processingQueueKey);
-            if (orderIdObj == null) {
+            String batchKey = PROCESSING_PREFIX + fundingId + ":" + UUID.randomUUID();
+            List<String> orderIds = popBatch(queueKey, batchKey, registryKey, Math.min(BATCH_SIZE, LOOP_LIMIT - processed));
+            if (orderIds.isEmpty()) {
                 log.info("큐 비었음 → 종료 (fundingId={})", fundingId);
                 break;
             }
+            Batch batch = new Batch(batchKey, orderIds);
+            completeBatchAfterTransaction(fundingId, batches, batch);
 
-            String orderIdStr = orderIdObj.toString();
-            try {
-                Long orderId = Long.valueOf(orderIdStr);
-                OrderVO order = orderMapper.get(orderId);
-                if (order == null) {
-                    redisTemplate.opsForList().remove(processingQueueKey, 1, orderIdObj);
-                    log.warn("주문 없음 → drop (orderId={})", orderId);
-                    continue;
+            Set<String> cancelled = orderQueueProducer.removeCancelled(fundingId, orderIds);
+            while (batch.processedCount < orderIds.size()) {
+                String orderIdStr = orderIds.get(batch.processedCount);
+                try {
+                    batch.processedCount++;
+                    processed++;
+                    if (!processOrder(orderIdStr, cancelled)) {
+                        log.info("⏸️ 이번 라운드 진전 없음 → 종료 (orderId={})", orderIdStr);
+                        stop = true;
+                        break;
+                    }
+                } catch (Exception e) {
+                    log.error("처리 실패 (orderId={}): {}", orderIdStr, e.getMessage(), e);
+                    batch.failedOrderId = orderIdStr;     // 실패한 주문은 따로 재시도 횟수를 세어 큐 맨 뒤로
+                    stop = true;
+                    break;
                 }
+            }
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                completeBatch(fundingId, batch, batch.processedCount);
+            }
+        }
+        // 큐 처리가 모두 끝난 후, 캐시를 무효화합니다.
+        orderBookService.evictOrderBookCache(fundingId);
+    }
 
-                int requested = order.getOrderShareCount();
-                int remaining = orderMatchingService.processOrderMatching(order);
+    /**
+     * 주문 하나 매칭
+     * @return 다음 주문을 계속 처리할지 여부 (매칭 대상이 있었는데 체결 진전이 없으면 false)
+     */
+    private boolean processOrder(String orderIdStr, Set<String> cancelled) {
+        // 취소된 주문은 DB 조회/매칭 없이 버림
+        if (cancelled.contains(orderIdStr)) {
+            log.info("취소된 주문 → drop (orderId={})", orderIdStr);
+            return true;
+        }
+
+        Long orderId = Long.valueOf(orderIdStr);
+        OrderVO order = orderMapper.get(orderId);
+        if (order == null) {
+            log.warn("주문 없음 → drop (orderId={})", orderId);
+            return true;
+        }
+        if (order.getStatus() == OrderStatus.CANCELLED || order.getStatus() == OrderStatus.FULLY_FILLED) {
+            log.info("매칭 대상 아닌 주문 → drop (orderId={}, status={})", orderId, order.getStatus());
+            return true;
+        }
 
-                // DB에서 최신 상태 다시 조회 (체결 후 반영된 잔여 수량 확인)
-                order = orderMapper.get(orderId);
-                remaining = order.getRemainingShareCount();
+        int requested = order.getRemainingShareCount() != null
+                ? order.getRemainingShareCount() : order.getOrderShareCount();
+        orderMatchingService.processOrderMatching(order);
 
-                // 처리중 큐에서 제거
-                redisTemplate.opsForList().remove(processingQueueKey, 1, orderIdObj);
+        // DB에서 최신 상태 다시 조회 (체결 후 반영된 잔여 수량 확인)
+        int remaining = orderMapper.get(orderId).getRemainingShareCount();
+        if (remaining > 0) {
+            // 부분/미체결 → 이번 라운드 재큐잉하지 않음
+            log.info("⏸️ 부분 체결 → 다음 라운드에서 재시도 (orderId={}, remaining={})", orderId, remaining);
+        } else {
+            log.info("✅ 완전 체결 → 큐에서 제거 (orderId={})", orderId);
+        }
+        return remaining < requested;
+    }
 
-                if (remaining > 0) {
-                    // 부분/미체결 → 이번 라운드 재큐잉하지 않음
-                    log.info("⏸️ 부분 체결 → 다음 라운드에서 재시도 (orderId={}, remaining={})", orderId, remaining);
-                } else {
-                    log.info("✅ 완전 체결 → 큐에서 제거 (orderId={})", orderId);
+    private List<String> popBatch(String queueKey, String batchKey, String registryKey, int size) {
+        List<String> orderIds = stringRedisTemplate.execute(POP_BATCH_SCRIPT,
+                Arrays.asList(queueKey, batchKey, registryKey),
+                String.valueOf(size), String.valueOf(System.currentTimeMillis()));
+        return orderIds != null ? orderIds : Collections.emptyList();
+    }
+
+    /**
+     * 트랜잭션 종료 후 배치 확인 (트랜잭션당 한 번 등록하고, 이후 배치는 목록에 추가)
+     * - 커밋이면 처리한 주문 이후만, 롤백이면 실패 주문을 뺀 배치 전체를 큐 맨 앞으로 되돌린다.
+     * - 큐 맨 앞에 다시 쌓으므로 나중 배치부터 되돌려야 접수 순서가 유지된다.
+     * - 실패 주문은 커밋/롤백과 관계없이 큐 맨 뒤(또는 dead-letter)로 보낸다.
+     */
+    private void completeBatchAfterTransaction(Long fundingId, List<Batch> batches, Batch batch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        if (batches.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    for (int i = batches.size() - 1; i >= 0; i--) {
+                        Batch completed = batches.get(i);
+                        completeBatch(fundingId, completed,
+                                status == STATUS_COMMITTED ? completed.processedCount : 0);
+                    }
                 }
+            });
+        }
+        batches.add(batch);
+    }
 
-                boolean progressed = (remaining < requested);
-                if (!progressed) {
-                    log.info("⏸️ 이번 라운드 진전 없음 → 종료 (orderId={})", orderId);
-                    break;
+    private void completeBatch(Long fundingId, Batch batch, int committedCount) {
+        String queueKey = QUEUE_PREFIX + fundingId;
+        String batchKey = batch.key;
+        String failedOrderId = batch.failedOrderId;
+        List<String> requeue = new ArrayList<>();
+        List<String> done = new ArrayList<>();
+        for (int i = 0; i < batch.orderIds.size(); i++) {
+            String orderId = batch.orderIds.get(i);
+            if (orderId.equals(failedOrderId)) {
+                continue;
+            }
+            (i < committedCount ? done : requeue).add(orderId);
+        }
+
+        List<String> args = new ArrayList<>(requeue.size() + done.size() + 4);
+        args.add(failedOrderId != null ? failedOrderId : "");
+        args.add(String.valueOf(MAX_ATTEMPTS));
+        args.add(String.valueOf(RETRY_TTL_SECONDS));
+        args.add(String.valueOf(requeue.size()));
+        args.addAll(requeue);
+        args.addAll(done);
+        try {
+            Long attempts = stringRedisTemplate.execute(COMPLETE_BATCH_SCRIPT,
+                    Arrays.asList(queueKey, batchKey, BATCH_REGISTRY_PREFIX + fundingId,
+                            RETRY_PREFIX + fundingId, DEAD_LETTER_PREFIX + fundingId),
+                    args.toArray());
+            if (!requeue.isEmpty()) {
+                log.info("미처리 주문 {}건 큐로 복귀 ({})", requeue.size(), queueKey);
+            }
+            if (failedOrderId != null) {
+                if (attempts != null && attempts >= MAX_ATTEMPTS) {
+                    log.error("주문 {}회 처리 실패 → dead-letter 이동 (orderId={}, key={})",
+                            attempts, failedOrderId, DEAD_LETTER_PREFIX + fundingId);
+                } else {
+                    log.warn("처리 실패 주문 큐 맨 뒤로 재시도 (orderId={}, 실패 {}회)", failedOrderId, attempts);
                 }
+            }
+        } catch (Exception e) {
+            // 배치 키가 남아 있으므로 STALE_BATCH_MILLIS 후 복구 스크립트가 큐로 되돌림
+            log.error("배치 완료 처리 실패 - batch: {}, 오류: {}", batchKey, e.getMessage());
+        }
+    }
 
-            } catch (Exception e) {
-                log.error("처리 실패: {}", e.getMessage(), e);
-                redisTemplate.opsForList().rightPopAndLeftPush(processingQueueKey, queueKey);
-                break;
+    private void recoverStaleBatches(Long fundingId, String queueKey, String registryKey) {
+        try {
+            Long recovered = stringRedisTemplate.execute(RECOVER_STALE_SCRIPT,
+                    Arrays.asList(queueKey, registryKey),
+                    String.valueOf(System.currentTimeMillis() - STALE_BATCH_MILLIS));
+            if (recovered != null && recovered > 0) {
+                log.warn("중단된 배치의 주문 {}건 큐로 복구 (fundingId={})", recovered, fundingId);
             }
+        } catch (Exception e) {
+            log.warn("중단된 배치 복구 실패 (fundingId={}): {}", fundingId, e.getMessage());
+        }
+    }
+
+    // 한 번에 꺼낸 주문 묶음과 처리 결과
+    private static final class Batch {
+        private final String key;
+        private final List<String> orderIds;
+        private int processedCount;         // 처리를 시도한 주문 수 (실패 주문 포함)
+        private String failedOrderId;
+
+        private Batch(String key, List<String> orderIds) {
+            this.key = key;
+            this.orderIds = orderIds;
         }
-        // 큐 처리가 모두 끝난 후, 캐시를 무효화합니다.
-        orderBookService.evictOrderBookCache(fundingId);
     }
 
  //매 10초마다 Redis 큐에서 주문 ID 꺼내서 처리
@@ -124,7 +341,7 @@ public class OrderQueueConsumer  implements MessageListener {
 //                }
 //
 //                // 처리 완료 시 처리 중 큐에서 주문 ID 삭제
-//                redisTemplate.opsForList().remove(processingQueueKey, 1, orderIdObj);
+//                stringRedisTemplate.opsForList().remove(processingQueueKey, 1, orderIdStr);
 //
 //                log.info("✅ 주문 처리 완료 (주문 ID: {})", orderId);
 //            } catch (Exception e) {
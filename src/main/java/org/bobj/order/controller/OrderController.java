@@ -5,15 +5,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.bobj.common.constants.ErrorCode;
 import org.bobj.common.exception.ErrorResponse;
+import org.bobj.common.idempotency.IdempotencyService;
 import org.bobj.common.response.ApiCommonResponse;
 import org.bobj.order.dto.request.OrderRequestDTO;
 import org.bobj.order.dto.response.OrderResponseDTO;
 import org.bobj.order.service.OrderService;
-import org.bobj.orderbook.dto.response.OrderBookResponseDTO;
-import org.bobj.orderbook.service.OrderBookService;
 import org.bobj.user.security.UserPrincipal;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
@@ -28,10 +26,8 @@ import java.util.List;
 @Api(tags = "거래 주문 API")
 public class OrderController {
 
-    private final SimpMessagingTemplate messagingTemplate;
-
     private final OrderService service;
-    private final OrderBookService orderBookService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("")
     @ApiOperation(value = "거래 주문 등록", notes = "새로운 거래 주문 정보를 등록합니다.")
@@ -103,19 +99,17 @@ public class OrderController {
     })
     public ResponseEntity<ApiCommonResponse<OrderResponseDTO>> placeOrder(
             @ApiIgnore @AuthenticationPrincipal UserPrincipal principal,
+            @ApiParam(value = "멱등 키 (재시도 시 같은 값을 보내면 처음 응답을 그대로 반환)")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody @ApiParam(value = "거래 주문 DTO", required = true) OrderRequestDTO dto) {
 
         Long userId = principal.getUserId();
-        OrderResponseDTO created = service.placeOrder(userId, dto);
+        OrderResponseDTO created = idempotencyService.execute("order", userId, idempotencyKey, dto,
+                OrderResponseDTO.class, () -> service.placeOrder(userId, dto));
 
+        // 호가창 캐시 삭제/소켓 발행은 커밋 후 OrderBookChangedEvent로 비동기 처리
         ApiCommonResponse<OrderResponseDTO> response = ApiCommonResponse.createSuccess(created);
 
-        // 1. 주문 완료 후, 해당 펀딩 ID의 캐시 삭제
-        orderBookService.evictOrderBookCache(created.getFundingId());
-
-        // 2. 소켓 메세지 pub
-        publishOrderBookUpdate(created.getFundingId());
-
         return ResponseEntity.ok(response);
     }
 
@@ -154,26 +148,9 @@ public class OrderController {
             @ApiResponse(code = 500, message = "서버 내부 오류", response = ErrorResponse.class)
     })
     public ResponseEntity<ApiCommonResponse<String>> cancelOrder(@PathVariable Long orderId) {
-        Long fundingId = service.cancelOrder(orderId);
-
-        // 1. 주문 취소 후, 해당 펀딩 ID의 캐시를 먼저 삭제
-        orderBookService.evictOrderBookCache(fundingId);
-
-        //소켓 메세지 pub
-        publishOrderBookUpdate(fundingId);
+        // 호가창 갱신은 커밋 후 OrderBookChangedEvent로 비동기 처리
+        service.cancelOrder(orderId);
 
         return ResponseEntity.ok(ApiCommonResponse.createSuccess("주문이 성공적으로 취소되었습니다."));
     }
-
-    private void publishOrderBookUpdate(Long fundingId) {
-        try {
-            OrderBookResponseDTO orderBook = orderBookService.getOrderBookByFundingId(fundingId);
-            String destination = "/topic/order-book/" + fundingId;
-
-            messagingTemplate.convertAndSend(destination, orderBook);
-            log.info("Order book update published to topic {}: {}", destination, orderBook);
-        } catch (Exception e) {
-            log.error("Failed to publish order book update for fundingId {}: {}", fundingId, e.getMessage(), e);
-        }
-    }
 }
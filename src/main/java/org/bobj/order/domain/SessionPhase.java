@@ -0,0 +1,7 @@
+package org.bobj.order.domain;
+
+public enum SessionPhase {
+    CLOSED,         // 장 종료/휴장 - 주문 불가
+    PRE_OPEN,       // 장 시작 전 동시호가 - 주문 접수만 하고 시가 단일가 매매에서 한 번에 체결
+    CONTINUOUS      // 정규장 - 주문마다 즉시 매칭
+}
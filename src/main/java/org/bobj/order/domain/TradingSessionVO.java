@@ -0,0 +1,34 @@
+package org.bobj.order.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * 거래 세션 시간 (펀딩별 설정이 없으면 기본 세션 사용)
+ * - preOpenTime이 null이면 동시호가 없이 openTime부터 바로 정규장
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TradingSessionVO {
+    private Long fundingId;
+    private LocalTime preOpenTime;
+    private LocalTime openTime;
+    private LocalTime closeTime;
+
+    // 마감 시각까지 포함해 정규장으로 본다
+    public SessionPhase phaseAt(LocalTime time) {
+        if (!time.isBefore(openTime) && !time.isAfter(closeTime)) {
+            return SessionPhase.CONTINUOUS;
+        }
+        if (preOpenTime != null && !time.isBefore(preOpenTime) && time.isBefore(openTime)) {
+            return SessionPhase.PRE_OPEN;
+        }
+        return SessionPhase.CLOSED;
+    }
+}
@@ -0,0 +1,11 @@
+package org.bobj.order.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 주문 접수/취소로 호가창이 바뀌었음을 알리는 이벤트 (커밋 후 발행 처리)
+@Getter
+@RequiredArgsConstructor
+public class OrderBookChangedEvent {
+    private final Long fundingId;
+}
@@ -0,0 +1,21 @@
+package org.bobj.order.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.orderbook.service.OrderBookWebSocketService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class OrderBookChangedEventHandler {
+    private final OrderBookWebSocketService orderBookWebSocketService;
+
+    // 커밋된 변경만 발행 요청 (실제 재계산/전송은 별도 스레드에서 펀딩별로 합쳐서 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(OrderBookChangedEvent e) {
+        orderBookWebSocketService.requestPublish(e.getFundingId());
+    }
+}
@@ -0,0 +1,19 @@
+package org.bobj.order.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bobj.order.domain.OrderType;
+
+import java.math.BigDecimal;
+
+// 주문 취소 이벤트 - 커밋 후 대기 큐 제외 표시, 주문 장부 예약 해제, 호가창 차감(delta) 발행에 사용
+@Getter
+@RequiredArgsConstructor
+public class OrderCancelledEvent {
+    private final Long userId;
+    private final Long fundingId;
+    private final Long orderId;
+    private final OrderType orderType;
+    private final BigDecimal price;
+    private final int remainingShareCount;   // 취소로 호가창에서 빠지는 수량
+}
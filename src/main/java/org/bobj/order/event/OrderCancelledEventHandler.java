@@ -0,0 +1,41 @@
+package org.bobj.order.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.order.producer.OrderQueueProducer;
+import org.bobj.order.service.OrderLedgerService;
+import org.bobj.orderbook.dto.OrderBookDeltaDTO;
+import org.bobj.orderbook.service.OrderBookWebSocketService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class OrderCancelledEventHandler {
+    private final OrderQueueProducer orderQueueProducer;
+    private final OrderLedgerService orderLedgerService;
+    private final OrderBookWebSocketService orderBookWebSocketService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(OrderCancelledEvent e) {
+        // 1. 대기 큐에 남아 있어도 체결 엔진이 꺼내자마자 버리도록 취소 표시
+        orderQueueProducer.markCancelled(e.getFundingId(), e.getOrderId());
+
+        // 묶어둔 포인트/주식 예약 해제
+        orderLedgerService.release(e.getUserId(), e.getOrderId());
+
+        // 3. 호가창에서 취소 수량만큼 차감한 delta 발행
+        OrderBookDeltaDTO delta = OrderBookDeltaDTO.builder()
+                .fundingId(e.getFundingId())
+                .orderType(e.getOrderType())
+                .price(e.getPrice())
+                .quantityDelta(-e.getRemainingShareCount())
+                .timestamp(LocalDateTime.now())
+                .build();
+        orderBookWebSocketService.publishDelta(delta);
+    }
+}
@@ -2,8 +2,10 @@ package org.bobj.order.event;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.bobj.order.domain.SessionPhase;
 import org.bobj.order.producer.OrderQueueProducer;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.bobj.order.service.CallAuctionService;
+import org.bobj.order.service.TradingCalendarService;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -13,9 +15,20 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Log4j2
 public class OrderPlacedEventHandler {
     private final OrderQueueProducer orderQueueProducer;       // Redis 리스트 push
+    private final CallAuctionService callAuctionService;
+    private final TradingCalendarService tradingCalendarService;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(OrderPlacedEvent e) {
+        // 장 시작 전 주문은 시가 단일가 매매에서 한 번에 체결
+        if (tradingCalendarService.currentPhase(e.getFundingId()) == SessionPhase.PRE_OPEN) {
+            callAuctionService.markPending(e.getFundingId());
+            return;
+        }
+        // 단일가 매매가 아직 끝나지 않았으면 끝난 뒤 일괄로 큐에 들어감
+        if (callAuctionService.isPending(e.getFundingId())) {
+            return;
+        }
         orderQueueProducer.pushOrder(e.getFundingId(), e.getOrderId());
     }
 }
\ No newline at end of file
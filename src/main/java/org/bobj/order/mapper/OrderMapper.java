@@ -4,6 +4,7 @@ import org.apache.ibatis.annotations.Param;
 import org.bobj.order.domain.OrderVO;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderMapper {
@@ -32,4 +33,14 @@ public interface OrderMapper {
     );
 
     List<OrderVO> findOrdersByFundingId(Long fundingId);
+
+    // 사용자의 미체결 주문 조회
+    List<OrderVO> findOpenOrdersByUserId(@Param("userId") Long userId);
+
+    // 펀딩의 미체결 주문 전체 (단일가 매매용, 행 잠금)
+    List<OrderVO> findOpenOrdersByFundingIdForUpdate(@Param("fundingId") Long fundingId);
+
+    // 기준 시각 이후 접수된 미체결 주문 ID (단일가 매매 후 연속 매칭 큐에 넣을 대상)
+    List<Long> findOpenOrderIdsCreatedSince(@Param("fundingId") Long fundingId,
+                                            @Param("since") LocalDateTime since);
 }
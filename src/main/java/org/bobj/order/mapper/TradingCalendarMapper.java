@@ -0,0 +1,15 @@
+package org.bobj.order.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.bobj.order.domain.TradingSessionVO;
+
+import java.time.LocalDate;
+
+public interface TradingCalendarMapper {
+
+    // 휴장일 여부 (1 이상이면 휴장)
+    int countHoliday(@Param("date") LocalDate date);
+
+    // 펀딩별 거래 세션 (없으면 null → 기본 세션)
+    TradingSessionVO findSessionByFundingId(@Param("fundingId") Long fundingId);
+}
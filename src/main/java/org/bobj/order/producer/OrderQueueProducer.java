@@ -2,27 +2,88 @@ package org.bobj.order.producer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
 @Log4j2
 @Component
 @RequiredArgsConstructor
 public class OrderQueueProducer {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 큐 항목과 이벤트 내용은 JSON이 아닌 10진수 ID 문자열 그대로 저장 (소비 측에서 따옴표 제거 등 후처리 불필요)
+    private final StringRedisTemplate stringRedisTemplate;
 
     private static final String ORDER_QUEUE_PREFIX = "order:queue:";
 
+    // 취소 표시 (주문마다 키 하나, + {fundingId}:{orderId})
+    // 큐에서 꺼낼 때 확인 후 지우고, 큐에 없던 주문(이미 호가창에 올라간 주문 등)의 표시는 각자의 TTL로 사라진다.
+    // 표시가 만료돼도 체결 엔진이 DB 상태(CANCELLED)를 다시 확인하므로 취소 주문이 체결되지는 않는다.
+    private static final String CANCELLED_PREFIX = "order:cancelled:";
+    private static final long CANCELLED_TTL_HOURS = 24;
+
     private static final String ORDER_EVENT_CHANNEL = "order:events";
 
     public void pushOrder(Long fundingId, Long orderId) {
         String queueKey = ORDER_QUEUE_PREFIX + fundingId;
 
-        redisTemplate.opsForList().leftPush(queueKey, orderId);
+        stringRedisTemplate.opsForList().leftPush(queueKey, String.valueOf(orderId));
         log.info("🛒 주문이 대기 큐에 추가되었습니다. (fundingId={}, orderId={})", fundingId, orderId);
 
-        redisTemplate.convertAndSend(ORDER_EVENT_CHANNEL, String.valueOf(fundingId));
+        stringRedisTemplate.convertAndSend(ORDER_EVENT_CHANNEL, String.valueOf(fundingId));
         log.info("📢 Redis Pub/Sub 채널에 주문 발생 이벤트 발행. (channel={}, fundingId={})", ORDER_EVENT_CHANNEL, fundingId);
     }
+
+    // 여러 주문을 한 번에 큐에 넣고 이벤트는 한 번만 발행 (단일가 매매 후 등)
+    public void pushOrders(Long fundingId, List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForList().leftPushAll(ORDER_QUEUE_PREFIX + fundingId,
+                orderIds.stream().map(String::valueOf).toList());
+        stringRedisTemplate.convertAndSend(ORDER_EVENT_CHANNEL, String.valueOf(fundingId));
+        log.info("🛒 주문 {}건이 대기 큐에 추가되었습니다. (fundingId={})", orderIds.size(), fundingId);
+    }
+
+    // 주문 취소 표시 - 큐 리스트를 훑지 않고 O(1)로 기록 (SET EX 한 번, 표시마다 만료 시각이 따로 잡힘)
+    public void markCancelled(Long fundingId, Long orderId) {
+        stringRedisTemplate.opsForValue().set(cancelledKey(fundingId, String.valueOf(orderId)), "1",
+                CANCELLED_TTL_HOURS, TimeUnit.HOURS);
+    }
+
+    /**
+     * 꺼낸 주문들 중 취소 표시가 있는 주문을 골라 표시를 지우고 반환 (DEL을 한 번의 파이프라인으로 전송)
+     * 체결 엔진이 큐에서 꺼낸 주문을 버릴지 판단할 때 사용
+     */
+    public Set<String> removeCancelled(Long fundingId, List<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Object> removed = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String orderId : orderIds) {
+                stringConnection.del(cancelledKey(fundingId, orderId));
+            }
+            return null;
+        });
+
+        Set<String> cancelled = new HashSet<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            if (removed.get(i) instanceof Long count && count > 0) {
+                cancelled.add(orderIds.get(i));
+            }
+        }
+        return cancelled;
+    }
+
+    private static String cancelledKey(Long fundingId, String orderId) {
+        return CANCELLED_PREFIX + fundingId + ":" + orderId;
+    }
 }
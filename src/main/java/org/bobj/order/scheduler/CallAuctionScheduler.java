@@ -0,0 +1,19 @@
+package org.bobj.order.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.order.service.CallAuctionService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class CallAuctionScheduler {
+    private final CallAuctionService callAuctionService;
+
+    @Scheduled(fixedDelay = 1000) // 1초마다 장이 열린 펀딩의 시가 단일가 매매 실행
+    public void runOpeningAuctions() {
+        callAuctionService.runDueAuctions();
+    }
+}
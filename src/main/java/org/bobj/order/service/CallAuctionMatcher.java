@@ -0,0 +1,145 @@
+package org.bobj.order.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bobj.order.domain.OrderType;
+import org.bobj.order.domain.OrderVO;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 단일가(동시호가) 매매 체결가/체결 수량 계산
+ * - 체결가 후보는 주문 가격들이며, 체결 가능 수량 min(매수 누적, 매도 누적)이 가장 큰 가격을 고른다.
+ * - 같으면 미체결 잔량(매수 누적 - 매도 누적의 차)이 작은 가격, 그래도 같으면 기준가(최근 체결가)에 가까운 가격, 그다음 낮은 가격 순
+ * - 체결 대상은 가격 우선 → 시간 우선으로 채우며 모든 체결은 같은 가격으로 이루어진다.
+ * DB/스프링 의존 없이 주문 목록만으로 계산한다.
+ */
+public final class CallAuctionMatcher {
+
+    private static final Comparator<OrderVO> TIME_PRIORITY = Comparator
+            .comparing(OrderVO::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(OrderVO::getOrderId);
+
+    private CallAuctionMatcher() {
+    }
+
+    /**
+     * @param orders         미체결 매수/매도 주문 (remainingShareCount 기준)
+     * @param referencePrice 동일 조건 가격 간 선택 기준 (없으면 null)
+     * @return 체결이 없으면 null
+     */
+    public static Result uncross(List<OrderVO> orders, BigDecimal referencePrice) {
+        List<OrderVO> buys = new ArrayList<>();
+        List<OrderVO> sells = new ArrayList<>();
+        TreeMap<BigDecimal, long[]> book = new TreeMap<>();    // 가격 → {매수 수량, 매도 수량}
+        for (OrderVO order : orders) {
+            if (order.getRemainingShareCount() == null || order.getRemainingShareCount() <= 0) {
+                continue;
+            }
+            boolean buy = order.getOrderType() == OrderType.BUY;
+            (buy ? buys : sells).add(order);
+            book.computeIfAbsent(order.getOrderPricePerShare(), p -> new long[2])[buy ? 0 : 1]
+                    += order.getRemainingShareCount();
+        }
+        if (buys.isEmpty() || sells.isEmpty()) {
+            return null;
+        }
+
+        // 가격 오름차순 누적: 매도는 아래에서부터, 매수는 위에서부터
+        List<BigDecimal> prices = new ArrayList<>(book.keySet());
+        int n = prices.size();
+        long[] supply = new long[n];
+        long[] demand = new long[n];
+        long cumulative = 0;
+        for (int i = 0; i < n; i++) {
+            cumulative += book.get(prices.get(i))[1];
+            supply[i] = cumulative;
+        }
+        cumulative = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            cumulative += book.get(prices.get(i))[0];
+            demand[i] = cumulative;
+        }
+
+        BigDecimal bestPrice = null;
+        long bestVolume = 0;
+        long bestImbalance = 0;
+        for (int i = 0; i < n; i++) {
+            BigDecimal price = prices.get(i);
+            long volume = Math.min(demand[i], supply[i]);
+            long imbalance = Math.abs(demand[i] - supply[i]);
+            if (volume == 0) {
+                continue;
+            }
+            if (bestPrice == null || volume > bestVolume
+                    || (volume == bestVolume && imbalance < bestImbalance)
+                    || (volume == bestVolume && imbalance == bestImbalance && closer(price, bestPrice, referencePrice))) {
+                bestPrice = price;
+                bestVolume = volume;
+                bestImbalance = imbalance;
+            }
+        }
+        if (bestPrice == null) {
+            return null;
+        }
+
+        BigDecimal clearingPrice = bestPrice;
+        List<OrderVO> eligibleBuys = buys.stream()
+                .filter(o -> o.getOrderPricePerShare().compareTo(clearingPrice) >= 0)
+                .sorted(Comparator.comparing(OrderVO::getOrderPricePerShare).reversed().thenComparing(TIME_PRIORITY))
+                .toList();
+        List<OrderVO> eligibleSells = sells.stream()
+                .filter(o -> o.getOrderPricePerShare().compareTo(clearingPrice) <= 0)
+                .sorted(Comparator.comparing(OrderVO::getOrderPricePerShare).thenComparing(TIME_PRIORITY))
+                .toList();
+
+        List<Fill> fills = new ArrayList<>();
+        int b = 0;
+        int s = 0;
+        int buyLeft = eligibleBuys.get(0).getRemainingShareCount();
+        int sellLeft = eligibleSells.get(0).getRemainingShareCount();
+        long volumeLeft = bestVolume;
+        while (volumeLeft > 0 && b < eligibleBuys.size() && s < eligibleSells.size()) {
+            int count = (int) Math.min(volumeLeft, Math.min(buyLeft, sellLeft));
+            fills.add(new Fill(eligibleBuys.get(b), eligibleSells.get(s), count));
+            volumeLeft -= count;
+            buyLeft -= count;
+            sellLeft -= count;
+            if (buyLeft == 0 && ++b < eligibleBuys.size()) {
+                buyLeft = eligibleBuys.get(b).getRemainingShareCount();
+            }
+            if (sellLeft == 0 && ++s < eligibleSells.size()) {
+                sellLeft = eligibleSells.get(s).getRemainingShareCount();
+            }
+        }
+        return new Result(clearingPrice, bestVolume, fills);
+    }
+
+    // candidate가 current보다 기준가에 더 가까운지 (기준가가 없거나 같은 거리면 낮은 가격 우선 - 후보는 오름차순으로 들어옴)
+    private static boolean closer(BigDecimal candidate, BigDecimal current, BigDecimal referencePrice) {
+        if (referencePrice == null) {
+            return false;
+        }
+        return candidate.subtract(referencePrice).abs().compareTo(current.subtract(referencePrice).abs()) < 0;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final BigDecimal price;
+        private final long volume;
+        private final List<Fill> fills;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Fill {
+        private final OrderVO buyOrder;
+        private final OrderVO sellOrder;
+        private final int count;
+    }
+}
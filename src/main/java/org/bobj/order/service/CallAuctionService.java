@@ -0,0 +1,108 @@
+package org.bobj.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.common.executor.ExecutorRegistry;
+import org.bobj.order.domain.SessionPhase;
+import org.bobj.order.mapper.OrderMapper;
+import org.bobj.order.producer.OrderQueueProducer;
+import org.bobj.orderbook.service.OrderBookWebSocketService;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시가 단일가 매매(동시호가) 진행
+ * - 장 시작 전(PRE_OPEN)에 접수된 주문은 매칭 큐에 넣지 않고, 펀딩 ID만 대기 집합(Redis)에 표시한다.
+ * - 장이 열리면 대기 중인 펀딩마다 미체결 주문 전체를 한 가격으로 한 번에 체결한 뒤 대기 표시를 지운다.
+ * - 표시가 남아 있는 동안 들어온 정규장 주문도 큐에 넣지 않으며, 단일가 매매가 끝난 뒤 한꺼번에 큐에 넣는다.
+ *   (주문 핸들러는 커밋 후 표시를 확인하고, 여기서는 표시를 지운 뒤 주문을 조회하므로 어느 쪽에서든 한 번은 큐에 들어간다)
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class CallAuctionService {
+
+    private static final String PENDING_KEY = "order:auction:pending";
+    // 단일가 매매 조회 시점에 아직 커밋되지 않았던 주문까지 다시 큐에 넣기 위한 여유 시간
+    private static final Duration SWEEP_MARGIN = Duration.ofSeconds(30);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OrderMatchingService orderMatchingService;
+    private final OrderMapper orderMapper;
+    private final OrderQueueProducer orderQueueProducer;
+    private final TradingCalendarService tradingCalendarService;
+    private final OrderBookWebSocketService orderBookWebSocketService;
+    private final ExecutorRegistry executorRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 장 시작 전 주문 접수 표시 (주문 커밋 후 호출)
+    public void markPending(Long fundingId) {
+        stringRedisTemplate.opsForSet().add(PENDING_KEY, String.valueOf(fundingId));
+    }
+
+    // 단일가 매매 대기 중인 펀딩인지 (Redis 장애 시에는 연속 매칭으로 진행)
+    public boolean isPending(Long fundingId) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(PENDING_KEY, String.valueOf(fundingId)));
+        } catch (Exception e) {
+            log.warn("단일가 매매 대기 여부 확인 실패 - 펀딩 ID: {}, 오류: {}", fundingId, e.getMessage());
+            return false;
+        }
+    }
+
+    // 장이 열린 대기 펀딩의 단일가 매매 실행 (스케줄러 스레드는 막지 않고, DB 배치 작업과 섞이지 않도록 전용 풀에서 실행)
+    public void runDueAuctions() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executorRegistry.get(ExecutorRegistry.AUCTION).execute(() -> {
+                try {
+                    Set<String> pending = stringRedisTemplate.opsForSet().members(PENDING_KEY);
+                    if (pending == null) {
+                        return;
+                    }
+                    for (String fundingIdStr : pending) {
+                        Long fundingId = Long.valueOf(fundingIdStr);
+                        // 정규장일 때만 실행 - 장 마감/휴장에 남은 표시(실패 후 재시도, 마감을 넘긴 중단 등)는 다음 개장까지 둔다
+                        if (tradingCalendarService.currentPhase(fundingId) == SessionPhase.CONTINUOUS) {
+                            runAuction(fundingId);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.error("단일가 매매 대상 조회 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void runAuction(Long fundingId) {
+        LocalDateTime sweepFrom = LocalDateTime.now().minus(SWEEP_MARGIN);
+        try {
+            orderMatchingService.processCallAuction(fundingId);
+        } catch (Exception e) {
+            // 대기 표시를 남겨 다음 실행에서 다시 시도
+            log.error("단일가 매매 실패 - 펀딩 ID: {}", fundingId, e);
+            return;
+        }
+
+        stringRedisTemplate.opsForSet().remove(PENDING_KEY, String.valueOf(fundingId));
+
+        // 단일가 매매 직전/진행 중에 들어온 주문은 연속 매칭으로 넘김 (이미 체결된 주문은 소비 시 걸러짐)
+        List<Long> lateOrderIds = orderMapper.findOpenOrderIdsCreatedSince(fundingId, sweepFrom);
+        orderQueueProducer.pushOrders(fundingId, lateOrderIds);
+        orderBookWebSocketService.requestPublish(fundingId);
+    }
+}
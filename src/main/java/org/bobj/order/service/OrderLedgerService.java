@@ -0,0 +1,261 @@
+package org.bobj.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.order.domain.OrderType;
+import org.bobj.order.domain.OrderVO;
+import org.bobj.order.mapper.OrderMapper;
+import org.bobj.point.domain.PointVO;
+import org.bobj.point.repository.PointRepository;
+import org.bobj.share.mapper.ShareMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 사용자별 주문 가능 포인트/주식 장부 (메모리)
+ * - 잔고(포인트, 보유 주식)는 커밋된 DB 값을 잠금 없이 읽고, 미체결 주문이 묶어둔 포인트/주식(예약분)은 주문 ID별로 메모리에 둔다.
+ * - 주문 접수 시 예약하고(트랜잭션 롤백 시 해제), 체결/취소가 커밋되면 주문의 남은 수량 기준으로 예약분을 다시 맞춘다.
+ *   남은 수량을 절대값으로 반영하므로 같은 체결이 두 번 반영돼도 결과가 같다.
+ * - 사용자 장부는 처음 사용할 때 DB의 미체결 주문으로 초기화되고, 예약이 모두 빠지면 메모리에서 제거된다.
+ *   남아 있는 장부도 RESYNC_INTERVAL_MS마다 DB의 미체결 주문으로 다시 맞추므로, 놓친 체결/취소 반영이 계속 남지 않는다.
+ * - 주문 검증은 사용자 장부 단위로만 직렬화되고 DB 행 잠금(FOR UPDATE)은 잡지 않는다.
+ * - 장부는 인스턴스 메모리에 있으므로, 서버가 여러 대라면 같은 사용자의 주문이 한 인스턴스로 라우팅되어야 한다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderLedgerService {
+
+    static final long RESYNC_INTERVAL_MS = 60_000;
+
+    private final OrderMapper orderMapper;
+    private final PointRepository pointRepository;
+    private final ShareMapper shareMapper;
+
+    private final Map<Long, Account> accounts = new ConcurrentHashMap<>();
+
+    /**
+     * 신규 주문(저장 직후, 같은 트랜잭션)의 포인트/주식을 예약한다.
+     * 주문 가능 수량을 넘으면 예외를 던져 주문 저장까지 롤백시킨다.
+     */
+    public void reserve(OrderVO order) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        withAccount(order.getUserId(), account -> {
+            if (order.getOrderType() == OrderType.BUY) {
+                BigDecimal cost = order.getOrderPricePerShare().multiply(BigDecimal.valueOf(order.getOrderShareCount()));
+                BigDecimal available = currentPoints(order.getUserId()).subtract(account.reservedPoints(order.getOrderId()));
+                if (available.compareTo(cost) < 0) {
+                    throw new IllegalArgumentException("주문 가능 포인트가 부족합니다.");
+                }
+            } else {
+                Integer held = shareMapper.findUserShareCount(order.getUserId(), order.getFundingId());
+                if (held == null || held == 0) {
+                    throw new IllegalStateException("해당 종목을 보유하고 있지 않습니다.");
+                }
+                int available = held - account.reservedShares(order.getFundingId(), order.getOrderId());
+                if (available < order.getOrderShareCount()) {
+                    throw new IllegalArgumentException("보유 주식 수량보다 많은 수량을 매도할 수 없습니다.");
+                }
+            }
+            Reservation reservation = new Reservation(order.getFundingId(), order.getOrderType(),
+                    order.getOrderPricePerShare(), order.getOrderShareCount());
+            // 커밋 전 주문은 DB에 보이지 않으므로 재동기화 때 지워지지 않게 표시
+            reservation.committed = !inTransaction;
+            account.reservations.put(order.getOrderId(), reservation);
+            return null;
+        });
+
+        // 주문 저장이 커밋되면 재동기화 대상으로 전환, 롤백되면 예약 해제
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        markCommitted(order.getUserId(), order.getOrderId());
+                    } else {
+                        release(order.getUserId(), order.getOrderId());
+                    }
+                }
+            });
+        }
+    }
+
+    // 체결 커밋 후 주문의 남은 수량으로 예약분 갱신 (0이면 해제)
+    public void updateRemaining(Long userId, Long orderId, int remainingShareCount) {
+        updateIfPresent(userId, account -> {
+            Reservation reservation = account.reservations.get(orderId);
+            if (reservation == null) {
+                return;
+            }
+            if (remainingShareCount <= 0) {
+                account.reservations.remove(orderId);
+            } else {
+                reservation.remaining = Math.min(reservation.remaining, remainingShareCount);
+            }
+        });
+    }
+
+    // 주문 취소/롤백 시 예약 해제
+    public void release(Long userId, Long orderId) {
+        updateIfPresent(userId, account -> account.reservations.remove(orderId));
+    }
+
+    // 미체결 매수 주문에 묶인 포인트 (출금/청약 등 다른 포인트 차감 시 확인용)
+    public BigDecimal getReservedPoints(Long userId) {
+        Account account = accounts.get(userId);
+        if (account != null) {
+            synchronized (account) {
+                if (!account.retired) {
+                    return account.reservedPoints(null);
+                }
+            }
+        }
+        // 장부가 없는 사용자는 DB에서 바로 계산하고 장부를 만들지 않음
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderVO open : orderMapper.findOpenOrdersByUserId(userId)) {
+            if (open.getOrderType() == OrderType.BUY) {
+                total = total.add(open.getOrderPricePerShare().multiply(BigDecimal.valueOf(open.getRemainingShareCount())));
+            }
+        }
+        return total;
+    }
+
+    // 메모리에 남아 있는 사용자 장부 수 (모니터링/테스트용)
+    int accountCount() {
+        return accounts.size();
+    }
+
+    private BigDecimal currentPoints(Long userId) {
+        PointVO point = pointRepository.findByUserId(userId);
+        return point != null ? point.getAmount() : BigDecimal.ZERO;
+    }
+
+    private void markCommitted(Long userId, Long orderId) {
+        updateIfPresent(userId, account -> {
+            Reservation reservation = account.reservations.get(orderId);
+            if (reservation != null) {
+                reservation.committed = true;
+            }
+        });
+    }
+
+    /**
+     * 사용자 장부를 잠그고 action 실행 (없으면 DB로 초기화, 오래됐으면 재동기화)
+     * 실행 후 예약이 비면 장부를 제거한다. 제거된 장부를 잡은 스레드는 새 장부로 다시 시도한다.
+     */
+    private <T> T withAccount(Long userId, Function<Account, T> action) {
+        while (true) {
+            Account account = accounts.computeIfAbsent(userId, id -> new Account());
+            synchronized (account) {
+                if (account.retired) {
+                    continue;
+                }
+                if (System.currentTimeMillis() - account.syncedAt >= RESYNC_INTERVAL_MS) {
+                    resync(userId, account);
+                }
+                try {
+                    return action.apply(account);
+                } finally {
+                    retireIfEmpty(userId, account);
+                }
+            }
+        }
+    }
+
+    // 이미 있는 장부에만 반영 (없으면 다음 사용 시 DB에서 다시 읽으므로 할 일 없음)
+    private void updateIfPresent(Long userId, Consumer<Account> action) {
+        Account account = accounts.get(userId);
+        if (account == null) {
+            return;
+        }
+        synchronized (account) {
+            if (account.retired) {
+                return;
+            }
+            action.accept(account);
+            retireIfEmpty(userId, account);
+        }
+    }
+
+    // 커밋된 예약은 DB의 미체결 주문으로 교체하고, 아직 커밋 전인 예약은 유지
+    private void resync(Long userId, Account account) {
+        Map<Long, Reservation> reservations = new HashMap<>();
+        for (OrderVO open : orderMapper.findOpenOrdersByUserId(userId)) {
+            reservations.put(open.getOrderId(), new Reservation(open.getFundingId(), open.getOrderType(),
+                    open.getOrderPricePerShare(), open.getRemainingShareCount()));
+        }
+        account.reservations.forEach((orderId, reservation) -> {
+            if (!reservation.committed) {
+                reservations.putIfAbsent(orderId, reservation);
+            }
+        });
+        if (account.syncedAt > 0 && !reservations.keySet().equals(account.reservations.keySet())) {
+            log.warn("주문 장부 재동기화로 예약이 변경됨 - userId: {}, 이전: {}건, 현재: {}건",
+                    userId, account.reservations.size(), reservations.size());
+        }
+        account.reservations.clear();
+        account.reservations.putAll(reservations);
+        account.syncedAt = System.currentTimeMillis();
+        log.debug("주문 장부 동기화 - userId: {}, 미체결 주문: {}건", userId, reservations.size());
+    }
+
+    private void retireIfEmpty(Long userId, Account account) {
+        if (account.reservations.isEmpty()) {
+            account.retired = true;
+            accounts.remove(userId, account);
+        }
+    }
+
+    private static final class Account {
+        private final Map<Long, Reservation> reservations = new HashMap<>();   // 주문 ID → 예약
+        private long syncedAt;          // 마지막 DB 동기화 시각 (0이면 미초기화)
+        private boolean retired;        // 맵에서 제거됨 - 이 객체로는 더 이상 갱신하지 않음
+
+        // excludeOrderId: 초기화 시 이미 포함된 현재 주문은 중복 계산하지 않음
+        private BigDecimal reservedPoints(Long excludeOrderId) {
+            BigDecimal total = BigDecimal.ZERO;
+            for (Map.Entry<Long, Reservation> entry : reservations.entrySet()) {
+                Reservation r = entry.getValue();
+                if (r.orderType == OrderType.BUY && !entry.getKey().equals(excludeOrderId)) {
+                    total = total.add(r.price.multiply(BigDecimal.valueOf(r.remaining)));
+                }
+            }
+            return total;
+        }
+
+        private int reservedShares(Long fundingId, Long excludeOrderId) {
+            int total = 0;
+            for (Map.Entry<Long, Reservation> entry : reservations.entrySet()) {
+                Reservation r = entry.getValue();
+                if (r.orderType == OrderType.SELL && r.fundingId.equals(fundingId)
+                        && !entry.getKey().equals(excludeOrderId)) {
+                    total += r.remaining;
+                }
+            }
+            return total;
+        }
+    }
+
+    private static final class Reservation {
+        private final Long fundingId;
+        private final OrderType orderType;
+        private final BigDecimal price;
+        private int remaining;
+        private boolean committed = true;
+
+        private Reservation(Long fundingId, OrderType orderType, BigDecimal price, int remaining) {
+            this.fundingId = fundingId;
+            this.orderType = orderType;
+            this.price = price;
+            this.remaining = remaining;
+        }
+    }
+}
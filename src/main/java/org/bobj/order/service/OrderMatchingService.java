@@ -15,12 +15,19 @@ import org.bobj.share.domain.ShareVO;
 import org.bobj.share.mapper.ShareMapper;
 import org.bobj.trade.domain.TradeVO;
 import org.bobj.trade.mapper.TradeMapper;
+import org.bobj.trade.service.LastTradePriceService;
+import org.bobj.trade.service.TradeCandleService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Log4j2
@@ -30,6 +37,9 @@ public class OrderMatchingService {
 
     private final OrderMapper orderMapper;
     private final TradeMapper tradeMapper;
+    private final TradeCandleService tradeCandleService;
+    private final LastTradePriceService lastTradePriceService;
+    private final OrderLedgerService orderLedgerService;
     private final ShareMapper shareMapper;
 
     private final PointService pointService;
@@ -57,10 +67,14 @@ public class OrderMatchingService {
         log.debug("🔍 매칭 대상 주문 수: {}", matchingOrders.size());
 
         // 3. 매칭 조건이 되는 주문과 체결 시도
-        int remainingNewOrderCount = newOrder.getOrderShareCount(); // 신규 주문의 남은 수량
+        // 신규 주문의 남은 수량 (큐에 다시 들어온 부분 체결 주문은 원 주문 수량이 아닌 잔여 수량부터)
+        int remainingNewOrderCount = newOrder.getRemainingShareCount() != null
+                ? newOrder.getRemainingShareCount() : newOrder.getOrderShareCount();
 
         // 체결 내역 리스트
         List<TradeVO> trades = new ArrayList<>();
+        // 체결된 주문 (커밋 후 남은 수량 기준으로 주문 장부 예약 갱신)
+        List<OrderVO> filledOrders = new ArrayList<>();
 
         for (OrderVO matchedOrder : matchingOrders) {
             if (remainingNewOrderCount <= 0) {
@@ -90,13 +104,29 @@ public class OrderMatchingService {
                     ? newOrder.getUserId()
                     : matchedOrder.getUserId();
 
+            // 2-3-1. 정산 가능 여부 확인 - 부족한 쪽이 상대 주문이면 그 주문만 건너뛰고, 신규 주문이면 매칭 종료
+            //        (주문 장부 예약으로 정상 흐름에서는 발생하지 않으며, 매칭 전체를 롤백하지 않기 위한 안전장치)
+            boolean buyerShort = !hasPoints(buyerUserId, actualTradePrice.multiply(BigDecimal.valueOf(tradeCount)));
+            boolean sellerShort = !hasShares(sellerUserId, newOrder.getFundingId(), tradeCount);
+            if (buyerShort || sellerShort) {
+                boolean newOrderShort = newOrder.getOrderType() == OrderType.BUY ? buyerShort : sellerShort;
+                log.warn("정산 불가 주문 건너뜀 - 신규 주문: {}, 상대 주문: {}, 매수자 부족: {}, 매도자 부족: {}",
+                        newOrder.getOrderId(), matchedOrder.getOrderId(), buyerShort, sellerShort);
+                if (newOrderShort) {
+                    break;
+                }
+                continue;
+            }
+
             TradeVO tradeVO = TradeVO.builder()
+                    .fundingId(newOrder.getFundingId())
                     .buyOrderId(buyOrderId)
                     .sellOrderId(sellOrderId)
                     .buyerUserId(buyerUserId)
                     .sellerUserId(sellerUserId)
                     .tradeCount(tradeCount)
                     .tradePricePerShare(actualTradePrice)
+                    .createdAt(LocalDateTime.now()) // 캔들 구간 계산과 같은 시각을 저장
                     .build();
 
             tradeMapper.insert(tradeVO);
@@ -124,6 +154,8 @@ public class OrderMatchingService {
                     matchedOrderStatus,
                     newMatchedOrderRemainingCount
             );
+            matchedOrder.setRemainingShareCount(newMatchedOrderRemainingCount);
+            filledOrders.add(matchedOrder);
 
             // 2-5. 사용자 자산(주식 수량 및 포인트) 업데이트
             //  매수자 포인트 업데이트
@@ -132,6 +164,17 @@ public class OrderMatchingService {
             processSellTradeAssets(sellerUserId, newOrder.getFundingId(), tradeCount, actualTradePrice);
         }
 
+        // 체결 캔들(1분/1시간/1일) 증분 반영 - 체결과 같은 트랜잭션
+        tradeCandleService.applyTrades(newOrder.getFundingId(), trades);
+
+        // 최근 체결가 캐시 갱신 (커밋 후)
+        if (!trades.isEmpty()) {
+            lastTradePriceService.recordTrade(trades.get(trades.size() - 1));
+            newOrder.setRemainingShareCount(remainingNewOrderCount);
+            filledOrders.add(newOrder);
+            updateLedgerAfterCommit(filledOrders);
+        }
+
         // 알림 전송 단계
         if (!trades.isEmpty()) {
 
@@ -161,6 +204,122 @@ public class OrderMatchingService {
         return remainingNewOrderCount;
     }
 
+    /**
+     * 시가 단일가 매매 - 장 시작 전 접수된 주문을 포함한 미체결 주문 전체를 한 가격으로 한 번에 체결한다.
+     * 주문마다 순차 매칭하는 대신 체결가를 한 번 계산하고, 주문별 상태 갱신도 주문당 한 번만 한다.
+     * @return 체결 수량 (체결이 없으면 0)
+     */
+    @Transactional
+    public long processCallAuction(Long fundingId) {
+        List<OrderVO> openOrders = orderMapper.findOpenOrdersByFundingIdForUpdate(fundingId);
+        CallAuctionMatcher.Result result = CallAuctionMatcher.uncross(openOrders,
+                lastTradePriceService.getLastPrice(fundingId));
+        if (result == null) {
+            log.info("단일가 매매 체결 없음 (fundingId={}, 미체결 주문 수={})", fundingId, openOrders.size());
+            return 0;
+        }
+
+        BigDecimal price = result.getPrice();
+        LocalDateTime tradedAt = LocalDateTime.now();
+        List<TradeVO> trades = new ArrayList<>();
+        Map<Long, OrderVO> filledOrders = new LinkedHashMap<>();   // 주문 ID → 주문 (남은 수량 반영)
+
+        for (CallAuctionMatcher.Fill fill : result.getFills()) {
+            OrderVO buyOrder = fill.getBuyOrder();
+            OrderVO sellOrder = fill.getSellOrder();
+            int tradeCount = fill.getCount();
+
+            // 정산 불가 체결은 건너뜀 (주문 장부 예약으로 정상 흐름에서는 발생하지 않음)
+            if (!hasPoints(buyOrder.getUserId(), price.multiply(BigDecimal.valueOf(tradeCount)))
+                    || !hasShares(sellOrder.getUserId(), fundingId, tradeCount)) {
+                log.warn("단일가 매매 정산 불가 체결 건너뜀 - 매수 주문: {}, 매도 주문: {}",
+                        buyOrder.getOrderId(), sellOrder.getOrderId());
+                continue;
+            }
+
+            TradeVO tradeVO = TradeVO.builder()
+                    .fundingId(fundingId)
+                    .buyOrderId(buyOrder.getOrderId())
+                    .sellOrderId(sellOrder.getOrderId())
+                    .buyerUserId(buyOrder.getUserId())
+                    .sellerUserId(sellOrder.getUserId())
+                    .tradeCount(tradeCount)
+                    .tradePricePerShare(price)
+                    .createdAt(tradedAt)
+                    .build();
+            tradeMapper.insert(tradeVO);
+            trades.add(tradeVO);
+
+            buyOrder.setRemainingShareCount(buyOrder.getRemainingShareCount() - tradeCount);
+            sellOrder.setRemainingShareCount(sellOrder.getRemainingShareCount() - tradeCount);
+            filledOrders.put(buyOrder.getOrderId(), buyOrder);
+            filledOrders.put(sellOrder.getOrderId(), sellOrder);
+
+            processBuyTradeAssets(buyOrder.getUserId(), fundingId, tradeCount, price);
+            processSellTradeAssets(sellOrder.getUserId(), fundingId, tradeCount, price);
+        }
+
+        if (trades.isEmpty()) {
+            return 0;
+        }
+
+        // 주문별 최종 남은 수량으로 한 번씩만 갱신
+        for (OrderVO order : filledOrders.values()) {
+            orderMapper.updateOrderBookStatusAndRemainingCount(
+                    order.getOrderId(),
+                    order.getRemainingShareCount() == 0 ? "FULLY_FILLED" : "PARTIALLY_FILLED",
+                    order.getRemainingShareCount());
+        }
+
+        tradeCandleService.applyTrades(fundingId, trades);
+        lastTradePriceService.recordTrade(trades.get(trades.size() - 1));
+        updateLedgerAfterCommit(new ArrayList<>(filledOrders.values()));
+
+        // 사용자별 합산 알림 1번씩
+        String title = fundingService.getPropertyTitleByFundingId(fundingId) + " 거래가 체결되었어요!";
+        Map<Long, Integer> countByUser = new LinkedHashMap<>();
+        for (TradeVO trade : trades) {
+            countByUser.merge(trade.getBuyerUserId(), trade.getTradeCount(), Integer::sum);
+            countByUser.merge(trade.getSellerUserId(), trade.getTradeCount(), Integer::sum);
+        }
+        countByUser.forEach((userId, count) ->
+                notificationService.sendNotificationAndSave(userId, title, count + "주가 " + price + "원에 체결되었습니다."));
+
+        long volume = trades.stream().mapToLong(TradeVO::getTradeCount).sum();
+        log.info("단일가 매매 체결 완료 (fundingId={}, 체결가={}, 체결 수량={}, 체결 건수={})",
+                fundingId, price, volume, trades.size());
+        return volume;
+    }
+
+    // 커밋 후 체결된 주문들의 예약분을 남은 수량 기준으로 갱신
+    private void updateLedgerAfterCommit(List<OrderVO> filledOrders) {
+        Runnable update = () -> filledOrders.forEach(order ->
+                orderLedgerService.updateRemaining(order.getUserId(), order.getOrderId(), order.getRemainingShareCount()));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    // 매수자 포인트 충분 여부 (행 잠금 - 이후 정산에서 같은 행을 갱신)
+    private boolean hasPoints(Long userId, BigDecimal amount) {
+        PointVO point = pointService.findByUserIdForUpdate(userId);
+        return point != null && point.getAmount().compareTo(amount) >= 0;
+    }
+
+    // 매도자 보유 주식 충분 여부 (행 잠금 - 이후 정산에서 같은 행을 갱신)
+    private boolean hasShares(Long userId, Long fundingId, int shareCount) {
+        ShareVO share = shareMapper.findUserShareByFundingIdForUpdate(userId, fundingId);
+        return share != null && share.getShareCount() >= shareCount;
+    }
+
     // 매수자 포인트 업데이트
     private void processBuyTradeAssets(Long userId, Long fundingId, int tradedCount, BigDecimal actualTradePrice) {
         // 1. 사용자 포인트 감소
@@ -7,17 +7,19 @@ import org.bobj.common.exception.CustomException;
 import org.bobj.order.domain.OrderVO;
 import org.bobj.order.domain.OrderStatus;
 import org.bobj.order.domain.OrderType;
+import org.bobj.order.domain.SessionPhase;
 import org.bobj.order.dto.request.OrderRequestDTO;
 import org.bobj.order.dto.response.OrderResponseDTO;
+import org.bobj.order.event.OrderBookChangedEvent;
+import org.bobj.order.event.OrderCancelledEvent;
 import org.bobj.order.event.OrderPlacedEvent;
 import org.bobj.order.mapper.OrderMapper;
 import org.bobj.order.producer.OrderQueueProducer;
-import org.bobj.share.mapper.ShareMapper;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalTime;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -29,7 +31,8 @@ import java.util.Optional;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderMapper orderMapper;
-    private final ShareMapper shareMapper;
+    private final OrderLedgerService orderLedgerService;
+    private final TradingCalendarService tradingCalendarService;
 
     //주문 체결 서비스
     private final OrderQueueProducer orderQueueProducer;
@@ -47,34 +50,16 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public OrderResponseDTO placeOrder(Long userId, OrderRequestDTO orderRequestDTO) {
 
-        // 1. 거래 가능 시간 확인 (서비스 계층으로 이동)
-        LocalTime now = LocalTime.now();
-        LocalTime start = LocalTime.of(9, 0);
-        LocalTime end = LocalTime.of(15, 0);
-
-        if (now.isBefore(start) || now.isAfter(end)) {
-            throw new IllegalStateException("거래 가능 시간(09:00~15:00)이 아닙니다.");
+        // 1. 거래 가능 시간 확인 - 휴장일/장 종료면 거절, 장 시작 전(동시호가)은 접수만 하고 시가 단일가 매매에서 체결
+        Long fundingId = orderRequestDTO.getFundingId();
+        if (tradingCalendarService.currentPhase(fundingId) == SessionPhase.CLOSED) {
+            throw new IllegalStateException(tradingCalendarService.closedMessage(fundingId, LocalDate.now()));
         }
 
         OrderVO orderVO = orderRequestDTO.toVo();
 
         orderVO.setUserId(userId);
 
-        // 2. 매도인일 경우 주식 보유 수량 확인
-        if ("SELL".equalsIgnoreCase(String.valueOf(orderVO.getOrderType()))) {
-            Integer userShareCount = shareMapper.findUserShareCount(orderVO.getUserId(), orderVO.getFundingId());
-
-            // 보유 수량이 없는 경우
-            if (userShareCount == null || userShareCount == 0) {
-                throw new IllegalStateException("해당 종목을 보유하고 있지 않습니다.");
-            }
-
-            // 수량은 있으나 매도 수량보다 적은 경우
-            if (userShareCount < orderVO.getOrderShareCount()) {
-                throw new IllegalArgumentException("보유 주식 수량보다 많은 수량을 매도할 수 없습니다.");
-            }
-        }
-
         // 3. 매수인일 경우, 총 발행 주식 수보다 많은 수량을 주문하는 경우 체크
 //        if ("BUY".equals(orderBookVO.getOrderType())) {
 //            int totalIssuedShares = mapper.findTotalIssuedShares(orderBookVO.getFundingId());
@@ -94,10 +79,15 @@ public class OrderServiceImpl implements OrderService {
         // 주문 저장
         orderMapper.create(orderVO);
 
+        // 2. 주문 가능 포인트(매수)/주식(매도) 확인 및 예약 - DB 잠금 없이 사용자 장부에서 처리, 부족하면 주문 저장도 롤백
+        orderLedgerService.reserve(orderVO);
+
         //레디스 큐를 이용하여 주문 체결 로직을 비동기적으로 처리
 //        orderQueueProducer.pushOrder(orderVO.getFundingId(), orderVO.getOrderId());
 
         publisher.publishEvent(new OrderPlacedEvent(orderVO.getFundingId(), orderVO.getOrderId()));
+        // 호가창 갱신은 커밋 후 별도 스레드에서 발행
+        publisher.publishEvent(new OrderBookChangedEvent(orderVO.getFundingId()));
 
         return getOrderById(orderVO.getOrderId());
     }
@@ -133,6 +123,15 @@ public class OrderServiceImpl implements OrderService {
 
         orderMapper.cancelOrder(orderId);
 
+        // 커밋 후 대기 큐 제외 표시 및 호가창 차감 발행
+        publisher.publishEvent(new OrderCancelledEvent(
+                orderBook.getUserId(),
+                orderBook.getFundingId(),
+                orderId,
+                orderBook.getOrderType(),
+                orderBook.getOrderPricePerShare(),
+                orderBook.getRemainingShareCount()));
+
         return orderBook.getFundingId();
     }
 }
@@ -0,0 +1,84 @@
+package org.bobj.order.service;
+
+import org.bobj.common.cache.LocalTtlCache;
+import org.bobj.order.domain.SessionPhase;
+import org.bobj.order.domain.TradingSessionVO;
+import org.bobj.order.mapper.TradingCalendarMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+/**
+ * 거래 세션 달력
+ * - 주말과 market_holidays에 등록된 날은 휴장
+ * - 세션 시간은 funding_trading_sessions의 펀딩별 설정을, 없으면 기본 세션(trading.session.*)을 사용
+ * - 달력/세션은 자주 바뀌지 않으므로 로컬 캐시에 두고 주문마다 DB를 조회하지 않는다.
+ */
+@Service
+public class TradingCalendarService {
+
+    private static final Duration HOLIDAY_TTL = Duration.ofMinutes(10);
+    private static final Duration SESSION_TTL = Duration.ofMinutes(1);
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final TradingCalendarMapper tradingCalendarMapper;
+    private final TradingSessionVO defaultSession;
+
+    private final LocalTtlCache<LocalDate, Boolean> holidayCache = new LocalTtlCache<>(100);
+    private final LocalTtlCache<Long, Optional<TradingSessionVO>> sessionCache = new LocalTtlCache<>(10_000);
+
+    public TradingCalendarService(TradingCalendarMapper tradingCalendarMapper,
+                                  @Value("${trading.session.pre-open:08:30}") String preOpenTime,
+                                  @Value("${trading.session.open:09:00}") String openTime,
+                                  @Value("${trading.session.close:15:00}") String closeTime) {
+        this.tradingCalendarMapper = tradingCalendarMapper;
+        this.defaultSession = TradingSessionVO.builder()
+                .preOpenTime(preOpenTime.isBlank() ? null : LocalTime.parse(preOpenTime))
+                .openTime(LocalTime.parse(openTime))
+                .closeTime(LocalTime.parse(closeTime))
+                .build();
+    }
+
+    public SessionPhase currentPhase(Long fundingId) {
+        return phaseAt(fundingId, LocalDateTime.now());
+    }
+
+    public SessionPhase phaseAt(Long fundingId, LocalDateTime time) {
+        if (!isTradingDay(time.toLocalDate())) {
+            return SessionPhase.CLOSED;
+        }
+        return getSession(fundingId).phaseAt(time.toLocalTime());
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            return false;
+        }
+        Boolean holiday = holidayCache.get(date, () -> tradingCalendarMapper.countHoliday(date) > 0, h -> HOLIDAY_TTL);
+        return !holiday;
+    }
+
+    public TradingSessionVO getSession(Long fundingId) {
+        return sessionCache.get(fundingId,
+                () -> Optional.ofNullable(tradingCalendarMapper.findSessionByFundingId(fundingId)),
+                s -> SESSION_TTL)
+                .orElse(defaultSession);
+    }
+
+    // 주문 불가 안내 메시지 (예: 거래 가능 시간(08:30~15:00)이 아닙니다.)
+    public String closedMessage(Long fundingId, LocalDate date) {
+        if (!isTradingDay(date)) {
+            return "휴장일에는 주문할 수 없습니다.";
+        }
+        TradingSessionVO session = getSession(fundingId);
+        LocalTime from = session.getPreOpenTime() != null ? session.getPreOpenTime() : session.getOpenTime();
+        return "거래 가능 시간(" + from.format(TIME_FORMAT) + "~" + session.getCloseTime().format(TIME_FORMAT) + ")이 아닙니다.";
+    }
+}
@@ -0,0 +1,37 @@
+package org.bobj.orderbook.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bobj.order.domain.OrderType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ApiModel(description = "호가 변경분 DTO")
+public class OrderBookDeltaDTO {
+
+    @ApiModelProperty(value = "펀딩 ID", example = "1", required = true)
+    private Long fundingId;
+
+    @ApiModelProperty(value = "호가 구분 (BUY, SELL)", example = "BUY", required = true)
+    private OrderType orderType;
+
+    @ApiModelProperty(value = "호가 가격", example = "5000.0", required = true)
+    private BigDecimal price;
+
+    @ApiModelProperty(value = "수량 변화 (취소 시 음수)", example = "-10", required = true)
+    private Integer quantityDelta;
+
+    @ApiModelProperty(value = "변경 시각", example = "2025-07-25T10:00:00", required = true)
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime timestamp;
+}
@@ -14,7 +14,7 @@ import org.bobj.orderbook.dto.response.OrderBookResponseDTO;
 import org.bobj.property.domain.PropertyVO;
 import org.bobj.property.mapper.PropertyMapper;
 import org.bobj.trade.domain.TradeVO;
-import org.bobj.trade.mapper.TradeMapper;
+import org.bobj.trade.service.LastTradePriceService;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -35,7 +35,7 @@ import java.util.stream.Collectors;
 public class OrderBookServiceImpl implements OrderBookService{
 
     private final FundingMapper fundingMapper;
-    private final TradeMapper tradeMapper;
+    private final LastTradePriceService lastTradePriceService;
     private final OrderMapper orderMapper;
 
     private final RedisTemplate<String, OrderBookResponseDTO> orderBookRedisTemplate;
@@ -58,7 +58,7 @@ public class OrderBookServiceImpl implements OrderBookService{
 
         // 2. 캐시 미스 시, 기존 로직으로 호가창 계산
         // 현재가 계산 (가장 최근의 체결 가격 조회)
-        BigDecimal latestTradePrice = tradeMapper.findLatestTradePriceByFundingId(fundingId);
+        BigDecimal latestTradePrice = lastTradePriceService.getLastPrice(fundingId);
         BigDecimal currentPrice;
         if (latestTradePrice != null) {
             currentPrice = latestTradePrice;
@@ -2,11 +2,15 @@ package org.bobj.orderbook.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.bobj.order.mapper.OrderMapper;
+import org.bobj.common.executor.ExecutorRegistry;
+import org.bobj.orderbook.dto.OrderBookDeltaDTO;
 import org.bobj.orderbook.dto.response.OrderBookResponseDTO;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Log4j2
 @Service
 @RequiredArgsConstructor
@@ -15,6 +19,50 @@ public class OrderBookWebSocketService {
     private final SimpMessagingTemplate messagingTemplate;
 
     private final OrderBookService orderBookService;
+    private final ExecutorRegistry executorRegistry;
+
+    // 발행 대기 중인 펀딩 ID - 대기 중에 들어온 요청은 한 번의 발행으로 합쳐진다.
+    private final Set<Long> pendingFundingIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 호가창 발행 요청 (호출 스레드를 막지 않음)
+     * - 같은 펀딩에 대한 발행이 이미 대기 중이면 추가 작업을 만들지 않는다.
+     * - 작업 시작 시 대기 표시를 먼저 지우므로, 계산 도중 들어온 변경은 다음 발행에 반영된다.
+     */
+    public void requestPublish(Long fundingId) {
+        if (!pendingFundingIds.add(fundingId)) {
+            return;
+        }
+        executorRegistry.get(ExecutorRegistry.REALTIME).execute(() -> {
+            pendingFundingIds.remove(fundingId);
+            try {
+                orderBookService.evictOrderBookCache(fundingId);
+            } catch (Exception e) {
+                log.warn("호가창 캐시 삭제 실패 - fundingId: {}, 오류: {}", fundingId, e.getMessage());
+            }
+            publishOrderBookUpdate(fundingId);
+        });
+    }
+
+    /**
+     * 호가 변경분 발행 (주문 취소 등)
+     * - delta는 "/topic/order-book/{fundingId}/delta"로 바로 보내 클라이언트가 즉시 반영할 수 있게 한다.
+     * - 전체 호가창은 캐시를 지우고 다시 계산해 보낸다. 캐시를 직접 고치면 동시 변경이 서로 덮어쓰거나,
+     *   이미 취소가 반영된 스냅샷에서 한 번 더 차감될 수 있기 때문이다. (연속 취소는 requestPublish에서 한 번으로 합쳐짐)
+     */
+    public void publishDelta(OrderBookDeltaDTO delta) {
+        executorRegistry.get(ExecutorRegistry.REALTIME).execute(() -> {
+            Long fundingId = delta.getFundingId();
+            try {
+                String destination = "/topic/order-book/" + fundingId + "/delta";
+                messagingTemplate.convertAndSend(destination, delta);
+                log.info("Order book delta published to topic {}: {}", destination, delta);
+            } catch (Exception e) {
+                log.error("Failed to publish order book delta for fundingId {}: {}", fundingId, e.getMessage(), e);
+            }
+            requestPublish(fundingId);
+        });
+    }
 
     // 호가창 업데이트를 웹소켓으로 발행
     public void publishOrderBookUpdate(Long fundingId) {
@@ -2,6 +2,7 @@ package org.bobj.point.mapper;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.bobj.point.domain.PointVO;
@@ -29,4 +30,8 @@ public interface PointMapper {
 
     // ✅ 추가: 여러 포인트를 한 번에 업데이트
     void bulkUpdate(@Param("points") List<PointVO> points);
+
+    // 여러 포인트에서 금액 차감 (잔액이 최소 잔액 미만인 행은 제외) - 차감된 행 수 반환
+    int bulkDeductIfSufficient(@Param("deductions") Map<Long, BigDecimal> deductions,
+                               @Param("minBalances") Map<Long, BigDecimal> minBalances);
 }
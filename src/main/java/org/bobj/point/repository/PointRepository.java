@@ -3,6 +3,7 @@ package org.bobj.point.repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.bobj.point.domain.PointVO;
 import org.bobj.point.mapper.PointMapper;
@@ -51,4 +52,8 @@ public class PointRepository {
     public void bulkUpdate(List<PointVO> points) {
         pointMapper.bulkUpdate(points);
     }
+
+    public int bulkDeductIfSufficient(Map<Long, BigDecimal> deductions, Map<Long, BigDecimal> minBalances) {
+        return pointMapper.bulkDeductIfSufficient(deductions, minBalances);
+    }
 }
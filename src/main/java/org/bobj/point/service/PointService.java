@@ -1,8 +1,10 @@
 package org.bobj.point.service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.bobj.order.service.OrderLedgerService;
 import org.bobj.point.domain.PointTransactionType;
 import org.bobj.point.domain.PointTransactionVO;
 import org.bobj.point.domain.PointVO;
@@ -22,6 +24,7 @@ public class PointService {
 
     private final PointRepository pointRepository;
     private final PointTransactionRepository pointTransactionRepository;
+    private final OrderLedgerService orderLedgerService;
 
     public PointVO findById(Long pointId) {
         return pointRepository.findById(pointId);
@@ -48,6 +51,11 @@ public class PointService {
     }
 
 
+    // 사용 가능 포인트 = 잔액 - 미체결 매수 주문 예약분
+    private BigDecimal availableAmount(PointVO point) {
+        return point.getAmount().subtract(orderLedgerService.getReservedPoints(point.getUserId()));
+    }
+
     public List<PointTransactionVO> findTransactionsByUserId(Long userId) {
         return pointTransactionRepository.findByUserId(userId);
     }
@@ -130,6 +138,107 @@ public class PointService {
         pointTransactionRepository.insert(tx);
     }
 
+    /**
+     * 배당금 일괄 지급 (청크 단위)
+     * 포인트 행을 한 번에 잠그고 CASE-WHEN 일괄 UPDATE + ALLOCATION 거래 일괄 INSERT
+     * 포인트 행이 없는 사용자는 새로 생성한다.
+     */
+    @Transactional
+    public void allocateDividendBulk(Map<Long, BigDecimal> dividendMap) {
+        applyBulk(dividendMap, PointTransactionType.ALLOCATION);
+    }
+
+    /**
+     * 배당금 지급 취소 (보상 처리)
+     * 지급했던 금액만큼 차감하고, ALLOCATION 타입의 음수 금액 거래로 기록
+     * 이미 배당금을 사용했거나 미체결 매수 주문에 묶여 사용 가능 포인트가 부족한 사용자는 차감 없이 남긴다.
+     * @return 회수하지 못한 사용자별 금액 (수동 처리 대상)
+     */
+    @Transactional
+    public Map<Long, BigDecimal> cancelDividendBulk(Map<Long, BigDecimal> dividendMap) {
+        Map<Long, BigDecimal> uncollected = new HashMap<>();
+        if (dividendMap.isEmpty()) return uncollected;
+
+        List<PointVO> points = pointRepository.findByUserIdsForUpdate(new ArrayList<>(dividendMap.keySet()));
+        Map<Long, PointVO> userIdToPoint = points.stream()
+                .collect(Collectors.toMap(PointVO::getUserId, p -> p));
+
+        Map<Long, BigDecimal> deductions = new HashMap<>();     // 포인트 ID → 차감액
+        Map<Long, BigDecimal> minBalances = new HashMap<>();    // 포인트 ID → 차감 후에도 남아야 할 예약분 포함 최소 잔액
+        List<PointTransactionVO> txs = new ArrayList<>();
+        for (Map.Entry<Long, BigDecimal> entry : dividendMap.entrySet()) {
+            PointVO point = userIdToPoint.get(entry.getKey());
+            // 미체결 매수 주문에 묶인 포인트까지 회수하면 체결 시 잔액이 음수가 되므로 예약분을 남길 수 있을 때만 차감
+            BigDecimal minBalance = point == null ? null
+                    : entry.getValue().add(orderLedgerService.getReservedPoints(point.getUserId()));
+            if (point == null || point.getAmount().compareTo(minBalance) < 0) {
+                uncollected.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            deductions.put(point.getPointId(), entry.getValue());
+            minBalances.put(point.getPointId(), minBalance);
+            txs.add(PointTransactionVO.builder()
+                    .pointId(point.getPointId())
+                    .type(PointTransactionType.ALLOCATION)
+                    .amount(entry.getValue().negate())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        if (!deductions.isEmpty()) {
+            // 행은 잠겨 있으므로 모두 차감되어야 함 - 아니면 거래 기록과 어긋나지 않도록 롤백
+            int deducted = pointRepository.bulkDeductIfSufficient(deductions, minBalances);
+            if (deducted != deductions.size()) {
+                throw new IllegalStateException("배당금 회수 차감 건수가 일치하지 않습니다. 예상: " + deductions.size() + ", 실제: " + deducted);
+            }
+            pointTransactionRepository.bulkInsert(txs);
+        }
+        return uncollected;
+    }
+
+    private void applyBulk(Map<Long, BigDecimal> amountMap, PointTransactionType type) {
+        if (amountMap.isEmpty()) return;
+
+        List<Long> userIds = new ArrayList<>(amountMap.keySet());
+        List<PointVO> points = pointRepository.findByUserIdsForUpdate(userIds);
+
+        Map<Long, PointVO> userIdToPoint = points.stream()
+                .collect(Collectors.toMap(PointVO::getUserId, p -> p));
+
+        List<PointVO> updatedPoints = new ArrayList<>();
+        for (Map.Entry<Long, BigDecimal> entry : amountMap.entrySet()) {
+            BigDecimal amount = entry.getValue();
+            PointVO point = userIdToPoint.get(entry.getKey());
+
+            if (point == null) {
+                // 일반적으로는 회원가입 시 생성되어 있음
+                point = PointVO.builder()
+                        .userId(entry.getKey())
+                        .amount(amount)
+                        .build();
+                pointRepository.insert(point);
+                userIdToPoint.put(entry.getKey(), point);
+            } else {
+                point.setAmount(point.getAmount().add(amount));
+                updatedPoints.add(point);
+            }
+        }
+
+        if (!updatedPoints.isEmpty()) {
+            pointRepository.bulkUpdate(updatedPoints);
+        }
+
+        List<PointTransactionVO> txs = amountMap.entrySet().stream()
+                .map(entry -> PointTransactionVO.builder()
+                        .pointId(userIdToPoint.get(entry.getKey()).getPointId())
+                        .type(type)
+                        .amount(entry.getValue())
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .collect(Collectors.toList());
+        pointTransactionRepository.bulkInsert(txs);
+    }
+
     @Transactional
     public void requestRefund(Long userId, BigDecimal amount) {
         // 1. 유저 포인트 조회 (락 걸기 위해 for update)
@@ -138,8 +247,8 @@ public class PointService {
             throw new IllegalStateException("포인트 정보가 존재하지 않습니다.");
         }
 
-        // 2. 잔액 확인
-        if (point.getAmount().compareTo(amount) < 0) {
+        // 2. 잔액 확인 (미체결 매수 주문에 묶인 포인트 제외)
+        if (availableAmount(point).compareTo(amount) < 0) {
             throw new IllegalArgumentException("잔액이 부족합니다.");
         }
 
@@ -192,7 +301,7 @@ public class PointService {
     @Transactional
     public void investPoint(Long userId, BigDecimal amount) {
         PointVO point = pointRepository.findByUserIdForUpdate(userId);
-        if (point == null || point.getAmount().compareTo(amount) < 0) {
+        if (point == null || availableAmount(point).compareTo(amount) < 0) {
             throw new IllegalArgumentException("포인트가 부족합니다.");
         }
 
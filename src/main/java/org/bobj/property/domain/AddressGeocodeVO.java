@@ -0,0 +1,21 @@
+package org.bobj.property.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddressGeocodeVO {
+    private String address;         // 정규화된 전체 주소 (generateFullAddress 결과)
+    private Double latitude;
+    private Double longitude;
+    private Integer gridLat;        // 위도 격자 셀 번호
+    private Integer gridLng;        // 경도 격자 셀 번호
+    private LocalDateTime createdAt;
+}
@@ -16,5 +16,6 @@ public class PropertyDocumentVO {
     private Long propertyId;
     private PropertyDocumentType documentType; // ENUM('OWNERSHIP_CERTIFICATE','SEAL_CERTIFICATE', ...)
     private String fileUrl;
+    private String originalFilename;
     private LocalDateTime createdAt;
 }
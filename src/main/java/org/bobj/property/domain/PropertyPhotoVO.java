@@ -15,5 +15,6 @@ public class PropertyPhotoVO {
     private Long photoId;
     private Long propertyId;
     private String photoUrl;
+    private String thumbnailUrl; // 목록용 축소 이미지 (생성 전에는 null)
     private LocalDateTime createdAt;
 }
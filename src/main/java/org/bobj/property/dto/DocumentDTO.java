@@ -33,10 +33,10 @@ public class DocumentDTO {
         String key = getS3KeyFromUrl(url);
 
         try {
-            String originalFilename = s3Service.getOriginalFilenameFromS3(key);
+            // 원본 파일명은 DB에 저장된 값 사용 (기존 문서는 DocumentFilenameBackfillService가 S3 메타데이터로 보충)
             return DocumentDTO.builder()
                     .documentType(vo.getDocumentType())
-                    .fileUrl(s3Service.generatePresignedUrl(key, originalFilename))
+                    .fileUrl(s3Service.getPresignedDownloadUrl(key, vo.getOriginalFilename()))
                     .build();
         } catch (Exception e) {
             return DocumentDTO.builder()
@@ -32,6 +32,12 @@ public class RentalTransactionDTO {
     @JacksonXmlProperty(localName = "contractType")
     private String contractType;  // 계약구분 (신규, 갱신)
 
+    @JacksonXmlProperty(localName = "dealYear")
+    private String dealYear;  // 계약년도
+
+    @JacksonXmlProperty(localName = "dealMonth")
+    private String dealMonth;  // 계약월
+
     @JacksonXmlProperty(localName = "dealDay")
     private String dealDay;  // 계약일
 
@@ -0,0 +1,23 @@
+package org.bobj.property.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.bobj.property.domain.AddressGeocodeVO;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface AddressGeocodeMapper {
+    // 주소 목록으로 좌표 일괄 조회
+    List<AddressGeocodeVO> findByAddresses(@Param("addresses") Collection<String> addresses);
+
+    // 격자 범위 내 좌표 조회 (반경 검색 후보)
+    List<AddressGeocodeVO> findInGridRange(@Param("minGridLat") int minGridLat,
+                                           @Param("maxGridLat") int maxGridLat,
+                                           @Param("minGridLng") int minGridLng,
+                                           @Param("maxGridLng") int maxGridLng);
+
+    // 좌표 일괄 저장 (이미 있는 주소는 무시)
+    void insertBatch(@Param("geocodes") List<AddressGeocodeVO> geocodes);
+}
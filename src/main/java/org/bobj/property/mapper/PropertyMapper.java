@@ -2,6 +2,8 @@ package org.bobj.property.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.bobj.property.domain.PropertyDocumentVO;
+import org.bobj.property.domain.PropertyPhotoVO;
 import org.bobj.property.domain.PropertyVO;
 import org.bobj.property.dto.PropertySoldResponseDTO;
 import org.bobj.property.dto.PropertyUserResponseDTO;
@@ -42,11 +44,43 @@ public interface PropertyMapper {
     // 문서 업로드
     void insertPropertyDocument(@Param("propertyId") Long propertyId,
                                 @Param("documentType") String documentType,
-                                @Param("fileUrl") String fileUrl);
+                                @Param("fileUrl") String fileUrl,
+                                @Param("originalFilename") String originalFilename);
+
+    // 사진 일괄 등록
+    void insertPropertyPhotos(@Param("propertyId") Long propertyId,
+                              @Param("photoUrls") List<String> photoUrls);
+
+    // 문서 일괄 등록
+    void insertPropertyDocuments(@Param("propertyId") Long propertyId,
+                                 @Param("documents") List<PropertyDocumentVO> documents);
+
+    // 썸네일 미생성 사진 조회 (propertyId가 null이면 전체 대상, 실패 횟수가 maxAttempts 이상인 사진 제외)
+    List<PropertyPhotoVO> findPhotosWithoutThumbnail(@Param("propertyId") Long propertyId,
+                                                    @Param("maxAttempts") int maxAttempts,
+                                                    @Param("limit") int limit);
+
+    // 썸네일 URL 저장
+    void updatePhotoThumbnail(@Param("photoId") Long photoId,
+                              @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 썸네일 생성 실패 횟수 증가
+    void incrementThumbnailAttempts(@Param("photoId") Long photoId);
+
+    // 원본 파일명이 없는 기존 문서 조회 (afterDocumentId 이후부터 ID 순)
+    List<PropertyDocumentVO> findDocumentsWithoutOriginalFilename(@Param("afterDocumentId") long afterDocumentId,
+                                                                  @Param("limit") int limit);
+
+    // 문서 원본 파일명 저장
+    void updateDocumentOriginalFilename(@Param("documentId") Long documentId,
+                                        @Param("originalFilename") String originalFilename);
 
     void updatePropertiesAsSold(@Param("propertyIds") List<Long> propertyIds);
 
     void updateRentalIncome(@Param("propertyId") Long propertyId, @Param("rentalIncome") java.math.BigDecimal rentalIncome);
+
+    // 월세 추정이 끝나지 않은 매물 조회
+    List<PropertyVO> findPropertiesWithoutRentalIncome(@Param("limit") int limit);
     
     /**
      * 매물 ID로 법정동 코드 조회
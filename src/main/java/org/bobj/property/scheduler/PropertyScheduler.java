@@ -2,7 +2,10 @@ package org.bobj.property.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.bobj.property.service.DocumentFilenameBackfillService;
+import org.bobj.property.service.PhotoThumbnailService;
 import org.bobj.property.service.PropertyService;
+import org.bobj.property.service.RentalEstimationService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,9 +14,32 @@ import org.springframework.stereotype.Component;
 @Log4j2
 public class PropertyScheduler {
     private final PropertyService propertyService;
+    private final RentalEstimationService rentalEstimationService;
+    private final PhotoThumbnailService photoThumbnailService;
+    private final DocumentFilenameBackfillService documentFilenameBackfillService;
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정 실행
     public void runPropertySold(){
         propertyService.soldProperties();
     }
+
+    @Scheduled(fixedDelay = 1000) // 1초마다 실행 시점이 된 월세 추정 작업 처리
+    public void runRentalEstimation() {
+        rentalEstimationService.dispatchDueJobs();
+    }
+
+    @Scheduled(fixedDelay = 600_000) // 10분마다 월세 추정이 누락된 매물 재등록
+    public void runRentalEstimationBackfill() {
+        rentalEstimationService.backfillMissingEstimates();
+    }
+
+    @Scheduled(fixedDelay = 600_000) // 10분마다 썸네일이 누락된 사진 보충
+    public void runThumbnailBackfill() {
+        photoThumbnailService.backfillMissingThumbnails();
+    }
+
+    @Scheduled(fixedDelay = 600_000) // 10분마다 원본 파일명이 없는 기존 문서 보충
+    public void runDocumentFilenameBackfill() {
+        documentFilenameBackfillService.backfillMissingFilenames();
+    }
 }
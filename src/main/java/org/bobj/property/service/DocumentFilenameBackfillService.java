@@ -0,0 +1,82 @@
+package org.bobj.property.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bobj.common.executor.ExecutorRegistry;
+import org.bobj.common.s3.S3Service;
+import org.bobj.property.domain.PropertyDocumentVO;
+import org.bobj.property.mapper.PropertyMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기존 문서 원본 파일명 보충
+ * - original_filename 컬럼 추가 전에 올라간 문서는 다운로드 파일명을 S3 키에서 추출하는데,
+ *   키는 영문/숫자 외 문자를 "_"로 바꿔 저장했으므로 한글/공백 파일명이 "____.pdf"처럼 보인다.
+ * - 업로드 시 S3 메타데이터(original-filename)에 남긴 원본 파일명을 읽어 DB에 한 번만 채운다.
+ * - 조회 실패한 문서는 커서를 넘겨 건너뛰고, 끝까지 돈 뒤 처음부터 다시 시도하므로 실패 문서가 보충을 막지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentFilenameBackfillService {
+
+    private static final int BACKFILL_BATCH_SIZE = 100;
+
+    private final PropertyMapper propertyMapper;
+    private final S3Service s3Service;
+    private final ExecutorRegistry executorRegistry;
+
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+    private volatile long lastDocumentId = 0;
+
+    // 원본 파일명이 없는 문서를 일정량씩 채움 (PropertyScheduler에서 주기적으로 호출, 스케줄러 스레드는 막지 않음)
+    public void backfillMissingFilenames() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executorRegistry.get(ExecutorRegistry.BACKGROUND).execute(() -> {
+                try {
+                    backfillBatch();
+                } finally {
+                    backfillRunning.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            backfillRunning.set(false);
+            throw e;
+        }
+    }
+
+    void backfillBatch() {
+        List<PropertyDocumentVO> documents =
+                propertyMapper.findDocumentsWithoutOriginalFilename(lastDocumentId, BACKFILL_BATCH_SIZE);
+
+        int filled = 0;
+        for (PropertyDocumentVO document : documents) {
+            lastDocumentId = document.getDocumentId();
+            String key = s3Service.keyFromUrl(document.getFileUrl());
+            if (key == null) {
+                // 버킷 밖의 URL(샘플 데이터 등)은 메타데이터가 없으므로 대상 아님
+                continue;
+            }
+            try {
+                propertyMapper.updateDocumentOriginalFilename(document.getDocumentId(), s3Service.getOriginalFilenameFromS3(key));
+                filled++;
+            } catch (Exception e) {
+                log.warn("문서 원본 파일명 조회 실패 - 문서ID: {}, 키: {}, 오류: {}", document.getDocumentId(), key, e.getMessage());
+            }
+        }
+
+        // 마지막 페이지까지 돌았으면 다음 주기에는 건너뛴 문서부터 다시 시도
+        if (documents.size() < BACKFILL_BATCH_SIZE) {
+            lastDocumentId = 0;
+        }
+        if (filled > 0) {
+            log.info("문서 원본 파일명 보충 - {}건", filled);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.bobj.property.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bobj.property.domain.AddressGeocodeVO;
+import org.bobj.property.dto.CoordinateDTO;
+import org.bobj.property.mapper.AddressGeocodeMapper;
+import org.bobj.property.util.GeoUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실거래가 주소 → 좌표 영구 저장소
+ * - 한 번 지오코딩한 주소는 address_geocode 테이블에 저장해 VWorld를 다시 호출하지 않는다.
+ * - 격자 셀(grid_lat, grid_lng) 인덱스로 매물 주변 좌표를 한 번에 불러올 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeocodeStoreService {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final AddressGeocodeMapper addressGeocodeMapper;
+
+    // 중심 좌표 반경 내 격자 셀에 저장된 좌표 조회 (주소 → 좌표)
+    public Map<String, CoordinateDTO> findNearby(CoordinateDTO center, double radiusKm) {
+        if (center == null || !GeoUtils.isValidCoordinate(center.getLatitude(), center.getLongitude())) {
+            return Collections.emptyMap();
+        }
+
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lngDelta = GeoUtils.longitudeDelta(radiusKm, center.getLatitude());
+
+        try {
+            List<AddressGeocodeVO> geocodes = addressGeocodeMapper.findInGridRange(
+                    GeoUtils.toGridCell(center.getLatitude() - latDelta),
+                    GeoUtils.toGridCell(center.getLatitude() + latDelta),
+                    GeoUtils.toGridCell(center.getLongitude() - lngDelta),
+                    GeoUtils.toGridCell(center.getLongitude() + lngDelta));
+            return toCoordinateMap(geocodes);
+        } catch (Exception e) {
+            log.warn("주변 좌표 조회 실패 - VWorld 조회로 대체: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    // 주소 목록으로 저장된 좌표 일괄 조회 (주소 → 좌표)
+    public Map<String, CoordinateDTO> findByAddresses(Collection<String> addresses) {
+        if (addresses == null || addresses.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return toCoordinateMap(addressGeocodeMapper.findByAddresses(addresses));
+        } catch (Exception e) {
+            log.warn("저장된 좌표 조회 실패 - VWorld 조회로 대체: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    // 새로 지오코딩한 좌표 일괄 저장
+    public void saveAll(Map<String, CoordinateDTO> coordinates) {
+        List<AddressGeocodeVO> geocodes = new ArrayList<>();
+        coordinates.forEach((address, coordinate) -> {
+            if (address != null && coordinate != null
+                    && GeoUtils.isValidCoordinate(coordinate.getLatitude(), coordinate.getLongitude())) {
+                geocodes.add(AddressGeocodeVO.builder()
+                        .address(address)
+                        .latitude(coordinate.getLatitude())
+                        .longitude(coordinate.getLongitude())
+                        .gridLat(GeoUtils.toGridCell(coordinate.getLatitude()))
+                        .gridLng(GeoUtils.toGridCell(coordinate.getLongitude()))
+                        .build());
+            }
+        });
+
+        try {
+            for (int i = 0; i < geocodes.size(); i += INSERT_BATCH_SIZE) {
+                addressGeocodeMapper.insertBatch(geocodes.subList(i, Math.min(i + INSERT_BATCH_SIZE, geocodes.size())));
+            }
+            if (!geocodes.isEmpty()) {
+                log.debug("지오코드 저장 - {}건", geocodes.size());
+            }
+        } catch (Exception e) {
+            // 저장 실패 시 다음 조회에서 다시 지오코딩되므로 계속 진행
+            log.warn("지오코드 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, CoordinateDTO> toCoordinateMap(List<AddressGeocodeVO> geocodes) {
+        Map<String, CoordinateDTO> result = new HashMap<>(geocodes.size() * 2);
+        for (AddressGeocodeVO geocode : geocodes) {
+            result.put(geocode.getAddress(), CoordinateDTO.builder()
+                    .latitude(geocode.getLatitude())
+                    .longitude(geocode.getLongitude())
+                    .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package org.bobj.property.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bobj.common.executor.ExecutorRegistry;
+import org.bobj.common.image.ImageResizer;
+import org.bobj.common.s3.S3Service;
+import org.bobj.property.domain.PropertyPhotoVO;
+import org.bobj.property.mapper.PropertyMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매물 사진 썸네일 생성 파이프라인
+ * - 사진 등록 트랜잭션 커밋 후 백그라운드 풀에서 원본을 내려받아 목록용 크기로 줄여 저장한다.
+ * - 썸네일은 원본 키에서 파생한 "uploads/thumbnail/w{폭}/" 경로에 올리고 property_photos.thumbnail_url에 기록한다.
+ * - 목록 조회는 COALESCE(thumbnail_url, photo_url)을 쓰므로 생성 전/실패 시에는 원본이 그대로 노출된다.
+ * - 서버 재시작 등으로 누락된 사진은 PropertyScheduler의 주기 작업이 다시 채운다.
+ * - 생성에 실패하면 property_photos.thumbnail_attempts를 올리고, MAX_ATTEMPTS번 실패한 사진은 원본을 계속 쓰도록
+ *   보충 대상에서 빠지므로 깨진 사진이 쌓여도 뒤의 사진들이 막히지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoThumbnailService {
+
+    public static final int THUMBNAIL_WIDTH = 320;      // 목록 타일(약 100px) 기준 고해상도 화면까지 대응
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final int BACKFILL_BATCH_SIZE = 50;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String THUMBNAIL_FOLDER = "uploads/thumbnail/w" + THUMBNAIL_WIDTH + "/";
+
+    private final PropertyMapper propertyMapper;
+    private final S3Service s3Service;
+    private final ExecutorRegistry executorRegistry;
+
+    // 같은 사진을 동시에 두 번 처리하지 않도록 진행 중인 사진 ID 보관
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+
+    // 매물 사진 썸네일 생성 요청 - 트랜잭션 안이면 커밋 후에 작업 등록
+    public void requestThumbnails(Long propertyId) {
+        Runnable task = () -> executorRegistry.get(ExecutorRegistry.BACKGROUND)
+                .execute(() -> generate(propertyMapper.findPhotosWithoutThumbnail(propertyId, MAX_ATTEMPTS, BACKFILL_BATCH_SIZE)));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 썸네일이 없는 사진을 일정량씩 채움 (PropertyScheduler에서 주기적으로 호출, 스케줄러 스레드는 막지 않음)
+    public void backfillMissingThumbnails() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executorRegistry.get(ExecutorRegistry.BACKGROUND).execute(() -> {
+                try {
+                    generate(propertyMapper.findPhotosWithoutThumbnail(null, MAX_ATTEMPTS, BACKFILL_BATCH_SIZE));
+                } finally {
+                    backfillRunning.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            backfillRunning.set(false);
+            throw e;
+        }
+    }
+
+    private void generate(List<PropertyPhotoVO> photos) {
+        for (PropertyPhotoVO photo : photos) {
+            if (!inProgress.add(photo.getPhotoId())) {
+                continue;
+            }
+            try {
+                createThumbnail(photo);
+            } catch (Exception e) {
+                log.error("썸네일 생성 실패 - 사진ID: {}, URL: {}, 오류: {}",
+                        photo.getPhotoId(), photo.getPhotoUrl(), e.getMessage());
+                recordFailure(photo);
+            } finally {
+                inProgress.remove(photo.getPhotoId());
+            }
+        }
+    }
+
+    // 실패 횟수를 남겨 반복 실패하는 사진이 보충 배치를 계속 차지하지 않도록 함
+    private void recordFailure(PropertyPhotoVO photo) {
+        try {
+            propertyMapper.incrementThumbnailAttempts(photo.getPhotoId());
+        } catch (Exception e) {
+            log.error("썸네일 실패 횟수 기록 실패 - 사진ID: {}, 오류: {}", photo.getPhotoId(), e.getMessage());
+        }
+    }
+
+    private void createThumbnail(PropertyPhotoVO photo) throws Exception {
+        String key = s3Service.keyFromUrl(photo.getPhotoUrl());
+        if (key == null) {
+            // 외부 URL 등 버킷 밖의 사진은 원본을 그대로 썸네일로 사용
+            propertyMapper.updatePhotoThumbnail(photo.getPhotoId(), photo.getPhotoUrl());
+            return;
+        }
+
+        byte[] resized = ImageResizer.resizeToJpeg(s3Service.download(key), THUMBNAIL_WIDTH, JPEG_QUALITY);
+        if (resized == null) {
+            log.warn("썸네일 생성 불가 이미지 형식, 원본 사용 - 사진ID: {}", photo.getPhotoId());
+            propertyMapper.updatePhotoThumbnail(photo.getPhotoId(), photo.getPhotoUrl());
+            return;
+        }
+
+        String thumbnailUrl = s3Service.uploadBytes(thumbnailKey(key), resized, ImageResizer.JPEG_CONTENT_TYPE);
+        propertyMapper.updatePhotoThumbnail(photo.getPhotoId(), thumbnailUrl);
+        log.info("썸네일 생성 완료 - 사진ID: {}, 크기: {}KB", photo.getPhotoId(), resized.length / 1024);
+    }
+
+    // uploads/photo/{UUID}_{파일명}.png → uploads/thumbnail/w320/{UUID}_{파일명}.jpg
+    private String thumbnailKey(String originalKey) {
+        String name = originalKey.substring(originalKey.lastIndexOf('/') + 1);
+        int extension = name.lastIndexOf('.');
+        String baseName = extension > 0 ? name.substring(0, extension) : name;
+        return THUMBNAIL_FOLDER + baseName + ".jpg";
+    }
+}
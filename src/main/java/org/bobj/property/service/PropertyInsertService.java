@@ -0,0 +1,68 @@
+package org.bobj.property.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bobj.property.domain.PropertyDocumentVO;
+import org.bobj.property.domain.PropertyVO;
+import org.bobj.property.dto.PropertyCreateDTO;
+import org.bobj.property.mapper.PropertyMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 매물 등록 DB 저장 - 파일 업로드가 모두 끝난 뒤 한 트랜잭션에서 짧게 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PropertyInsertService {
+
+    private final PropertyMapper propertyMapper;
+    private final RentalEstimationService rentalEstimationService;
+    private final PhotoThumbnailService photoThumbnailService;
+
+    @Transactional
+    public PropertyVO insertPropertyTransactional(Long userId,
+                                                  PropertyCreateDTO dto,
+                                                  List<String> photoUrls,
+                                                  List<PropertyDocumentVO> documents) {
+        PropertyVO vo = dto.toVO();
+        vo.setUserId(userId);
+        propertyMapper.insert(vo);
+        Long propertyId = vo.getPropertyId();
+
+        if (dto.getHashTagIds() != null && !dto.getHashTagIds().isEmpty()) {
+            propertyMapper.insertHashtag(propertyId, dto.getHashTagIds());
+            log.info("해시태그 매핑 완료 - 매물ID: {}, 해시태그ID: {}", propertyId, dto.getHashTagIds());
+        }
+
+        // 업로드된 사진/문서 일괄 저장
+        if (!photoUrls.isEmpty()) {
+            propertyMapper.insertPropertyPhotos(propertyId, photoUrls);
+            // 목록용 썸네일은 커밋 후 백그라운드에서 생성
+            photoThumbnailService.requestThumbnails(propertyId);
+        }
+        if (!documents.isEmpty()) {
+            propertyMapper.insertPropertyDocuments(propertyId, documents);
+        }
+
+        // insert 후 생성된 ID 확인
+        log.info("매물 등록 완료 - ID: {}, 제목: {}, 사진: {}개, 문서: {}개",
+                propertyId, vo.getTitle(), photoUrls.size(), documents.size());
+
+        // 트랜잭션 커밋 후 비동기로 월세 계산 처리
+        if (propertyId != null && vo.getRawdCd() != null && !vo.getRawdCd().trim().isEmpty()) {
+            // 공공 API 호출은 등록 트랜잭션/요청과 분리 (커밋 후 작업 큐에서 처리)
+            rentalEstimationService.requestEstimation(propertyId, vo.getRawdCd(), vo.getAddress());
+        } else {
+            if (propertyId != null) {
+                log.warn("법정동코드가 없어서 월세 자동 계산을 건너뛰었습니다 - 매물ID: {}", propertyId);
+            } else {
+                log.error("매물 등록 후 ID 생성 실패 - 월세 자동 계산 불가");
+            }
+        }
+        return vo;
+    }
+}
@@ -1,7 +1,10 @@
 package org.bobj.property.service;
 
+import org.bobj.common.cache.LocalTtlCache;
+import org.bobj.common.executor.ExecutorRegistry;
 import org.bobj.property.dto.*;
 import org.bobj.property.util.GeoUtils;
+import org.bobj.property.util.SpatialGridIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -10,9 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -24,11 +26,15 @@ public class PropertyMapService {
     private final RealEstateApiService realEstateApiService;
     private final VWorldLocalApiService vworldLocalApiService;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, List<RealEstateTransactionDTO>> realEstateRedisTemplate;   // 실거래가 목록 (바이너리)
     private final PropertyService propertyService;
+    private final ExecutorRegistry executorRegistry;
+    private final GeocodeStoreService geocodeStoreService;
 
-    // 주소별 좌표 캐시 (메모리 캐시는 보조용으로만 사용)
-    private final Map<String, CoordinateDTO> memoryCache = new HashMap<>();
-    private final Map<String, CoordinateDTO> negativeCache = new HashMap<>(); // 실패 결과 캐싱
+    // 주소별 좌표 로컬 캐시 (실패 결과는 null로 캐싱, 같은 주소 동시 조회 시 VWorld 호출 1회)
+    private static final int COORDINATE_LOCAL_CACHE_MAX_SIZE = 20_000;
+    private final LocalTtlCache<String, CoordinateDTO> coordinateCache =
+            new LocalTtlCache<>(COORDINATE_LOCAL_CACHE_MAX_SIZE);
     
     // Redis 캐시 키 설정
     private static final String COORDINATE_CACHE_PREFIX = "coordinate:";
@@ -47,11 +53,17 @@ public class PropertyMapService {
     public PropertyMapService(RealEstateApiService realEstateApiService,
                               VWorldLocalApiService vworldLocalApiService,
                               RedisTemplate<String, Object> redisTemplate,
-                              PropertyService propertyService) {
+                              RedisTemplate<String, List<RealEstateTransactionDTO>> realEstateRedisTemplate,
+                              PropertyService propertyService,
+                              ExecutorRegistry executorRegistry,
+                              GeocodeStoreService geocodeStoreService) {
         this.realEstateApiService = realEstateApiService;
         this.vworldLocalApiService = vworldLocalApiService;
         this.redisTemplate = redisTemplate;
+        this.realEstateRedisTemplate = realEstateRedisTemplate;
         this.propertyService = propertyService;
+        this.executorRegistry = executorRegistry;
+        this.geocodeStoreService = geocodeStoreService;
         
         // Redis 연결 테스트 (Order 패턴과 동일하게)
         try {
@@ -76,42 +88,13 @@ public class PropertyMapService {
         try {
             // 주소 정규화 (캐시 키 통일)
             String normalizedAddress = normalizeAddress(address);
-            
-            // 실패 캐시 확인 (불필요한 API 호출 방지)
-            if (isInNegativeCache(normalizedAddress)) {
-                log.debug("실패 캐시에서 제외 - 주소: {}", normalizedAddress);
-                return null;
-            }
-            
-            // 메모리 캐시 확인
-            if (memoryCache.containsKey(normalizedAddress)) {
-                log.debug("메모리 캐시 히트 - 주소: {}", normalizedAddress);
-                return memoryCache.get(normalizedAddress);
-            }
-
-            // Redis 캐시 확인
-            CoordinateDTO cachedCoordinate = getCachedCoordinate(normalizedAddress);
-            if (cachedCoordinate != null) {
-                log.debug("Redis 캐시 히트 - 주소: {}", normalizedAddress);
-                memoryCache.put(normalizedAddress, cachedCoordinate);
-                return cachedCoordinate;
-            }
-
-            // API 호출 (최적화된 방식)
-            CoordinateDTO coordinate = getCoordinateFromApiWithOptimization(normalizedAddress);
-
-            if (coordinate != null && coordinate.getLatitude() != null && coordinate.getLongitude() != null) {
-                // 성공 캐시에 저장
-                setCachedCoordinate(normalizedAddress, coordinate);
-                memoryCache.put(normalizedAddress, coordinate);
-                log.debug("API 호출 성공 및 캐시 저장 - 주소: {}", normalizedAddress);
-            } else {
-                // 실패 캐시에 저장 (1시간)
-                setNegativeCache(normalizedAddress);
-                log.debug("API 호출 실패, 실패 캐시 저장 - 주소: {}", normalizedAddress);
-            }
 
-            return coordinate;
+            // 로컬 캐시 → (미스 시 주소당 1회만) Redis → VWorld API
+            return coordinateCache.get(normalizedAddress,
+                    () -> loadCoordinate(normalizedAddress),
+                    coordinate -> isValidCoordinate(coordinate)
+                            ? Duration.ofHours(CACHE_EXPIRATION_HOURS)
+                            : Duration.ofHours(NEGATIVE_CACHE_EXPIRATION_HOURS));
 
         } catch (Exception e) {
             log.error("주소 좌표 변환 중 오류 발생: {}", e.getMessage(), e);
@@ -119,6 +102,41 @@ public class PropertyMapService {
         }
     }
 
+    //로컬 캐시 미스 시 좌표 로딩 (Redis 실패 캐시 → Redis 좌표 캐시 → API)
+    private CoordinateDTO loadCoordinate(String normalizedAddress) {
+        // 실패 캐시 확인 (불필요한 API 호출 방지)
+        if (isInNegativeCache(normalizedAddress)) {
+            log.debug("실패 캐시에서 제외 - 주소: {}", normalizedAddress);
+            return null;
+        }
+
+        // Redis 캐시 확인
+        CoordinateDTO cachedCoordinate = getCachedCoordinate(normalizedAddress);
+        if (cachedCoordinate != null) {
+            log.debug("Redis 캐시 히트 - 주소: {}", normalizedAddress);
+            return cachedCoordinate;
+        }
+
+        // API 호출 (최적화된 방식)
+        CoordinateDTO coordinate = getCoordinateFromApiWithOptimization(normalizedAddress);
+
+        if (isValidCoordinate(coordinate)) {
+            // 성공 캐시에 저장
+            setCachedCoordinate(normalizedAddress, coordinate);
+            log.debug("API 호출 성공 및 캐시 저장 - 주소: {}", normalizedAddress);
+        } else {
+            // 실패 캐시에 저장 (1시간)
+            setNegativeCache(normalizedAddress);
+            log.debug("API 호출 실패, 실패 캐시 저장 - 주소: {}", normalizedAddress);
+        }
+
+        return coordinate;
+    }
+
+    private boolean isValidCoordinate(CoordinateDTO coordinate) {
+        return coordinate != null && coordinate.getLatitude() != null && coordinate.getLongitude() != null;
+    }
+
     //주소 정규화 (단순화)
     private String normalizeAddress(String address) {
         if (address == null) {
@@ -145,18 +163,12 @@ public class PropertyMapService {
         return coordinate;
     }
 
-    //실패 캐시 확인
+    //Redis 실패 캐시 확인
     private boolean isInNegativeCache(String address) {
-        // 메모리 실패 캐시 확인
-        if (negativeCache.containsKey(address)) {
-            return true;
-        }
-        
-        // Redis 실패 캐시 확인
         if (redisTemplate != null) {
             try {
                 String key = NEGATIVE_CACHE_PREFIX + address;
-                return redisTemplate.hasKey(key);
+                return Boolean.TRUE.equals(redisTemplate.hasKey(key));
             } catch (Exception e) {
                 return false;
             }
@@ -165,18 +177,14 @@ public class PropertyMapService {
         return false;
     }
 
-    //실패 캐시 저장
+    //Redis 실패 캐시 저장
     private void setNegativeCache(String address) {
-        // 메모리 실패 캐시
-        negativeCache.put(address, null);
-        
-        // Redis 실패 캐시
         if (redisTemplate != null) {
             try {
                 String key = NEGATIVE_CACHE_PREFIX + address;
                 redisTemplate.opsForValue().set(key, "FAILED", NEGATIVE_CACHE_EXPIRATION_HOURS, java.util.concurrent.TimeUnit.HOURS);
             } catch (Exception e) {
-                // Redis 실패해도 메모리 캐시는 동작하므로 계속 진행
+                // Redis 실패해도 로컬 캐시는 동작하므로 계속 진행
             }
         }
     }
@@ -206,7 +214,7 @@ public class PropertyMapService {
             String key = COORDINATE_CACHE_PREFIX + normalizedAddress;
             redisTemplate.opsForValue().set(key, coordinate, CACHE_EXPIRATION_HOURS, java.util.concurrent.TimeUnit.HOURS);
         } catch (Exception e) {
-            // Redis 실패해도 메모리 캐시는 동작하므로 계속 진행
+            // Redis 실패해도 로컬 캐시는 동작하므로 계속 진행
         }
     }
 
@@ -214,16 +222,16 @@ public class PropertyMapService {
      * 캐시된 실거래가 데이터 조회 (Redis 우선)
      */
     private List<RealEstateTransactionDTO> getCachedRealEstateTransactions(String rawdCd, String yearMonth) {
-        if (redisTemplate == null) {
+        if (realEstateRedisTemplate == null) {
             return null; // Redis 없으면 직접 API 호출
         }
         
         try {
             String key = REALESTATE_CACHE_PREFIX + rawdCd + ":" + yearMonth;
-            Object cached = redisTemplate.opsForValue().get(key);
+            List<RealEstateTransactionDTO> cached = realEstateRedisTemplate.opsForValue().get(key);
             if (cached != null) {
                 log.debug("실거래가 Redis 캐시 히트 - {}:{}", rawdCd, yearMonth);
-                return (List<RealEstateTransactionDTO>) cached;
+                return cached;
             }
             return null;
         } catch (Exception e) {
@@ -236,13 +244,13 @@ public class PropertyMapService {
      * 실거래가 데이터 캐시 저장 (Redis)
      */
     private void setCachedRealEstateTransactions(String rawdCd, String yearMonth, List<RealEstateTransactionDTO> transactions) {
-        if (redisTemplate == null || transactions == null) {
+        if (realEstateRedisTemplate == null || transactions == null) {
             return;
         }
         
         try {
             String key = REALESTATE_CACHE_PREFIX + rawdCd + ":" + yearMonth;
-            redisTemplate.opsForValue().set(key, transactions, REALESTATE_CACHE_EXPIRATION_DAYS, java.util.concurrent.TimeUnit.DAYS);
+            realEstateRedisTemplate.opsForValue().set(key, transactions, REALESTATE_CACHE_EXPIRATION_DAYS, java.util.concurrent.TimeUnit.DAYS);
             log.debug("실거래가 데이터 캐시 저장 - {}:{}, {}건", rawdCd, yearMonth, transactions.size());
         } catch (Exception e) {
             log.warn("실거래가 캐시 저장 실패: {}", e.getMessage());
@@ -269,6 +277,27 @@ public class PropertyMapService {
         
         return transactions != null ? transactions : Collections.emptyList();
     }
+    //월별 실거래가 비동기 선조회 (공용 외부 API 풀 사용)
+    private CompletableFuture<List<RealEstateTransactionDTO>> prefetchRealEstateTransactions(String rawdCd, String yearMonth) {
+        return executorRegistry.supplyAsync(ExecutorRegistry.EXTERNAL_API,
+                () -> getRealEstateTransactionsWithCache(rawdCd, yearMonth));
+    }
+
+    //선조회 결과 대기 (실패/타임아웃 시 빈 목록)
+    private List<RealEstateTransactionDTO> awaitPrefetch(CompletableFuture<List<RealEstateTransactionDTO>> fetch,
+                                                         String yearMonth) {
+        try {
+            return fetch.get(30, java.util.concurrent.TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        } catch (Exception e) {
+            log.warn("{}월 실거래가 조회 실패 - 다음 월로 진행: {}", yearMonth, e.getMessage());
+            fetch.cancel(true);
+            return Collections.emptyList();
+        }
+    }
+
     private List<String> getRecentMonths() {
         List<String> months = new ArrayList<>();
         LocalDate now = LocalDate.now();
@@ -387,25 +416,34 @@ public class PropertyMapService {
             log.info("시간적 확장 기반 실거래가 위치 정보 조회 시작 - 법정동코드: {}, 펀딩ID: {}", rawdCd, fundingId);
 
             List<RealEstateLocationDTO> locations = new ArrayList<>();
-            Set<String> uniqueCoordinates = new HashSet<>();
+            Set<Long> uniqueCoordinates = new HashSet<>();
             Set<String> processedAddresses = new HashSet<>();
             final int TARGET_LOCATIONS = TARGET_RETURN_COUNT; // 월별 처리 제한
 
             // 1단계: 매물 좌표 조회 (반경 필터링용)
             final CoordinateDTO propertyCoordinate = getPropertyCoordinateSafely(fundingId);
 
+            // 매물 주변 격자에 이미 저장된 좌표 (정규화 주소 → 좌표)
+            final Map<String, CoordinateDTO> nearbyGeocodes = geocodeStoreService.findNearby(propertyCoordinate, RADIUS_KM);
+
             List<String> recentMonths = getRecentMonths();
             boolean shouldTerminateAfterThisMonth = false; // 현재 월 처리 후 종료 플래그
 
+            // 다음 달 실거래가는 이번 달 좌표 변환 중에 미리 받아둔다.
+            CompletableFuture<List<RealEstateTransactionDTO>> nextMonthFetch =
+                prefetchRealEstateTransactions(rawdCd, recentMonths.get(0));
+
             for (int monthIndex = 0; monthIndex < recentMonths.size(); monthIndex++) {
                 String yearMonth = recentMonths.get(monthIndex);
 
                 log.info("{}개월차 데이터 수집 중 - {}, 현재 수집: {}개",
                         monthIndex + 1, yearMonth, locations.size());
 
-                // 2단계: 해당 월 실거래가 데이터 수집 (캐시 우선)
-                List<RealEstateTransactionDTO> monthlyTransactions =
-                    getRealEstateTransactionsWithCache(rawdCd, yearMonth);
+                // 2단계: 해당 월 실거래가 데이터 수집 (캐시 우선, 선조회 결과 사용)
+                List<RealEstateTransactionDTO> monthlyTransactions = awaitPrefetch(nextMonthFetch, yearMonth);
+                nextMonthFetch = monthIndex + 1 < recentMonths.size()
+                    ? prefetchRealEstateTransactions(rawdCd, recentMonths.get(monthIndex + 1))
+                    : null;
 
                 if (monthlyTransactions.isEmpty()) {
                     log.info("{}월 데이터 없음 - 다음 월로 진행", yearMonth);
@@ -439,90 +477,44 @@ public class PropertyMapService {
 
                 log.info("{}월 신규 주소 {}개 발견", yearMonth, newAddresses.size());
 
-                // 5단계: 좌표 변환 (병렬 처리) - 주소별로 1번씩만
+                // 5단계: 좌표 확보 - 지오코드 저장소 우선, 신규 주소만 VWorld 호출
                 List<String> addressesToProcess = new ArrayList<>(newAddresses.keySet());
-                ExecutorService executor = Executors.newFixedThreadPool(
-                    Math.min(5, addressesToProcess.size())
-                );
-
-                try {
-                    List<CompletableFuture<RealEstateLocationWithDistance>> futures = addressesToProcess.stream()
-                        .map(address -> {
-                            RealEstateTransactionDTO representative = newAddresses.get(address).get(0);
-                            return CompletableFuture.supplyAsync(() -> {
-                                try {
-                                    return createLocationWithDistanceCheck(
-                                        representative, address, yearMonth, propertyCoordinate);
-                                } catch (Exception e) {
-                                    log.error("좌표 변환 실패 - 주소: {}", address);
-                                    return null;
-                                }
-                            }, executor);
-                        })
-                        .toList();
-
-                    // 결과 수집
-                    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                        .get(30, java.util.concurrent.TimeUnit.SECONDS);
-
-                    // 6단계: 1km 반경 필터링 및 좌표 중복 검사
-                    for (CompletableFuture<RealEstateLocationWithDistance> future : futures) {
-                        // 20개 달성시에만 즉시 중단 (하드 리미트)
-                        if (locations.size() >= TARGET_RETURN_COUNT) {
-                            log.info("최대 개수 달성으로 즉시 종료 - {}개", locations.size());
-                            return locations;
-                        }
+                Map<String, CoordinateDTO> coordinates = resolveCoordinates(addressesToProcess, nearbyGeocodes);
 
-                        try {
-                            RealEstateLocationWithDistance locationWithDistance = future.get();
-
-                            if (locationWithDistance != null && locationWithDistance.location != null) {
-                                RealEstateLocationDTO location = locationWithDistance.location;
-
-                                // 1km 반경 필터링 (매물 좌표가 있는 경우에만)
-                                if (propertyCoordinate != null && locationWithDistance.distance != null) {
-                                    if (locationWithDistance.distance > RADIUS_KM) {
-                                        continue; // 1km 밖이면 제외
-                                    }
-                                }
-
-                                // 좌표 중복 체크 (정밀도 강화: 소수점 6자리)
-                                if (location.getLatitude() != null && location.getLongitude() != null) {
-                                    String coordinateKey = String.format("%.6f,%.6f",
-                                        location.getLatitude(), location.getLongitude());
-
-                                    if (!uniqueCoordinates.contains(coordinateKey)) {
-                                        uniqueCoordinates.add(coordinateKey);
-                                        locations.add(location);
-
-                                        // 10개 달성 체크: 즉시 종료하지 않고 현재 월 완료 후 종료
-                                        if (!shouldTerminateAfterThisMonth && locations.size() >= MIN_TRANSACTION_COUNT) {
-                                            shouldTerminateAfterThisMonth = true;
-                                            log.info("최소 개수 달성! {}개월차 데이터 모두 처리 후 종료 예정 - 현재: {}개",
-                                                    monthIndex + 1, locations.size());
-                                        }
-                                    }
-                                }
-                            }
-                        } catch (Exception e) {
-                            // 개별 결과 처리 실패는 무시
-                        }
+                // 6단계: 1km 반경 필터링 (격자 인덱스, 매물 좌표가 있는 경우에만)
+                Set<String> addressesInRadius = findAddressesInRadius(coordinates, propertyCoordinate);
+
+                // 7단계: 좌표 중복 검사
+                for (String address : addressesToProcess) {
+                    // 20개 달성시에만 즉시 중단 (하드 리미트)
+                    if (locations.size() >= TARGET_RETURN_COUNT) {
+                        log.info("최대 개수 달성으로 즉시 종료 - {}개", locations.size());
+                        return locations;
+                    }
+
+                    if (addressesInRadius != null && !addressesInRadius.contains(address)) {
+                        continue; // 1km 밖이면 제외
                     }
 
-                } catch (TimeoutException e) {
-                    log.warn("좌표 변환 타임아웃 (30초), 부분 결과 사용");
-                } finally {
-                    executor.shutdown();
-                    try {
-                        if (!executor.awaitTermination(10, java.util.concurrent.TimeUnit.SECONDS)) {
-                            executor.shutdownNow();
+                    RealEstateLocationDTO location = buildLocationDTO(
+                        newAddresses.get(address).get(0), coordinates.get(address), yearMonth);
+                    if (location == null) {
+                        continue;
+                    }
+
+                    // 좌표 중복 체크 (소수점 6자리 기준 long 키)
+                    if (uniqueCoordinates.add(SpatialGridIndex.coordinateKey(location.getLatitude(), location.getLongitude()))) {
+                        locations.add(location);
+
+                        // 10개 달성 체크: 즉시 종료하지 않고 현재 월 완료 후 종료
+                        if (!shouldTerminateAfterThisMonth && locations.size() >= MIN_TRANSACTION_COUNT) {
+                            shouldTerminateAfterThisMonth = true;
+                            log.info("최소 개수 달성! {}개월차 데이터 모두 처리 후 종료 예정 - 현재: {}개",
+                                    monthIndex + 1, locations.size());
                         }
-                    } catch (InterruptedException e) {
-                        executor.shutdownNow();
-                        Thread.currentThread().interrupt();
                     }
                 }
-                
+
                 processedAddresses.addAll(newAddresses.keySet());
                 
                 log.info("{}월 처리 완료 - 현재 누적: {}개", yearMonth, locations.size());
@@ -531,6 +523,9 @@ public class PropertyMapService {
                 if (shouldTerminateAfterThisMonth) {
                     log.info("목표 달성 월 처리 완료로 수집 종료 - 최종 {}개 ({}개월차 데이터 모두 처리 완료)", 
                             locations.size(), monthIndex + 1);
+                    if (nextMonthFetch != null) {
+                        nextMonthFetch.cancel(false); // 아직 시작 전이면 불필요한 API 호출 생략
+                    }
                     break;
                 }
             }
@@ -546,54 +541,93 @@ public class PropertyMapService {
     }
 
     /**
-     * 좌표 변환과 거리 계산을 함께 수행하는 내부 클래스
+     * 주소 목록의 좌표 확보 (원본 주소 → 좌표)
+     * 1) 매물 주변 격자 좌표 → 2) 지오코드 저장소 일괄 조회 → 3) 남은 신규 주소만 VWorld 병렬 호출 후 저장
      */
-    private static class RealEstateLocationWithDistance {
-        RealEstateLocationDTO location;
-        Double distance; // 매물로부터의 거리 (km)
-        
-        RealEstateLocationWithDistance(RealEstateLocationDTO location, Double distance) {
-            this.location = location;
-            this.distance = distance;
-        }
-    }
+    private Map<String, CoordinateDTO> resolveCoordinates(List<String> addresses,
+                                                          Map<String, CoordinateDTO> nearbyGeocodes) {
+        Map<String, CoordinateDTO> resolved = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>(); // 정규화 주소 → 원본 주소
 
-    /**
-     * 실거래가 정보로부터 위치 정보 생성 + 거리 계산
-     */
-    private RealEstateLocationWithDistance createLocationWithDistanceCheck(
-            RealEstateTransactionDTO transaction, String address, String yearMonth, CoordinateDTO propertyCoordinate) {
-        try {
+        for (String address : addresses) {
             if (address == null || address.trim().isEmpty()) {
-                return null;
+                continue;
+            }
+            String normalizedAddress = normalizeAddress(address);
+            CoordinateDTO coordinate = nearbyGeocodes.get(normalizedAddress);
+            if (coordinate != null) {
+                resolved.put(address, coordinate);
+            } else {
+                missing.put(normalizedAddress, address);
             }
+        }
 
-            // 좌표 변환 (캐시 활용)
-            CoordinateDTO coordinate = getCoordinateFromAddress(address);
+        if (!missing.isEmpty()) {
+            geocodeStoreService.findByAddresses(missing.keySet()).forEach((normalizedAddress, coordinate) -> {
+                String address = missing.remove(normalizedAddress);
+                if (address != null) {
+                    resolved.put(address, coordinate);
+                }
+            });
+        }
 
-            if (coordinate == null || coordinate.getLatitude() == null || coordinate.getLongitude() == null) {
-                return null;
-            }
+        log.info("좌표 확보 - 저장소 {}개, VWorld 조회 대상 {}개", resolved.size(), missing.size());
+        if (missing.isEmpty()) {
+            return resolved;
+        }
 
-            // 위치 정보 생성
-            RealEstateLocationDTO location = buildLocationDTO(transaction, coordinate, yearMonth);
-            
-            // 거리 계산 (매물 좌표가 있는 경우에만)
-            Double distance = null;
-            if (propertyCoordinate != null && 
-                GeoUtils.isValidCoordinate(propertyCoordinate.getLatitude(), propertyCoordinate.getLongitude())) {
-                distance = GeoUtils.calculateDistance(
-                    propertyCoordinate.getLatitude(), propertyCoordinate.getLongitude(),
-                    coordinate.getLatitude(), coordinate.getLongitude()
-                );
+        // 신규 주소만 병렬 지오코딩 - 공용 외부 API 풀 사용
+        Map<String, CompletableFuture<CoordinateDTO>> futures = new LinkedHashMap<>();
+        missing.forEach((normalizedAddress, address) ->
+                futures.put(normalizedAddress, executorRegistry.supplyAsync(ExecutorRegistry.EXTERNAL_API,
+                        () -> getCoordinateFromAddress(address))));
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .get(30, java.util.concurrent.TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("좌표 변환 타임아웃 (30초), 부분 결과 사용");
+        } catch (Exception e) {
+            log.warn("좌표 변환 중 오류, 부분 결과 사용: {}", e.getMessage());
+        } finally {
+            // 공용 풀이므로 종료하지 않고, 끝나지 않은 작업만 취소
+            futures.values().forEach(future -> future.cancel(true));
+        }
+
+        Map<String, CoordinateDTO> geocoded = new HashMap<>();
+        futures.forEach((normalizedAddress, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                CoordinateDTO coordinate = future.join();
+                if (isValidCoordinate(coordinate)) {
+                    geocoded.put(normalizedAddress, coordinate);
+                    resolved.put(missing.get(normalizedAddress), coordinate);
+                }
             }
+        });
 
-            return new RealEstateLocationWithDistance(location, distance);
+        geocodeStoreService.saveAll(geocoded);
+        return resolved;
+    }
 
-        } catch (Exception e) {
-            log.error("위치 정보 생성 중 오류 발생: {}", e.getMessage());
+    /**
+     * 매물 반경 내 주소 조회 (격자 인덱스 버킷 조회)
+     * @return 반경 내 주소 집합, 매물 좌표가 없으면 null (필터링 없음)
+     */
+    private Set<String> findAddressesInRadius(Map<String, CoordinateDTO> coordinates, CoordinateDTO propertyCoordinate) {
+        if (propertyCoordinate == null
+                || !GeoUtils.isValidCoordinate(propertyCoordinate.getLatitude(), propertyCoordinate.getLongitude())) {
             return null;
         }
+
+        SpatialGridIndex<String> index = new SpatialGridIndex<>();
+        coordinates.forEach((address, coordinate) -> {
+            if (isValidCoordinate(coordinate)) {
+                index.add(coordinate.getLatitude(), coordinate.getLongitude(), address);
+            }
+        });
+
+        return new HashSet<>(index.findWithinRadius(
+                propertyCoordinate.getLatitude(), propertyCoordinate.getLongitude(), RADIUS_KM));
     }
 
 
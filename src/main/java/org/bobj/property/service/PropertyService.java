@@ -3,20 +3,22 @@ package org.bobj.property.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bobj.common.dto.CustomSlice;
+import org.bobj.common.executor.ExecutorRegistry;
 import org.bobj.common.s3.S3Service;
+import org.bobj.common.s3.S3UploadRequest;
+import org.bobj.common.s3.S3UploadResult;
 import org.bobj.funding.domain.FundingOrderVO;
 import org.bobj.funding.dto.FundingSoldResponseDTO;
 import org.bobj.funding.mapper.FundingMapper;
 import org.bobj.notification.service.NotificationService;
 import org.bobj.point.service.PointService;
-import org.bobj.property.domain.PropertyDocumentType;
+import org.bobj.property.domain.PropertyDocumentVO;
 import org.bobj.property.domain.PropertyVO;
 import org.bobj.property.dto.*;
 import org.bobj.property.mapper.PropertyMapper;
 import org.bobj.share.domain.ShareVO;
 import org.bobj.share.mapper.ShareMapper;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -28,7 +30,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
@@ -40,10 +41,11 @@ public class PropertyService {
     private final FundingMapper fundingMapper;
     private final ShareMapper shareMapper;
 
-    private final RentalIncomeService rentalIncomeService;
+    private final PropertyInsertService propertyInsertService;
     private final S3Service s3Service;
     private final NotificationService notificationService;
     private final PointService pointService;
+    private final ExecutorRegistry executorRegistry;
 
     private static final int BATCH_SIZE = 1000;
 
@@ -78,82 +80,46 @@ public class PropertyService {
 
     }
 
-    // 매물 등록
-    @Transactional
+    /**
+     * 매물 등록
+     * 1) 사진/문서를 DB 커넥션 없이 병렬 업로드
+     * 2) 업로드가 모두 끝나면 매물/사진/문서를 한 트랜잭션에서 일괄 저장
+     * 3) 저장 실패 시 업로드한 파일 삭제
+     */
     public void registerProperty(Long userId,
                                  PropertyCreateDTO dto,
                                  List<MultipartFile> photoFiles,
                                  List<PropertyDocumentRequestDTO> documentRequests) {
-        PropertyVO vo = dto.toVO();
-        vo.setUserId(userId);
-        // 매물 등록 (DB 트랜잭션 내에서 처리)
-        propertyMapper.insert(vo);
-        Long propertyId = vo.getPropertyId();
-
-        if (dto.getHashTagIds() != null && !dto.getHashTagIds().isEmpty()) {
-            propertyMapper.insertHashtag(propertyId, dto.getHashTagIds());
-            log.info("해시태그 매핑 완료 - 매물ID: {}, 해시태그ID: {}", propertyId, dto.getHashTagIds());
+        List<MultipartFile> photos = photoFiles != null ? photoFiles : List.of();
+        List<PropertyDocumentRequestDTO> documentList = documentRequests != null ? documentRequests : List.of();
+
+        // 사진은 public-read, 문서는 비공개로 업로드 (요청 순서 유지)
+        List<S3UploadRequest> uploadRequests = new ArrayList<>();
+        photos.forEach(photo -> uploadRequests.add(new S3UploadRequest(photo, true)));
+        documentList.forEach(request -> uploadRequests.add(new S3UploadRequest(request.getFile(), false)));
+
+        List<S3UploadResult> uploaded = s3Service.uploadAll(uploadRequests);
+
+        List<String> photoUrls = uploaded.subList(0, photos.size()).stream()
+                .map(S3UploadResult::getUrl)
+                .toList();
+
+        List<PropertyDocumentVO> documents = new ArrayList<>();
+        for (int i = 0; i < documentList.size(); i++) {
+            S3UploadResult result = uploaded.get(photos.size() + i);
+            documents.add(PropertyDocumentVO.builder()
+                    .documentType(documentList.get(i).getType())
+                    .fileUrl(result.getUrl())
+                    .originalFilename(result.getOriginalFilename())
+                    .build());
         }
 
-        // insert 후 생성된 ID 확인
-        log.info("매물 등록 완료 - ID: {}, 제목: {}", vo.getPropertyId(), vo.getTitle());
-
-        // 트랜잭션 커밋 후 비동기로 월세 계산 처리
-        if (vo.getPropertyId() != null && vo.getRawdCd() != null && !vo.getRawdCd().trim().isEmpty()) {
-            // 트랜잭션 외부에서 API 호출 처리
-            calculateAndUpdateRentalIncome(vo.getPropertyId(), vo.getRawdCd(), vo.getAddress());
-        } else {
-            if (vo.getPropertyId() != null) {
-                if (vo.getRawdCd() == null || vo.getRawdCd().trim().isEmpty()) {
-                    log.warn("법정동코드가 없어서 월세 자동 계산을 건너뛰었습니다 - 매물ID: {}", vo.getPropertyId());
-                }
-            } else {
-                log.error("매물 등록 후 ID 생성 실패 - 월세 자동 계산 불가");
-            }
-        }
-
-        // 이미지 업로드 및 DB 저장
-        if (photoFiles != null) {
-            for (MultipartFile photo : photoFiles) {
-                String photoUrl = s3Service.upload(photo, true); // public-read로 업로드
-                propertyMapper.insertPropertyPhoto(propertyId, photoUrl); // DB 저장
-            }
-        }
-
-        // 문서 업로드 및 DB 저장
-        if (documentRequests != null) {
-            for (PropertyDocumentRequestDTO request : documentRequests) {
-                MultipartFile file = request.getFile();
-                PropertyDocumentType type = request.getType();
-                String url = s3Service.upload(file, false); // 비공개로 업로드
-                propertyMapper.insertPropertyDocument(propertyId, type.name(), url);
-            }
-        }
-    }
-
-    /**
-     * 트랜잭션 외부에서 월세 계산 및 업데이트 처리
-     * DB 커넥션 점유 시간을 최소화하기 위해 별도 메서드로 분리
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void calculateAndUpdateRentalIncome(Long propertyId, String rawdCd, String address) {
         try {
-            log.info("매물 자동 월세 계산 시작 - 매물ID: {}, 법정동코드: {}, 주소: {}", propertyId, rawdCd, address);
-
-            // API 호출로 월세 데이터 계산 (시간이 오래 걸릴 수 있음)
-            BigDecimal calculatedRentalAmount = rentalIncomeService.getLatestMonthlyRentForProperty(rawdCd, address);
-
-            if (calculatedRentalAmount != null) {
-                // 새로운 트랜잭션에서 빠른 업데이트
-                propertyMapper.updateRentalIncome(propertyId, calculatedRentalAmount);
-                log.info("매물 월세 자동 설정 완료 - 매물ID: {}, 월세: {}원", propertyId, calculatedRentalAmount);
-            } else {
-                log.warn("매물 월세 자동 계산 실패 - 매물ID: {}, 매칭되는 월세 데이터 없음, 기본값 적용 안함", propertyId);
-            }
-
-        } catch (Exception e) {
-            log.error("매물 월세 자동 계산 중 오류 발생 - 매물ID: {}, 오류: {}", propertyId, e.getMessage(), e);
-            // 월세 계산 실패해도 매물 등록은 성공으로 처리 (이미 커밋됨)
+            propertyInsertService.insertPropertyTransactional(userId, dto, photoUrls, documents);
+        } catch (RuntimeException e) {
+            log.error("매물 등록 실패 - 업로드한 파일 {}개 정리", uploaded.size());
+            s3Service.deleteQuietly(uploaded);
+            throw e;
         }
     }
 
@@ -242,8 +208,8 @@ public class PropertyService {
         // 1. 매물 상태를 SOLD, updated_at, sold_at 수정 + 누적 수익률 계산
         propertyMapper.updatePropertiesAsSold(propertyIds);
 
-        // 멀티 스레드 설정
-        ExecutorService executor = Executors.newFixedThreadPool(10);
+        // 멀티 스레드 설정 - 공용 DB 배치 풀 사용
+        ExecutorService executor = executorRegistry.get(ExecutorRegistry.DB_BATCH);
         List<Callable<Void>> tasks = new ArrayList<>();
 
         for (FundingSoldResponseDTO dto : fundings) {
@@ -278,8 +244,6 @@ public class PropertyService {
         } catch (Exception e) {
             log.error("매각 처리 또는 포인트 환불 중 실패 → 전체 롤백됩니다.", e);
             throw new RuntimeException("펀딩 실패 처리 중 오류", e);
-        } finally {
-            executor.shutdown();
         }
     }
 
@@ -1,18 +1,24 @@
 package org.bobj.property.service;
 
-import org.bobj.property.dto.ApiErrorResponseDTO;
-import org.bobj.property.dto.RealEstateApiResponseDTO;
 import org.bobj.property.dto.RealEstateTransactionDTO;
+import org.bobj.property.util.PublicDataXmlParser;
+import org.bobj.common.executor.ExecutorRegistry;
+import org.bobj.common.ratelimit.TokenBucket;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import lombok.extern.slf4j.Slf4j;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -32,11 +38,16 @@ public class RealEstateApiService {
     private static final String REAL_ESTATE_API_URL = "https://apis.data.go.kr/1613000/RTMSDataSvcAptTrade/getRTMSDataSvcAptTrade";
     
     private final RestTemplate restTemplate;
-    private final XmlMapper xmlMapper;
     
-    public RealEstateApiService() {
-        this.restTemplate = new RestTemplate();
-        this.xmlMapper = new XmlMapper();
+    private final TokenBucket rateLimiter;
+    private final ExecutorRegistry executorRegistry;
+
+    public RealEstateApiService(@Qualifier("publicApiRestTemplate") RestTemplate restTemplate,
+                                @Qualifier("publicDataApiRateLimiter") TokenBucket rateLimiter,
+                                ExecutorRegistry executorRegistry) {
+        this.restTemplate = restTemplate;
+        this.rateLimiter = rateLimiter;
+        this.executorRegistry = executorRegistry;
     }
     
     /**
@@ -66,29 +77,26 @@ public class RealEstateApiService {
             URI uri = URI.create(url);
             log.debug("실거래가 API 요청 URI: {}", uri);
             
-            // XML 응답을 String으로 받기 (URI 객체 사용)
-            ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
-            String xmlResponse = response.getBody();
-            
-            if (xmlResponse == null || xmlResponse.trim().isEmpty()) {
+            // 호출 속도 제한 (토큰이 생길 때까지만 대기)
+            rateLimiter.acquire();
+
+            // 응답 본문을 문자열로 만들지 않고 스트림에서 바로 파싱 (주소 정보 없는 거래는 파싱 중 제외)
+            PublicDataXmlParser.ParseResult<RealEstateTransactionDTO> result = restTemplate.execute(uri, HttpMethod.GET, null,
+                    response -> parseTransactions(response.getBody()));
+
+            if (result == null) {
                 log.warn("빈 XML 응답 - 법정동코드: {}, 거래년월: {}", lawd_cd, dealYm);
                 return Collections.emptyList();
             }
             
-            log.debug("XML 응답 (처음 500자): {}", xmlResponse.substring(0, Math.min(500, xmlResponse.length())));
-            
             // 에러 응답인지 먼저 확인
-            if (xmlResponse.contains("OpenAPI_ServiceResponse")) {
-                ApiErrorResponseDTO errorResponse = xmlMapper.readValue(xmlResponse, ApiErrorResponseDTO.class);
-                
-                String errorCode = errorResponse.getCmmMsgHeader().getReturnReasonCode();
-                String errorMsg = errorResponse.getCmmMsgHeader().getReturnAuthMsg();
-                String errMsg = errorResponse.getCmmMsgHeader().getErrMsg();
+            if (result.isServiceError()) {
+                String errorCode = result.getReturnReasonCode();
                 
                 log.error("공공데이터포털 API 오류 발생!");
                 log.error("에러 코드: {} ({})", errorCode, getErrorCodeDescription(errorCode));
-                log.error("에러 메시지: {}", errorMsg);
-                log.error("상세 메시지: {}", errMsg);
+                log.error("에러 메시지: {}", result.getReturnAuthMsg());
+                log.error("상세 메시지: {}", result.getErrMsg());
                 
                 // 에러 코드별 해결 방법 안내
                 logErrorSolution(errorCode);
@@ -96,43 +104,63 @@ public class RealEstateApiService {
                 return Collections.emptyList();
             }
             
-            // 정상 응답 파싱
-            RealEstateApiResponseDTO responseDto = xmlMapper.readValue(xmlResponse, RealEstateApiResponseDTO.class);
-            
             // 응답 검증
-            if (responseDto.getHeader() != null) {
-                String resultCode = responseDto.getHeader().getResultCode();
-                String resultMsg = responseDto.getHeader().getResultMsg();
-                
-                log.info("API 응답 - 결과코드: {}, 메시지: {}", resultCode, resultMsg);
-                
-                if (!"00".equals(resultCode) && !"000".equals(resultCode)) {
-                    log.warn("API 오류 응답 - 코드: {}, 메시지: {}", resultCode, resultMsg);
-                    return Collections.emptyList();
-                }
+            log.info("API 응답 - 결과코드: {}, 메시지: {}", result.getResultCode(), result.getResultMsg());
+            if (!result.isSuccess()) {
+                log.warn("API 오류 응답 - 코드: {}, 메시지: {}", result.getResultCode(), result.getResultMsg());
+                return Collections.emptyList();
             }
             
             // 데이터 추출
-            if (responseDto.getBody() != null && 
-                responseDto.getBody().getItems() != null && 
-                responseDto.getBody().getItems().getItem() != null) {
-                
-                List<RealEstateTransactionDTO> transactions = responseDto.getBody().getItems().getItem();
-                
-                log.info("실거래가 조회 성공 - 건수: {}", transactions.size());
-                
-                return transactions;
-            } else {
+            if (result.getItems().isEmpty()) {
                 log.warn("실거래가 데이터가 없음 - 법정동코드: {}, 거래년월: {}", lawd_cd, dealYm);
                 return Collections.emptyList();
             }
+
+            log.info("실거래가 조회 성공 - 건수: {} (수신: {})", result.getItems().size(), result.getReadCount());
+            return result.getItems();
             
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("실거래가 API 호출 대기 중 인터럽트 발생 - 법정동코드: {}, 거래년월: {}", lawd_cd, dealYm);
+            return Collections.emptyList();
         } catch (Exception e) {
             log.error("실거래가 API 호출 중 오류 발생: {}", e.getMessage(), e);
             return Collections.emptyList();
         }
     }
     
+    //실거래가 XML 스트리밍 파싱
+    private PublicDataXmlParser.ParseResult<RealEstateTransactionDTO> parseTransactions(InputStream body) throws IOException {
+        try {
+            return PublicDataXmlParser.parse(body, RealEstateTransactionDTO::new,
+                    RealEstateApiService::setTransactionField, RealEstateApiService::hasAddress);
+        } catch (XMLStreamException e) {
+            throw new IOException("실거래가 XML 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static void setTransactionField(RealEstateTransactionDTO transaction, String field, String value) {
+        switch (field) {
+            case "aptNm" -> transaction.setAptNm(value);
+            case "dealAmount" -> transaction.setDealAmount(value);
+            case "jibun" -> transaction.setJibun(value);
+            case "umdNm" -> transaction.setUmdNm(value);
+            case "estateAgentSggNm" -> transaction.setEstateAgentSggNm(value);
+            default -> { }
+        }
+    }
+
+    // 주소를 만들 수 없는 거래는 좌표 변환이 불가능하므로 제외
+    private static boolean hasAddress(RealEstateTransactionDTO transaction) {
+        return isNotBlank(transaction.getUmdNm()) || isNotBlank(transaction.getAptNm())
+                || isNotBlank(transaction.getEstateAgentSggNm()) || isNotBlank(transaction.getJibun());
+    }
+
+    private static boolean isNotBlank(String value) {
+        return value != null && !value.isEmpty();
+    }
+
     /**
      * 에러 코드 설명 반환
      */
@@ -174,20 +202,19 @@ public class RealEstateApiService {
      * @return 실거래가 목록
      */
     public List<RealEstateTransactionDTO> getRecentRealEstateTransactions(String lawd_cd) {
-        List<RealEstateTransactionDTO> allTransactions = new java.util.ArrayList<>();
-        
         LocalDate now = LocalDate.now();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMM");
-        
-        // 최근 3개월 데이터 조회
+
+        // 최근 3개월 데이터 동시 조회 (호출 간격은 rateLimiter가 조절)
+        List<CompletableFuture<List<RealEstateTransactionDTO>>> futures = new ArrayList<>();
         for (int i = 0; i < 3; i++) {
-            LocalDate targetMonth = now.minusMonths(i);
-            String dealYm = targetMonth.format(formatter);
-            
-            List<RealEstateTransactionDTO> monthlyTransactions = getRealEstateTransactions(lawd_cd, dealYm);
-            allTransactions.addAll(monthlyTransactions);
+            String dealYm = now.minusMonths(i).format(formatter);
+            futures.add(executorRegistry.supplyAsync(ExecutorRegistry.EXTERNAL_API,
+                    () -> getRealEstateTransactions(lawd_cd, dealYm)));
         }
-        
+
+        List<RealEstateTransactionDTO> allTransactions = new ArrayList<>();
+        futures.forEach(future -> allTransactions.addAll(future.join()));
         return allTransactions;
     }
     
@@ -0,0 +1,163 @@
+package org.bobj.property.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bobj.common.executor.ExecutorRegistry;
+import org.bobj.property.domain.PropertyVO;
+import org.bobj.property.mapper.PropertyMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매물 월세 추정 파이프라인
+ * - 매물 등록 요청/트랜잭션에서 공공 API 호출을 분리해, 커밋 후 작업 큐에 넣고 백그라운드 풀에서 처리한다.
+ * - 전월세 데이터 조회 실패 시 지수 백오프로 재시도하고, 최종 실패 시 기본 월세를 적용한다.
+ * - 법정동코드별 월세 거래 데이터는 RentalIncomeService에서 캐싱되어 같은 지역 매물끼리 공유된다.
+ * - 큐는 메모리에만 유지되므로, 서버 재시작 등으로 사라진 작업은 rental_income이 비어 있는 매물을
+ *   주기적으로 찾아 다시 등록한다. (backfillMissingEstimates)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RentalEstimationService {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MS = 30_000;        // 첫 재시도 30초 후
+    private static final long MAX_BACKOFF_MS = 30 * 60_000;    // 최대 30분 간격
+
+    private final RentalIncomeService rentalIncomeService;
+    private final PropertyMapper propertyMapper;
+    private final ExecutorRegistry executorRegistry;
+
+    private static final int BACKFILL_BATCH_SIZE = 100;
+
+    private final DelayQueue<EstimationJob> queue = new DelayQueue<>();
+    // 큐에 있거나 처리 중인 매물 ID (보충 작업의 중복 등록 방지)
+    private final Set<Long> queuedPropertyIds = ConcurrentHashMap.newKeySet();
+
+    // 월세 추정 요청 - 트랜잭션 안이면 커밋 후에 큐에 등록
+    public void requestEstimation(Long propertyId, String rawdCd, String address) {
+        EstimationJob job = new EstimationJob(propertyId, rawdCd, address);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(job);
+                }
+            });
+        } else {
+            enqueue(job);
+        }
+        log.info("매물 월세 추정 작업 등록 - 매물ID: {}, 법정동코드: {}", propertyId, rawdCd);
+    }
+
+    // 월세 추정이 끝나지 않은 매물을 다시 큐에 등록 (PropertyScheduler에서 주기적으로 호출)
+    public void backfillMissingEstimates() {
+        int added = 0;
+        for (PropertyVO property : propertyMapper.findPropertiesWithoutRentalIncome(BACKFILL_BATCH_SIZE)) {
+            if (enqueue(new EstimationJob(property.getPropertyId(), property.getRawdCd(), property.getAddress()))) {
+                added++;
+            }
+        }
+        if (added > 0) {
+            log.info("월세 추정 누락 매물 재등록 - {}건", added);
+        }
+    }
+
+    // 실행 시점이 된 작업을 백그라운드 풀로 넘긴다. (PropertyScheduler에서 주기적으로 호출)
+    public void dispatchDueJobs() {
+        ExecutorService executor = executorRegistry.get(ExecutorRegistry.BACKGROUND);
+        EstimationJob job;
+        while ((job = queue.poll()) != null) {
+            EstimationJob dueJob = job;
+            executor.execute(() -> process(dueJob));
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    // 이미 큐에 있거나 처리 중인 매물이면 false
+    private boolean enqueue(EstimationJob job) {
+        if (!queuedPropertyIds.add(job.propertyId)) {
+            return false;
+        }
+        queue.offer(job);
+        return true;
+    }
+
+    private void process(EstimationJob job) {
+        job.attempt++;
+        try {
+            BigDecimal rentalIncome = rentalIncomeService.estimateMonthlyRent(job.rawdCd, job.address);
+            propertyMapper.updateRentalIncome(job.propertyId, rentalIncome);
+            queuedPropertyIds.remove(job.propertyId);
+            log.info("매물 월세 자동 설정 완료 - 매물ID: {}, 월세: {}원, 시도: {}회", job.propertyId, rentalIncome, job.attempt);
+
+        } catch (IllegalArgumentException e) {
+            log.error("월세 추정 입력값 오류 - 매물ID: {}, 오류: {}, 기본값 적용", job.propertyId, e.getMessage());
+            applyDefault(job);
+
+        } catch (Exception e) {
+            if (job.attempt >= MAX_ATTEMPTS) {
+                log.error("월세 추정 최종 실패 - 매물ID: {}, 시도: {}회, 오류: {}, 기본값 적용",
+                        job.propertyId, job.attempt, e.getMessage());
+                applyDefault(job);
+                return;
+            }
+
+            long backoffMs = Math.min(BASE_BACKOFF_MS << (job.attempt - 1), MAX_BACKOFF_MS);
+            job.nextRunAtMillis = System.currentTimeMillis() + backoffMs;
+            queue.offer(job);
+            log.warn("월세 추정 실패, {}초 후 재시도 - 매물ID: {}, 시도: {}회, 오류: {}",
+                    backoffMs / 1000, job.propertyId, job.attempt, e.getMessage());
+        }
+    }
+
+    private void applyDefault(EstimationJob job) {
+        try {
+            propertyMapper.updateRentalIncome(job.propertyId, rentalIncomeService.getDefaultMonthlyRent());
+        } catch (Exception e) {
+            log.error("기본 월세 적용 실패 - 매물ID: {}, 오류: {}", job.propertyId, e.getMessage(), e);
+        } finally {
+            // 기본값 저장까지 실패했다면 rental_income이 비어 있으므로 보충 작업이 다시 등록한다.
+            queuedPropertyIds.remove(job.propertyId);
+        }
+    }
+
+    private static final class EstimationJob implements Delayed {
+        private final Long propertyId;
+        private final String rawdCd;
+        private final String address;
+        private int attempt;
+        private volatile long nextRunAtMillis;
+
+        private EstimationJob(Long propertyId, String rawdCd, String address) {
+            this.propertyId = propertyId;
+            this.rawdCd = rawdCd;
+            this.address = address;
+            this.nextRunAtMillis = System.currentTimeMillis();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(nextRunAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
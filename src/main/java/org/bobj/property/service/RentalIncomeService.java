@@ -1,23 +1,33 @@
 package org.bobj.property.service;
 
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import org.bobj.property.dto.ApiErrorResponseDTO;
-import org.bobj.property.dto.RentalResponseDTO;
 import org.bobj.property.dto.RentalTransactionDTO;
+import org.bobj.property.util.PublicDataXmlParser;
+import org.bobj.property.util.RentalMatchIndex;
+import org.bobj.common.cache.LocalTtlCache;
+import org.bobj.common.executor.ExecutorRegistry;
+import org.bobj.common.ratelimit.TokenBucket;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 /**
  * 공공데이터포털 아파트 전월세 실거래가 API를 호출하는 서비스
@@ -27,19 +37,19 @@ import java.util.List;
 @Service
 public class RentalIncomeService {
     
-    // 주소 매칭 점수 상수
-    private static final int SCORE_UMD_JIBUN_MATCH = 50;  // 법정동 + 지번 매칭
-    private static final int SCORE_APT_NAME_MATCH = 20;   // 아파트명 매칭
-    private static final int SCORE_UMD_ONLY_MATCH = 5;    // 읍면동명만 매칭
-    private static final int SCORE_OTHER_MATCH = 1;       // 기타 키워드 매칭
-    
     // 기본 월세 금액 (원 단위)
     private static final BigDecimal DEFAULT_MONTHLY_RENT = new BigDecimal("100");
     
     // API 호출 관련 상수
-    private static final int API_CALL_DELAY_MS = 100;     // API 호출 간격 (0.1초)
     private static final int MAX_ROWS_PER_REQUEST = 1000; // 한 번에 조회할 최대 건수
     private static final int YEARLY_MONTHS = 12;          // 1년치 데이터 조회 개월 수
+
+    // 법정동코드별 6개월치 월세 거래 매칭 인덱스 캐시 (같은 지역 매물끼리 공유, 동시 요청 시 API 조회 1회)
+    private static final Duration MONTHLY_RENT_CACHE_TTL = Duration.ofHours(6);
+    private final LocalTtlCache<String, RentalMatchIndex> monthlyRentIndexCache = new LocalTtlCache<>(300);
+
+    // 월세 거래만 (전세 제외)
+    private static final Predicate<RentalTransactionDTO> MONTHLY_RENT_ONLY = tx -> tx.getMonthlyRentAsLong() > 0;
     
     // 공공데이터포털 API 키 (application.properties에서 설정)
     @Value("${public.data.api.key:}")
@@ -49,11 +59,16 @@ public class RentalIncomeService {
     private static final String RENTAL_API_URL = "https://apis.data.go.kr/1613000/RTMSDataSvcAptRent/getRTMSDataSvcAptRent";
 
     private final RestTemplate restTemplate;
-    private final XmlMapper xmlMapper;
 
-    public RentalIncomeService() {
-        this.restTemplate = new RestTemplate();
-        this.xmlMapper = new XmlMapper();
+    private final TokenBucket rateLimiter;
+    private final ExecutorRegistry executorRegistry;
+
+    public RentalIncomeService(@Qualifier("publicApiRestTemplate") RestTemplate restTemplate,
+                               @Qualifier("publicDataApiRateLimiter") TokenBucket rateLimiter,
+                               ExecutorRegistry executorRegistry) {
+        this.restTemplate = restTemplate;
+        this.rateLimiter = rateLimiter;
+        this.executorRegistry = executorRegistry;
     }
 
     /**
@@ -63,6 +78,15 @@ public class RentalIncomeService {
      * @return 전월세 실거래가 목록
      */
     public List<RentalTransactionDTO> getRentalTransactions(String lawd_cd, String dealYm) {
+        return getRentalTransactions(lawd_cd, dealYm, transaction -> true);
+    }
+
+    /**
+     * 아파트 전월세 실거래가 정보를 조회하면서 filter를 통과한 거래만 반환 (파싱 중 바로 적용)
+     * @param filter 포함할 거래 조건
+     */
+    public List<RentalTransactionDTO> getRentalTransactions(String lawd_cd, String dealYm,
+                                                            Predicate<RentalTransactionDTO> filter) {
         try {
             log.debug("아파트 전월세 실거래가 API 호출 - 법정동코드: {}, 거래년월: {}", lawd_cd, dealYm);
 
@@ -83,29 +107,26 @@ public class RentalIncomeService {
             URI uri = URI.create(url);
             log.debug("전월세 실거래가 API 요청 URI: {}", uri);
 
-            // XML 응답을 String으로 받기 (URI 객체 사용)
-            ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
-            String xmlResponse = response.getBody();
+            // 호출 속도 제한 (토큰이 생길 때까지만 대기)
+            rateLimiter.acquire();
+
+            // 응답 본문을 문자열로 만들지 않고 스트림에서 바로 파싱 (filter는 파싱 중 적용)
+            PublicDataXmlParser.ParseResult<RentalTransactionDTO> result = restTemplate.execute(uri, HttpMethod.GET, null,
+                    response -> parseRentalTransactions(response.getBody(), filter));
 
-            if (xmlResponse == null || xmlResponse.trim().isEmpty()) {
+            if (result == null) {
                 log.warn("빈 XML 응답 - 법정동코드: {}, 거래년월: {}", lawd_cd, dealYm);
                 return Collections.emptyList();
             }
 
-            log.debug("XML 응답 (처음 500자): {}", xmlResponse.substring(0, Math.min(500, xmlResponse.length())));
-
             // 에러 응답인지 먼저 확인
-            if (xmlResponse.contains("OpenAPI_ServiceResponse")) {
-                ApiErrorResponseDTO errorResponse = xmlMapper.readValue(xmlResponse, ApiErrorResponseDTO.class);
-                
-                String errorCode = errorResponse.getCmmMsgHeader().getReturnReasonCode();
-                String errorMsg = errorResponse.getCmmMsgHeader().getReturnAuthMsg();
-                String errMsg = errorResponse.getCmmMsgHeader().getErrMsg();
+            if (result.isServiceError()) {
+                String errorCode = result.getReturnReasonCode();
                 
                 log.error("공공데이터포털 전월세 API 오류 발생!");
                 log.error("에러 코드: {} ({})", errorCode, getErrorCodeDescription(errorCode));
-                log.error("에러 메시지: {}", errorMsg);
-                log.error("상세 메시지: {}", errMsg);
+                log.error("에러 메시지: {}", result.getReturnAuthMsg());
+                log.error("상세 메시지: {}", result.getErrMsg());
                 
                 // 에러 코드별 해결 방법 안내
                 logErrorSolution(errorCode);
@@ -113,50 +134,73 @@ public class RentalIncomeService {
                 return Collections.emptyList();
             }
 
-            // 정상 응답 파싱 - 전월세 전용 DTO 사용
-            RentalResponseDTO responseDto = xmlMapper.readValue(xmlResponse, RentalResponseDTO.class);
-
             // 응답 검증
-            if (responseDto.getHeader() != null) {
-                String resultCode = responseDto.getHeader().getResultCode();
-                String resultMsg = responseDto.getHeader().getResultMsg();
-                
-                log.debug("전월세 API 응답 - 결과코드: {}, 메시지: {}", resultCode, resultMsg);
-
-                if (!"00".equals(resultCode) && !"000".equals(resultCode)) {
-                    log.warn("전월세 API 오류 응답 - 코드: {}, 메시지: {}", resultCode, resultMsg);
-                    return Collections.emptyList();
-                }
+            log.debug("전월세 API 응답 - 결과코드: {}, 메시지: {}", result.getResultCode(), result.getResultMsg());
+            if (!result.isSuccess()) {
+                log.warn("전월세 API 오류 응답 - 코드: {}, 메시지: {}", result.getResultCode(), result.getResultMsg());
+                return Collections.emptyList();
             }
 
             // 데이터 추출
-            if (responseDto.getBody() != null &&
-                    responseDto.getBody().getItems() != null &&
-                    responseDto.getBody().getItems().getItem() != null) {
-
-                List<RentalTransactionDTO> transactions = responseDto.getBody().getItems().getItem();
-                
-                log.info("전월세 실거래가 조회 성공 - 건수: {}", transactions.size());
-                
-                // 로그로 데이터 샘플 출력 (첫 번째 데이터만)
-                if (!transactions.isEmpty()) {
-                    RentalTransactionDTO sample = transactions.get(0);
-                    log.debug("샘플 데이터 - 아파트: {}, 보증금: {}만원, 월세: {}만원, 전용면적: {}㎡", 
-                             sample.getAptNm(), sample.getDeposit(), sample.getMonthlyRent(), sample.getExcluUseAr());
-                }
-
-                return transactions;
-            } else {
+            List<RentalTransactionDTO> transactions = result.getItems();
+            if (transactions.isEmpty()) {
                 log.warn("전월세 실거래가 데이터가 없음 - 법정동코드: {}, 거래년월: {}", lawd_cd, dealYm);
                 return Collections.emptyList();
             }
 
+            log.info("전월세 실거래가 조회 성공 - 건수: {} (수신: {})", transactions.size(), result.getReadCount());
+
+            // 로그로 데이터 샘플 출력 (첫 번째 데이터만)
+            RentalTransactionDTO sample = transactions.get(0);
+            log.debug("샘플 데이터 - 아파트: {}, 보증금: {}만원, 월세: {}만원, 전용면적: {}㎡", 
+                     sample.getAptNm(), sample.getDeposit(), sample.getMonthlyRent(), sample.getExcluUseAr());
+
+            return transactions;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("전월세 API 호출 대기 중 인터럽트 발생 - 법정동코드: {}, 거래년월: {}", lawd_cd, dealYm);
+            return Collections.emptyList();
         } catch (Exception e) {
             log.error("전월세 실거래가 API 호출 중 오류 발생: {}", e.getMessage(), e);
             return Collections.emptyList();
         }
     }
 
+    //전월세 XML 스트리밍 파싱
+    private PublicDataXmlParser.ParseResult<RentalTransactionDTO> parseRentalTransactions(
+            InputStream body, Predicate<RentalTransactionDTO> filter) throws IOException {
+        try {
+            return PublicDataXmlParser.parse(body, RentalTransactionDTO::new,
+                    RentalIncomeService::setRentalField, filter);
+        } catch (XMLStreamException e) {
+            throw new IOException("전월세 XML 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static void setRentalField(RentalTransactionDTO transaction, String field, String value) {
+        switch (field) {
+            case "aptNm" -> transaction.setAptNm(value);
+            case "buildYear" -> transaction.setBuildYear(value);
+            case "contractTerm" -> transaction.setContractTerm(value);
+            case "contractType" -> transaction.setContractType(value);
+            case "dealYear" -> transaction.setDealYear(value);
+            case "dealMonth" -> transaction.setDealMonth(value);
+            case "dealDay" -> transaction.setDealDay(value);
+            case "deposit" -> transaction.setDeposit(value);
+            case "excluUseAr" -> transaction.setExcluUseAr(value);
+            case "floor" -> transaction.setFloor(value);
+            case "jibun" -> transaction.setJibun(value);
+            case "monthlyRent" -> transaction.setMonthlyRent(value);
+            case "preDeposit" -> transaction.setPreDeposit(value);
+            case "preMonthlyRent" -> transaction.setPreMonthlyRent(value);
+            case "sggCd" -> transaction.setSggCd(value);
+            case "umdNm" -> transaction.setUmdNm(value);
+            case "useRRRight" -> transaction.setUseRRRight(value);
+            default -> { }
+        }
+    }
+
     /**
      * 에러 코드 설명 반환
      */
@@ -176,223 +220,94 @@ public class RentalIncomeService {
      * 6개월치 전월세 데이터를 조회하여 주소가 일치하는 가장 최근 월세 데이터의 월세금액을 반환
      * @param lawd_cd 법정동코드 (5자리)
      * @param propertyAddress 매물 주소
-     * @return 가장 최근 월세 금액 (원 단위, 매칭 실패 시 기본값 100원)
+     * @return 가장 최근 월세 금액 (원 단위, 매칭/조회 실패 시 기본값 100원)
      */
     public BigDecimal getLatestMonthlyRentForProperty(String lawd_cd, String propertyAddress) {
         try {
-            log.info("매물 자동 월세 계산 시작 - 법정동코드: {}, 매물주소: {}", lawd_cd, propertyAddress);
-
-            // 입력값 검증
-            if (lawd_cd == null || lawd_cd.trim().isEmpty()) {
-                log.error("법정동코드가 비어있음 - 기본값 {}원 반환", DEFAULT_MONTHLY_RENT);
-                return DEFAULT_MONTHLY_RENT;
-            }
-
-            if (propertyAddress == null || propertyAddress.trim().isEmpty()) {
-                log.error("매물 주소가 비어있음 - 기본값 {}원 반환", DEFAULT_MONTHLY_RENT);
-                return DEFAULT_MONTHLY_RENT;
-            }
-
-            List<RentalTransactionDTO> yearlyTransactions = getYearlyRentalTransactions(lawd_cd);
-            
-            if (yearlyTransactions.isEmpty()) {
-                log.warn("6개월치 전월세 데이터가 없음 - 법정동코드: {}, 기본값 {}원 반환", lawd_cd, DEFAULT_MONTHLY_RENT);
-                return DEFAULT_MONTHLY_RENT;
-            }
-
-            // 월세 거래만 필터링 (월세금액이 0이 아닌 것들)
-            List<RentalTransactionDTO> monthlyRentTransactions = yearlyTransactions.stream()
-                    .filter(tx -> tx.getMonthlyRentAsLong() > 0)
-                    .toList();
-
-            if (monthlyRentTransactions.isEmpty()) {
-                log.warn("월세 거래 데이터가 없음 - 법정동코드: {}, 기본값 {}원 반환", lawd_cd, DEFAULT_MONTHLY_RENT);
-                return DEFAULT_MONTHLY_RENT;
-            }
-
-            log.info("전체 전월세 거래: {}건, 월세 거래: {}건", yearlyTransactions.size(), monthlyRentTransactions.size());
-
-            // 주소 매칭 및 가장 최근 데이터 찾기
-            RentalTransactionDTO bestMatch = findBestMatchingRentalData(monthlyRentTransactions, propertyAddress);
-
-            if (bestMatch != null) {
-                // 만원 단위를 원 단위로 변환 (x10000)
-                BigDecimal monthlyRentInWon = new BigDecimal(bestMatch.getMonthlyRent()).multiply(new BigDecimal("10000"));
-                log.info("매칭된 월세 데이터 - 아파트: {}, 주소: {}, 월세: {}만원 → {}원, 거래일: {}", 
-                         bestMatch.getAptNm(), bestMatch.getFullAddress(), 
-                         bestMatch.getMonthlyRent(), monthlyRentInWon, bestMatch.getDealDay());
-                return monthlyRentInWon;
-            } else {
-                log.warn("주소가 매칭되는 월세 데이터를 찾을 수 없음 - 매물주소: {}, 기본값 {}원 적용", propertyAddress, DEFAULT_MONTHLY_RENT);
-                return DEFAULT_MONTHLY_RENT;
-            }
-
+            return estimateMonthlyRent(lawd_cd, propertyAddress);
         } catch (IllegalArgumentException e) {
             log.error("잘못된 입력값으로 인한 월세 계산 실패: {}, 기본값 {}원 반환", e.getMessage(), DEFAULT_MONTHLY_RENT);
             return DEFAULT_MONTHLY_RENT;
         } catch (Exception e) {
-            log.error("매물 자동 월세 계산 중 예상치 못한 오류 발생: {}, 기본값 {}원 반환", e.getMessage(), DEFAULT_MONTHLY_RENT, e);
+            log.error("매물 자동 월세 계산 중 오류 발생: {}, 기본값 {}원 반환", e.getMessage(), DEFAULT_MONTHLY_RENT, e);
             return DEFAULT_MONTHLY_RENT;
         }
     }
 
     /**
-     * 6개월치 전월세 실거래가 데이터를 조회 (성능 최적화)
-     * @param lawd_cd 법정동코드 (5자리)
-     * @return 6개월치 전월세 실거래가 목록
+     * 월세 추정 (재시도 가능한 작업용)
+     * - 법정동코드별 6개월치 월세 거래는 캐싱되어 같은 지역 매물끼리 공유한다.
+     * @return 매칭된 월세 금액 (원 단위), 데이터는 있으나 매칭 실패 시 기본값 100원
+     * @throws IllegalArgumentException 입력값 오류 (재시도 불필요)
+     * @throws IllegalStateException 전월세 데이터를 조회하지 못함 (재시도 대상)
      */
-    private List<RentalTransactionDTO> getYearlyRentalTransactions(String lawd_cd) {
-        List<RentalTransactionDTO> allTransactions = new java.util.ArrayList<>();
-        
-        LocalDate now = LocalDate.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMM");
-        
-        log.info("6개월치 전월세 실거래가 조회 시작 - 법정동코드: {}", lawd_cd);
-        
-        // 최근 6개월 데이터 조회 (성능 최적화)
-        for (int i = 0; i < 6; i++) {
-            LocalDate targetMonth = now.minusMonths(i);
-            String dealYm = targetMonth.format(formatter);
-            
-            List<RentalTransactionDTO> monthlyTransactions = getRentalTransactions(lawd_cd, dealYm);
-            allTransactions.addAll(monthlyTransactions);
-            
-            // API 호출 간격 (과도한 요청 방지)
-            if (i < 5) {
-                try {
-                    Thread.sleep(API_CALL_DELAY_MS);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.warn("API 호출 대기 중 인터럽트 발생");
-                    break;
-                }
-            }
+    public BigDecimal estimateMonthlyRent(String lawd_cd, String propertyAddress) {
+        log.info("매물 자동 월세 계산 시작 - 법정동코드: {}, 매물주소: {}", lawd_cd, propertyAddress);
+
+        // 입력값 검증
+        if (lawd_cd == null || lawd_cd.trim().isEmpty()) {
+            throw new IllegalArgumentException("법정동코드가 비어있습니다.");
+        }
+        if (propertyAddress == null || propertyAddress.trim().isEmpty()) {
+            throw new IllegalArgumentException("매물 주소가 비어있습니다.");
         }
-        
-        log.info("6개월치 전월세 실거래가 조회 완료 - 총 건수: {}", allTransactions.size());
-        
-        return allTransactions;
-    }
 
-    /**
-     * 매물 주소와 가장 일치하는 최신 월세 데이터를 찾는 메서드
-     * @param monthlyRentTransactions 월세 거래 목록
-     * @param propertyAddress 매물 주소
-     * @return 가장 적합한 월세 거래 데이터
-     */
-    private RentalTransactionDTO findBestMatchingRentalData(List<RentalTransactionDTO> monthlyRentTransactions, String propertyAddress) {
-        RentalTransactionDTO bestMatch = null;
-        int bestScore = 0;
-        String latestDealDate = "";
+        // 월세 거래만 조회 (월세금액이 0이 아닌 것들, 파싱 단계에서 필터링) 후 인덱싱 - 빈 결과는 캐싱하지 않음
+        String lawdCd = lawd_cd.trim();
+        RentalMatchIndex index = monthlyRentIndexCache.get(lawdCd,
+                () -> RentalMatchIndex.build(getYearlyRentalTransactions(lawdCd)),
+                built -> built.isEmpty() ? Duration.ZERO : MONTHLY_RENT_CACHE_TTL);
 
-        // 매물 주소에서 키워드 추출 (아파트명, 동명 등)
-        String[] propertyKeywords = extractAddressKeywords(propertyAddress);
-        
-        log.debug("매물 주소 키워드: {}", String.join(", ", propertyKeywords));
-
-        for (RentalTransactionDTO transaction : monthlyRentTransactions) {
-            int matchScore = calculateAddressMatchScore(transaction, propertyKeywords);
-            String dealDate = transaction.getDealDay();
-
-            // 점수가 더 높거나, 점수가 같으면서 더 최근 데이터인 경우
-            if (matchScore > bestScore || 
-                (matchScore == bestScore && matchScore > 0 && dealDate.compareTo(latestDealDate) > 0)) {
-                bestMatch = transaction;
-                bestScore = matchScore;
-                latestDealDate = dealDate;
-            }
+        if (index.isEmpty()) {
+            throw new IllegalStateException("월세 거래 데이터를 조회하지 못했습니다. 법정동코드: " + lawdCd);
         }
 
-        if (bestMatch != null) {
-            log.debug("최종 선택된 데이터 - 매칭점수: {}, 아파트: {}, 거래일: {}", 
-                     bestScore, bestMatch.getAptNm(), bestMatch.getDealDay());
-        }
+        log.info("6개월치 월세 거래: {}건", index.size());
 
-        return bestMatch;
-    }
+        // 주소 매칭 및 가장 최근 데이터 찾기 (인덱스 조회)
+        RentalTransactionDTO bestMatch = index.findBestMatch(propertyAddress);
 
-    /**
-     * 주소에서 매칭에 사용할 키워드들을 추출
-     * @param address 주소
-     * @return 키워드 배열
-     */
-    private String[] extractAddressKeywords(String address) {
-        if (address == null || address.trim().isEmpty()) {
-            return new String[0];
+        if (bestMatch == null) {
+            log.warn("주소가 매칭되는 월세 데이터를 찾을 수 없음 - 매물주소: {}, 기본값 {}원 적용", propertyAddress, DEFAULT_MONTHLY_RENT);
+            return DEFAULT_MONTHLY_RENT;
         }
 
-        // 주소를 공백과 특수문자로 분리하여 키워드 추출
-        String cleanAddress = address.replaceAll("[^가-힣a-zA-Z0-9\\s]", " ");
-        String[] keywords = cleanAddress.trim().split("\\s+");
-        
-        // 2글자 이상인 키워드만 사용 (의미있는 키워드 추출)
-        return java.util.Arrays.stream(keywords)
-                .filter(keyword -> keyword.length() >= 2)
-                .toArray(String[]::new);
+        // 만원 단위를 원 단위로 변환 (x10000)
+        BigDecimal monthlyRentInWon = BigDecimal.valueOf(bestMatch.getMonthlyRentAsLong()).multiply(new BigDecimal("10000"));
+        log.info("매칭된 월세 데이터 - 아파트: {}, 주소: {}, 월세: {}만원 → {}원, 거래일: {}", 
+                 bestMatch.getAptNm(), bestMatch.getFullAddress(), 
+                 bestMatch.getMonthlyRent(), monthlyRentInWon, bestMatch.getDealDay());
+        return monthlyRentInWon;
+    }
+
+    public BigDecimal getDefaultMonthlyRent() {
+        return DEFAULT_MONTHLY_RENT;
     }
 
     /**
-     * 전월세 거래 데이터와 매물 주소의 매칭 점수 계산
-     * 1순위: 법정동 + 지번 매칭 (50점)
-     * 2순위: 아파트명 매칭 (20점)
-     * 기타: 읍면동명 매칭 (5점), 기타 키워드 매칭 (1점)
-     * @param transaction 전월세 거래 데이터
-     * @param propertyKeywords 매물 주소 키워드들
-     * @return 매칭 점수 (높을수록 일치도 높음)
+     * 6개월치 월세 실거래가 데이터를 조회 (전세 거래는 파싱 단계에서 제외)
+     * @param lawd_cd 법정동코드 (5자리)
+     * @return 6개월치 월세 실거래가 목록
      */
-    private int calculateAddressMatchScore(RentalTransactionDTO transaction, String[] propertyKeywords) {
-        int score = 0;
-        String fullTransactionAddress = transaction.getFullAddress().toLowerCase();
-        String aptName = transaction.getAptNm() != null ? transaction.getAptNm().toLowerCase() : "";
-        String umdName = transaction.getUmdNm() != null ? transaction.getUmdNm().toLowerCase() : "";
-        String jibun = transaction.getJibun() != null ? transaction.getJibun().toLowerCase() : "";
-
-        // 법정동 + 지번 매칭 체크 (1순위 - 50점)
-        boolean umdMatched = false;
-        boolean jibunMatched = false;
-        
-        for (String keyword : propertyKeywords) {
-            String lowerKeyword = keyword.toLowerCase();
-            
-            // 읍면동명 매칭 체크
-            if (umdName.contains(lowerKeyword) && lowerKeyword.length() >= 2) {
-                umdMatched = true;
-            }
-            
-            // 지번 매칭 체크 (숫자 포함 키워드)
-            if (jibun.contains(lowerKeyword) && lowerKeyword.matches(".*\\d.*")) {
-                jibunMatched = true;
-            }
-        }
+    private List<RentalTransactionDTO> getYearlyRentalTransactions(String lawd_cd) {
+        LocalDate now = LocalDate.now();
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMM");
+        log.info("6개월치 전월세 실거래가 조회 시작 - 법정동코드: {}", lawd_cd);
         
-        // 법정동 + 지번 둘 다 매칭되면 최고 점수
-        if (umdMatched && jibunMatched) {
-            score += SCORE_UMD_JIBUN_MATCH;
-            log.debug("법정동+지번 매칭 (+{}점) - 읍면동: {}, 지번: {}", SCORE_UMD_JIBUN_MATCH, umdName, jibun);
-        }
-
-        // 개별 키워드별 점수 계산
-        for (String keyword : propertyKeywords) {
-            String lowerKeyword = keyword.toLowerCase();
-            
-            // 아파트명에 키워드가 포함되어 있으면 높은 점수 (2순위)
-            if (aptName.contains(lowerKeyword) && lowerKeyword.length() >= 2) {
-                score += SCORE_APT_NAME_MATCH;
-                log.debug("아파트명 매칭 (+{}점) - 키워드: {}, 아파트: {}", SCORE_APT_NAME_MATCH, lowerKeyword, aptName);
-            }
-            // 읍면동명에 키워드가 포함되어 있으면 중간 점수 (이미 법정동+지번으로 점수를 받지 않은 경우)
-            else if (umdName.contains(lowerKeyword) && !umdMatched) {
-                score += SCORE_UMD_ONLY_MATCH;
-                log.debug("읍면동명 매칭 (+{}점) - 키워드: {}, 읍면동: {}", SCORE_UMD_ONLY_MATCH, lowerKeyword, umdName);
-            }
-            // 전체 주소에 키워드가 포함되어 있으면 낮은 점수
-            else if (fullTransactionAddress.contains(lowerKeyword)) {
-                score += SCORE_OTHER_MATCH;
-                log.debug("기타 주소 매칭 (+{}점) - 키워드: {}", SCORE_OTHER_MATCH, lowerKeyword);
-            }
+        // 최근 6개월 데이터 동시 조회 (호출 간격은 rateLimiter가 조절)
+        List<CompletableFuture<List<RentalTransactionDTO>>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String dealYm = now.minusMonths(i).format(formatter);
+            futures.add(executorRegistry.supplyAsync(ExecutorRegistry.EXTERNAL_API,
+                    () -> getRentalTransactions(lawd_cd, dealYm, MONTHLY_RENT_ONLY)));
         }
 
-        return score;
+        List<RentalTransactionDTO> allTransactions = new ArrayList<>();
+        futures.forEach(future -> allTransactions.addAll(future.join()));
+        
+        log.info("6개월치 전월세 실거래가 조회 완료 - 총 건수: {}", allTransactions.size());
+        
+        return allTransactions;
     }
 
     /**
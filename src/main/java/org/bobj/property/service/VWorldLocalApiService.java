@@ -1,6 +1,7 @@
 package org.bobj.property.service;
 
 import org.bobj.property.dto.CoordinateDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -24,8 +25,8 @@ public class VWorldLocalApiService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     
-    public VWorldLocalApiService() {
-        this.restTemplate = new RestTemplate();
+    public VWorldLocalApiService(@Qualifier("publicApiRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
         this.objectMapper = new ObjectMapper();
     }
     
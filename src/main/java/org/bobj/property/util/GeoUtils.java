@@ -5,6 +5,12 @@ public class GeoUtils {
     // 지구 반지름 (킬로미터)
     private static final double EARTH_RADIUS_KM = 6371.0;
 
+    // 위도 1도당 거리 (킬로미터)
+    public static final double KM_PER_DEGREE = 111.32;
+
+    // 격자 셀 크기 (약 1km)
+    public static final double GRID_CELL_DEGREES = 0.01;
+
     public static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
         // 위도와 경도의 차이를 라디안으로 변환
         double dLat = Math.toRadians(lat2 - lat1);
@@ -36,4 +42,20 @@ public class GeoUtils {
                latitude >= -90 && latitude <= 90 &&
                longitude >= -180 && longitude <= 180;
     }
+
+    // 좌표(도)를 격자 셀 번호로 변환
+    public static int toGridCell(double degrees) {
+        return (int) Math.floor(degrees / GRID_CELL_DEGREES);
+    }
+
+    // 반경(km)에 해당하는 위도 차이(도)
+    public static double latitudeDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE;
+    }
+
+    // 해당 위도에서 반경(km)에 해당하는 경도 차이(도)
+    public static double longitudeDelta(double radiusKm, double latitude) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        return cos > 0 ? radiusKm / (KM_PER_DEGREE * cos) : 180.0;
+    }
 }
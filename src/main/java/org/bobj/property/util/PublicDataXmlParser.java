@@ -0,0 +1,101 @@
+package org.bobj.property.util;
+
+import lombok.Getter;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 공공데이터포털 XML 응답 스트리밍(StAX) 파서
+ * - 응답 전체를 문자열/트리로 만들지 않고 <item>을 읽는 즉시 DTO로 만들어 필터를 적용한다.
+ * - 필터를 통과하지 못한 항목은 바로 버려지므로 최대 1000건 응답에서도 메모리 사용량이 작다.
+ * - 정상 응답(response/header, body/items/item)과 오류 응답(OpenAPI_ServiceResponse/cmmMsgHeader)을 모두 처리한다.
+ */
+public final class PublicDataXmlParser {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private PublicDataXmlParser() {
+    }
+
+    @FunctionalInterface
+    public interface FieldSetter<T> {
+        void set(T item, String field, String value);
+    }
+
+    /**
+     * @param itemFactory <item> 시작 시 새 DTO 생성
+     * @param setter      <item> 하위 필드 값 설정 (알 수 없는 필드는 무시)
+     * @param filter      <item> 종료 시 결과에 포함할지 판단
+     */
+    public static <T> ParseResult<T> parse(InputStream in, Supplier<T> itemFactory,
+                                           FieldSetter<T> setter, Predicate<T> filter) throws XMLStreamException {
+        ParseResult<T> result = new ParseResult<>();
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            T current = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (current != null) {
+                        setter.set(current, name, reader.getElementText().trim());
+                        continue;
+                    }
+                    switch (name) {
+                        case "item" -> current = itemFactory.get();
+                        case "OpenAPI_ServiceResponse" -> result.serviceError = true;
+                        case "resultCode" -> result.resultCode = reader.getElementText().trim();
+                        case "resultMsg" -> result.resultMsg = reader.getElementText().trim();
+                        case "returnReasonCode" -> result.returnReasonCode = reader.getElementText().trim();
+                        case "returnAuthMsg" -> result.returnAuthMsg = reader.getElementText().trim();
+                        case "errMsg" -> result.errMsg = reader.getElementText().trim();
+                        default -> { }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && current != null
+                        && "item".equals(reader.getLocalName())) {
+                    result.readCount++;
+                    if (filter.test(current)) {
+                        result.items.add(current);
+                    }
+                    current = null;
+                }
+            }
+            return result;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 처리 비활성화 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    @Getter
+    public static class ParseResult<T> {
+        private final List<T> items = new ArrayList<>();
+        private int readCount;              // 필터 적용 전 읽은 <item> 수
+        private boolean serviceError;       // OpenAPI_ServiceResponse 오류 응답 여부
+        private String resultCode;
+        private String resultMsg;
+        private String returnReasonCode;
+        private String returnAuthMsg;
+        private String errMsg;
+
+        // 정상 결과 코드 여부 (헤더가 없으면 정상으로 간주)
+        public boolean isSuccess() {
+            return !serviceError && (resultCode == null || "00".equals(resultCode) || "000".equals(resultCode));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.bobj.property.util;
+
+import org.bobj.property.dto.RentalTransactionDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 법정동코드 단위 월세 거래 매칭 인덱스
+ * - (읍면동, 지번), 아파트명 2글자 조각(bigram), 읍면동 기준 해시 인덱스를 한 번 만들어 두고
+ *   매물 주소 키워드로 조회해 후보 거래만 점수를 매긴다. (전체 거래 순회 없음)
+ * - 아파트명은 기존처럼 부분 문자열 포함 여부로 판정한다. 키워드의 bigram 중 가장 적은 후보 목록만 확인하므로
+ *   "래미안퍼스티지"처럼 붙여 쓴 이름도 키워드 "래미안"으로 찾는다.
+ * - 점수: 읍면동+지번 일치 50점, 아파트명에 키워드 포함 시 키워드당 20점, 읍면동만 일치 1점
+ * - 점수가 같으면 계약일이 가장 최근인 거래를 선택한다.
+ */
+public class RentalMatchIndex {
+
+    private static final int SCORE_UMD_JIBUN_MATCH = 50;  // 법정동 + 지번 매칭
+    private static final int SCORE_APT_NAME_MATCH = 20;   // 아파트명 매칭
+    private static final int SCORE_UMD_ONLY_MATCH = 1;    // 읍면동명만 매칭
+
+    private static final String APT_SUFFIX = "아파트";
+
+    private final int size;
+    private final Map<String, List<Entry>> byUmdJibun = new HashMap<>();
+    private final Map<String, List<Entry>> byAptBigram = new HashMap<>();
+    private final Map<String, List<Entry>> byUmd = new HashMap<>();
+
+    private RentalMatchIndex(List<RentalTransactionDTO> transactions) {
+        this.size = transactions.size();
+        for (RentalTransactionDTO transaction : transactions) {
+            Entry entry = new Entry(transaction);
+            String umd = normalize(transaction.getUmdNm());
+
+            if (!umd.isEmpty()) {
+                add(byUmd, umd, entry);
+                for (String jibunKey : jibunKeys(transaction.getJibun())) {
+                    add(byUmdJibun, umd + "|" + jibunKey, entry);
+                }
+            }
+            for (String bigram : bigrams(entry.aptName)) {
+                add(byAptBigram, bigram, entry);
+            }
+        }
+    }
+
+    public static RentalMatchIndex build(List<RentalTransactionDTO> transactions) {
+        return new RentalMatchIndex(transactions);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 매물 주소와 가장 잘 맞는 최신 거래 조회
+     * @return 매칭 거래, 점수 0이면 null
+     */
+    public RentalTransactionDTO findBestMatch(String propertyAddress) {
+        List<String> keywords = extractKeywords(propertyAddress);
+        if (keywords.isEmpty()) {
+            return null;
+        }
+
+        Map<Entry, Integer> scores = new IdentityHashMap<>();
+
+        // 1순위: 읍면동 + 지번 (지번은 "123-45" 전체 또는 본번 "123")
+        List<String> jibunCandidates = jibunCandidates(keywords);
+        Set<Entry> umdJibunMatched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String umd : keywords) {
+            for (String jibun : jibunCandidates) {
+                List<Entry> hits = byUmdJibun.get(umd + "|" + jibun);
+                if (hits != null) {
+                    umdJibunMatched.addAll(hits);
+                }
+            }
+        }
+        umdJibunMatched.forEach(entry -> scores.merge(entry, SCORE_UMD_JIBUN_MATCH, Integer::sum));
+
+        // 2순위: 아파트명에 키워드 포함 (키워드당 20점)
+        for (String keyword : keywords) {
+            Set<Entry> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+            addAptNameMatches(matched, keyword);
+            if (keyword.endsWith(APT_SUFFIX) && keyword.length() > APT_SUFFIX.length() + 1) {
+                addAptNameMatches(matched, keyword.substring(0, keyword.length() - APT_SUFFIX.length()));
+            }
+            matched.forEach(entry -> scores.merge(entry, SCORE_APT_NAME_MATCH, Integer::sum));
+        }
+
+        // 기타: 읍면동만 일치
+        for (String keyword : keywords) {
+            List<Entry> hits = byUmd.get(keyword);
+            if (hits != null) {
+                for (Entry entry : hits) {
+                    if (!umdJibunMatched.contains(entry)) {
+                        scores.merge(entry, SCORE_UMD_ONLY_MATCH, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        Entry best = null;
+        int bestScore = 0;
+        for (Map.Entry<Entry, Integer> scored : scores.entrySet()) {
+            int score = scored.getValue();
+            Entry entry = scored.getKey();
+            if (score > bestScore || (score == bestScore && best != null && entry.dealDateKey > best.dealDateKey)) {
+                best = entry;
+                bestScore = score;
+            }
+        }
+        return best != null ? best.transaction : null;
+    }
+
+    // 주소에서 매칭에 사용할 키워드 추출 (2글자 이상, 중복 제거, 소문자)
+    public static List<String> extractKeywords(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        String cleanAddress = address.replaceAll("[^가-힣a-zA-Z0-9\\s-]", " ").toLowerCase();
+        Set<String> keywords = new LinkedHashSet<>();
+        for (String keyword : cleanAddress.trim().split("\\s+")) {
+            if (keyword.length() >= 2 || keyword.matches("\\d+")) {
+                keywords.add(keyword);
+            }
+        }
+        return new ArrayList<>(keywords);
+    }
+
+    // 키워드 중 지번 후보 ("123-45", "123")
+    private static List<String> jibunCandidates(List<String> keywords) {
+        List<String> candidates = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (keyword.matches("\\d+(-\\d+)?")) {
+                candidates.addAll(jibunKeys(keyword));
+            }
+        }
+        return candidates;
+    }
+
+    // 지번 인덱스 키 - 전체 지번과 본번
+    private static Set<String> jibunKeys(String jibun) {
+        String normalized = normalize(jibun);
+        if (normalized.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> keys = new HashSet<>();
+        keys.add(normalized);
+        int dash = normalized.indexOf('-');
+        if (dash > 0) {
+            keys.add(normalized.substring(0, dash));
+        }
+        return keys;
+    }
+
+    // 아파트명(공백 제거)에 keyword가 포함된 거래 - 키워드 bigram 중 후보가 가장 적은 목록만 확인
+    private void addAptNameMatches(Set<Entry> target, String keyword) {
+        if (keyword.length() < 2) {
+            return;
+        }
+        List<Entry> candidates = null;
+        for (String bigram : bigrams(keyword)) {
+            List<Entry> hits = byAptBigram.get(bigram);
+            if (hits == null) {
+                return;
+            }
+            if (candidates == null || hits.size() < candidates.size()) {
+                candidates = hits;
+            }
+        }
+        for (Entry entry : candidates) {
+            if (entry.aptName.contains(keyword)) {
+                target.add(entry);
+            }
+        }
+    }
+
+    // 연속된 2글자 조각 (중복 제거)
+    private static Set<String> bigrams(String value) {
+        if (value.length() < 2) {
+            return Collections.emptySet();
+        }
+        Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + 2 <= value.length(); i++) {
+            bigrams.add(value.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    private static void add(Map<String, List<Entry>> index, String key, Entry entry) {
+        index.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+    }
+
+    private static final class Entry {
+        private final RentalTransactionDTO transaction;
+        private final long dealDateKey;      // yyyyMMdd (연/월이 없으면 일자만)
+        private final String aptName;        // 아파트명 (소문자, 공백 제거)
+
+        private Entry(RentalTransactionDTO transaction) {
+            this.transaction = transaction;
+            this.dealDateKey = toDealDateKey(transaction);
+            this.aptName = normalize(transaction.getAptNm()).replaceAll("\\s+", "");
+        }
+
+        private static long toDealDateKey(RentalTransactionDTO transaction) {
+            return parse(transaction.getDealYear()) * 10000 + parse(transaction.getDealMonth()) * 100
+                    + parse(transaction.getDealDay());
+        }
+
+        private static long parse(String value) {
+            try {
+                return value == null ? 0 : Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.bobj.property.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정 격자(약 1km) 기반 공간 인덱스
+ * - 좌표를 격자 셀에 담아두고, 반경 검색 시 반경을 덮는 셀만 확인한다.
+ * - 셀 키와 좌표 중복 키는 long으로 만들어 문자열 포맷팅 없이 비교한다.
+ * - 셀 내부 거리 판정은 등장방형 근사(삼각함수 없음)로, km 단위 반경에서 오차는 무시할 수준이다.
+ */
+public class SpatialGridIndex<T> {
+
+    // 좌표 중복 키 정밀도 (소수점 6자리)
+    private static final double COORDINATE_KEY_SCALE = 1_000_000d;
+    private static final long LONGITUDE_KEY_RANGE = 400_000_000L; // ±180도 * 1e6 을 담을 수 있는 범위
+
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private int size;
+
+    public void add(double latitude, double longitude, T value) {
+        long cellKey = cellKey(GeoUtils.toGridCell(latitude), GeoUtils.toGridCell(longitude));
+        cells.computeIfAbsent(cellKey, k -> new ArrayList<>()).add(new Entry<>(latitude, longitude, value));
+        size++;
+    }
+
+    // 중심 좌표에서 radiusKm 이내 값 조회
+    public List<T> findWithinRadius(double centerLatitude, double centerLongitude, double radiusKm) {
+        List<T> result = new ArrayList<>();
+        if (size == 0) {
+            return result;
+        }
+
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lngDelta = GeoUtils.longitudeDelta(radiusKm, centerLatitude);
+        int minLatCell = GeoUtils.toGridCell(centerLatitude - latDelta);
+        int maxLatCell = GeoUtils.toGridCell(centerLatitude + latDelta);
+        int minLngCell = GeoUtils.toGridCell(centerLongitude - lngDelta);
+        int maxLngCell = GeoUtils.toGridCell(centerLongitude + lngDelta);
+
+        double kmPerLngDegree = GeoUtils.KM_PER_DEGREE * Math.cos(Math.toRadians(centerLatitude));
+        double radiusSquared = radiusKm * radiusKm;
+
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                List<Entry<T>> entries = cells.get(cellKey(latCell, lngCell));
+                if (entries == null) {
+                    continue;
+                }
+                for (Entry<T> entry : entries) {
+                    double dy = (entry.latitude - centerLatitude) * GeoUtils.KM_PER_DEGREE;
+                    double dx = (entry.longitude - centerLongitude) * kmPerLngDegree;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        result.add(entry.value);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 좌표 중복 검사용 키 (소수점 6자리 반올림)
+    public static long coordinateKey(double latitude, double longitude) {
+        long lat = Math.round(latitude * COORDINATE_KEY_SCALE);
+        long lng = Math.round(longitude * COORDINATE_KEY_SCALE);
+        return lat * LONGITUDE_KEY_RANGE + lng;
+    }
+
+    // (위도 셀, 경도 셀) → 상위 32비트 위도, 하위 32비트 경도 (음수 셀도 충돌 없음)
+    static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    private static final class Entry<T> {
+        private final double latitude;
+        private final double longitude;
+        private final T value;
+
+        private Entry(double latitude, double longitude, T value) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.value = value;
+        }
+    }
+}
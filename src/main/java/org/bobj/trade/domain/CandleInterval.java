@@ -0,0 +1,27 @@
+package org.bobj.trade.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 캔들(OHLCV) 집계 단위
+ * - code는 trade_candles.interval_type에 저장되는 값
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CandleInterval {
+    MINUTE("1m", ChronoUnit.MINUTES),
+    HOUR("1h", ChronoUnit.HOURS),
+    DAY("1d", ChronoUnit.DAYS);
+
+    private final String code;
+    private final ChronoUnit unit;
+
+    // 체결 시각이 속한 캔들의 시작 시각
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,27 @@
+package org.bobj.trade.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TradeCandleVO {
+    private Long fundingId;
+    private String intervalType;        // CandleInterval.code (1m, 1h, 1d)
+    private LocalDateTime bucketStart;  // 캔들 시작 시각
+    private BigDecimal openPrice;
+    private BigDecimal highPrice;
+    private BigDecimal lowPrice;
+    private BigDecimal closePrice;
+    private Long volume;                // 체결 주 수 합계
+    private Integer tradeCount;         // 체결 건수
+    private Long firstTradeId;          // 시가/종가 판정 기준 (trade_id 순서)
+    private Long lastTradeId;
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 @Builder
 public class TradeVO {
     private Long tradeId;
+    private Long fundingId;
     private Long buyOrderId;
     private Long sellOrderId;
     private Long buyerUserId;
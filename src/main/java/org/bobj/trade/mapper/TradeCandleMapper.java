@@ -0,0 +1,34 @@
+package org.bobj.trade.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.bobj.trade.domain.TradeCandleVO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TradeCandleMapper {
+
+    // 새 체결분을 기존 캔들에 합산 (없으면 생성)
+    void upsertIncrement(@Param("candles") List<TradeCandleVO> candles);
+
+    // 기간 내 체결 내역으로 캔들을 다시 계산해 덮어씀 (백필/보정용)
+    int rebuildFromTrades(@Param("intervalType") String intervalType,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to);
+
+    // 기간 내 캔들 조회 (시작 시각 오름차순)
+    List<TradeCandleVO> findCandles(@Param("fundingId") Long fundingId,
+                                    @Param("intervalType") String intervalType,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+
+    // 기준 시각 이전의 마지막 캔들 (변화율 계산 기준가)
+    TradeCandleVO findLastCandleBefore(@Param("fundingId") Long fundingId,
+                                       @Param("intervalType") String intervalType,
+                                       @Param("before") LocalDateTime before);
+
+    // 체결은 있으나 일봉이 없는 날짜 (백필 대상, 오래된 순)
+    List<LocalDate> findDaysWithoutDailyCandle(@Param("before") LocalDateTime before,
+                                               @Param("limit") int limit);
+}
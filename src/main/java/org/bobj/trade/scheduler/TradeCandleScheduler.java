@@ -0,0 +1,19 @@
+package org.bobj.trade.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.trade.service.TradeCandleService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class TradeCandleScheduler {
+    private final TradeCandleService tradeCandleService;
+
+    @Scheduled(cron = "0 10 * * * *") // 매시 10분 - 전날 캔들 보정 및 일봉 없는 과거 체결 백필
+    public void runCandleReconcile() {
+        tradeCandleService.reconcileClosedDays();
+    }
+}
@@ -0,0 +1,104 @@
+package org.bobj.trade.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.common.cache.LocalTtlCache;
+import org.bobj.trade.domain.TradeVO;
+import org.bobj.trade.mapper.TradeMapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * 펀딩별 최근 체결가 캐시
+ * - 체결 커밋 시 Redis 해시(tradeId, price)에 기록하고, 조회는 로컬 캐시 → Redis → DB 순으로 확인한다.
+ * - 커밋 순서가 뒤바뀌어도 더 최근(trade_id가 큰) 체결만 반영되도록 Lua 스크립트로 비교 후 갱신한다.
+ * - 로컬 캐시는 다른 인스턴스의 체결을 놓치지 않도록 짧은 TTL로만 유지한다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class LastTradePriceService {
+
+    private static final String KEY_PREFIX = "trade:lastPrice:";
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(1);
+    private static final Duration NO_TRADE_TTL = Duration.ofSeconds(10);
+
+    // 갱신: 1, 더 최근 체결이 이미 기록됨: 0
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'tradeId') " +
+            "if current and tonumber(current) >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'tradeId', ARGV[1], 'price', ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TradeMapper tradeMapper;
+
+    private final LocalTtlCache<Long, BigDecimal> localCache = new LocalTtlCache<>(10_000);
+
+    // 체결 반영 - 트랜잭션 안이면 커밋 후 기록 (롤백된 체결가가 노출되지 않도록)
+    public void recordTrade(TradeVO trade) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(trade);
+                }
+            });
+        } else {
+            store(trade);
+        }
+    }
+
+    /**
+     * 최근 체결가 조회
+     * @return 체결 이력이 없으면 null
+     */
+    public BigDecimal getLastPrice(Long fundingId) {
+        return localCache.get(fundingId, () -> load(fundingId),
+                price -> price != null ? LOCAL_TTL : NO_TRADE_TTL);
+    }
+
+    private BigDecimal load(Long fundingId) {
+        try {
+            Object cached = stringRedisTemplate.opsForHash().get(KEY_PREFIX + fundingId, "price");
+            if (cached != null) {
+                return new BigDecimal(cached.toString());
+            }
+        } catch (Exception e) {
+            log.warn("최근 체결가 Redis 조회 실패 - 펀딩 ID: {}, 오류: {}", fundingId, e.getMessage());
+        }
+
+        // Redis에 없으면 DB에서 한 번 읽어 채움 (체결 이력이 없는 펀딩은 짧게 음수 캐시)
+        TradeVO latest = tradeMapper.findLatestTradeByFundingId(fundingId);
+        if (latest == null) {
+            return null;
+        }
+        writeRedis(latest);
+        return latest.getTradePricePerShare();
+    }
+
+    private void store(TradeVO trade) {
+        writeRedis(trade);
+        localCache.invalidate(trade.getFundingId());
+    }
+
+    private void writeRedis(TradeVO trade) {
+        try {
+            stringRedisTemplate.execute(UPDATE_SCRIPT,
+                    Collections.singletonList(KEY_PREFIX + trade.getFundingId()),
+                    String.valueOf(trade.getTradeId()),
+                    trade.getTradePricePerShare().toPlainString());
+        } catch (Exception e) {
+            log.warn("최근 체결가 Redis 기록 실패 - 펀딩 ID: {}, 오류: {}", trade.getFundingId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.bobj.trade.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bobj.trade.domain.CandleInterval;
+import org.bobj.trade.domain.TradeCandleVO;
+import org.bobj.trade.domain.TradeVO;
+import org.bobj.trade.mapper.TradeCandleMapper;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 체결 캔들(OHLCV) 저장소
+ * - 체결 저장과 같은 트랜잭션에서 1분/1시간/1일 캔들에 증분 반영한다.
+ * - 마감된 날짜는 매일 체결 원장으로 다시 계산해 덮어쓰므로, 기존 체결 백필과 경계 시각 보정이 함께 처리된다.
+ *   (진행 중인 캔들은 재계산하지 않아 실시간 증분과 충돌하지 않음)
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class TradeCandleService {
+
+    private static final int BACKFILL_DAYS_PER_RUN = 31;
+
+    private final TradeCandleMapper tradeCandleMapper;
+
+    // 한 번의 매칭에서 발생한 체결(같은 펀딩)을 캔들에 반영 - 호출 측 트랜잭션에 참여
+    public void applyTrades(Long fundingId, List<TradeVO> trades) {
+        if (trades == null || trades.isEmpty()) {
+            return;
+        }
+        List<TradeVO> ordered = new ArrayList<>(trades);
+        ordered.sort(Comparator.comparing(TradeVO::getTradeId));
+
+        List<TradeCandleVO> candles = new ArrayList<>();
+        for (CandleInterval interval : CandleInterval.values()) {
+            Map<LocalDateTime, TradeCandleVO> buckets = new LinkedHashMap<>();
+            for (TradeVO trade : ordered) {
+                LocalDateTime bucketStart = interval.bucketStart(trade.getCreatedAt());
+                TradeCandleVO candle = buckets.computeIfAbsent(bucketStart,
+                        start -> newCandle(fundingId, interval, start, trade));
+                merge(candle, trade);
+            }
+            candles.addAll(buckets.values());
+        }
+        tradeCandleMapper.upsertIncrement(candles);
+    }
+
+    // 일봉 조회 (endDate 포함)
+    public List<TradeCandleVO> getDailyCandles(Long fundingId, LocalDate startDate, LocalDate endDate) {
+        return tradeCandleMapper.findCandles(fundingId, CandleInterval.DAY.getCode(),
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
+    // 기준일 이전 마지막 일봉 종가 (없으면 null)
+    public BigDecimal getPreviousDailyClose(Long fundingId, LocalDate date) {
+        TradeCandleVO candle = tradeCandleMapper.findLastCandleBefore(fundingId, CandleInterval.DAY.getCode(),
+                date.atStartOfDay());
+        return candle != null ? candle.getClosePrice() : null;
+    }
+
+    /**
+     * 마감된 날짜의 캔들 보정 - 전날과, 체결은 있지만 일봉이 없는 날짜(기존 데이터 백필)를 다시 계산한다.
+     * 한 번에 최대 BACKFILL_DAYS_PER_RUN일씩 처리하고 나머지는 다음 실행에서 이어간다.
+     */
+    public void reconcileClosedDays() {
+        LocalDate today = LocalDate.now();
+        TreeSet<LocalDate> days = new TreeSet<>(
+                tradeCandleMapper.findDaysWithoutDailyCandle(today.atStartOfDay(), BACKFILL_DAYS_PER_RUN));
+        days.add(today.minusDays(1));
+
+        for (LocalDate day : days) {
+            try {
+                rebuildDay(day);
+            } catch (Exception e) {
+                log.error("캔들 재계산 실패 - 날짜: {}", day, e);
+            }
+        }
+    }
+
+    private void rebuildDay(LocalDate day) {
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+        int rows = 0;
+        for (CandleInterval interval : CandleInterval.values()) {
+            rows += tradeCandleMapper.rebuildFromTrades(interval.getCode(), from, to);
+        }
+        log.info("캔들 재계산 완료 - 날짜: {}, 반영 행 수: {}", day, rows);
+    }
+
+    private TradeCandleVO newCandle(Long fundingId, CandleInterval interval, LocalDateTime bucketStart, TradeVO first) {
+        return TradeCandleVO.builder()
+                .fundingId(fundingId)
+                .intervalType(interval.getCode())
+                .bucketStart(bucketStart)
+                .openPrice(first.getTradePricePerShare())
+                .highPrice(first.getTradePricePerShare())
+                .lowPrice(first.getTradePricePerShare())
+                .closePrice(first.getTradePricePerShare())
+                .volume(0L)
+                .tradeCount(0)
+                .firstTradeId(first.getTradeId())
+                .lastTradeId(first.getTradeId())
+                .build();
+    }
+
+    private void merge(TradeCandleVO candle, TradeVO trade) {
+        BigDecimal price = trade.getTradePricePerShare();
+        candle.setHighPrice(candle.getHighPrice().max(price));
+        candle.setLowPrice(candle.getLowPrice().min(price));
+        candle.setClosePrice(price);
+        candle.setLastTradeId(trade.getTradeId());
+        candle.setVolume(candle.getVolume() + trade.getTradeCount());
+        candle.setTradeCount(candle.getTradeCount() + 1);
+    }
+}
@@ -8,7 +8,6 @@ import org.bobj.trade.domain.TradeVO;
 import org.bobj.trade.dto.DailyTradeHistoryDTO;
 import org.bobj.trade.dto.request.TradeHistoryRequestDTO;
 import org.bobj.trade.dto.response.FundingTradeHistoryResponseDTO;
-import org.bobj.trade.mapper.TradeMapper;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,7 +27,7 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class TradeHistoryServiceImpl implements TradeHistoryService{
 
-    private final TradeMapper tradeMapper;
+    private final TradeCandleService tradeCandleService;
     private final FundingMapper fundingMapper;
 
     @Transactional(readOnly = true)
@@ -49,11 +48,20 @@ public class TradeHistoryServiceImpl implements TradeHistoryService{
                     + requestedEndDate + ", 최대 허용: " + maxAllowedDate + ")");
         }
 
-        // 일별 체결 요약 데이터 조회
-        List<DailyTradeHistoryDTO> dailySummaries = tradeMapper.findDailyTradeSummary(fundingId, requestDTO.getStartDate(), requestDTO.getEndDate());
-
-        // 변화율 계산
-        List<DailyTradeHistoryDTO> historyWithChangeRate = calculateChangeRates(dailySummaries);
+        // 일별 체결 요약 데이터 조회 (미리 집계된 일봉)
+        List<DailyTradeHistoryDTO> dailySummaries = tradeCandleService
+                .getDailyCandles(fundingId, requestDTO.getStartDate(), requestDTO.getEndDate())
+                .stream()
+                .map(candle -> DailyTradeHistoryDTO.builder()
+                        .date(candle.getBucketStart().toLocalDate())
+                        .closingPrice(candle.getClosePrice())
+                        .volume(candle.getVolume().intValue())
+                        .build())
+                .toList();
+
+        // 변화율 계산 (첫날은 조회 시작일 이전 마지막 종가 기준)
+        BigDecimal previousClose = tradeCandleService.getPreviousDailyClose(fundingId, requestDTO.getStartDate());
+        List<DailyTradeHistoryDTO> historyWithChangeRate = calculateChangeRates(dailySummaries, previousClose);
 
         return FundingTradeHistoryResponseDTO.builder()
                 .fundingId(fundingId)
@@ -62,13 +70,13 @@ public class TradeHistoryServiceImpl implements TradeHistoryService{
     }
 
     //일별 체결 내역 리스트에 전일 대비 변화율을 계산
-    private List<DailyTradeHistoryDTO> calculateChangeRates(List<DailyTradeHistoryDTO> dailySummaries) {
+    private List<DailyTradeHistoryDTO> calculateChangeRates(List<DailyTradeHistoryDTO> dailySummaries, BigDecimal previousClose) {
         if (dailySummaries == null || dailySummaries.isEmpty()) {
             return new ArrayList<>();
         }
 
         List<DailyTradeHistoryDTO> result = new ArrayList<>();
-        BigDecimal previousPrice = null;
+        BigDecimal previousPrice = previousClose;
 
 
         for (DailyTradeHistoryDTO current : dailySummaries) {
@@ -0,0 +1,127 @@
+package org.bobj.allocation.service;
+
+import org.bobj.allocation.domain.AllocationVO;
+import org.bobj.allocation.dto.DividendChunkResult;
+import org.bobj.allocation.dto.DividendPaymentDTO;
+import org.bobj.allocation.mapper.AllocationMapper;
+import org.bobj.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DividendChunkServiceTest {
+
+    private static final Long ALLOCATION_ID = 7L;
+
+    // allocation_payment 대용 (사용자 ID → 지급액)
+    private final Map<Long, BigDecimal> payments = new HashMap<>();
+    // 포인트 잔액 대용 (사용자 ID → 누적 지급액)
+    private final Map<Long, BigDecimal> credited = new HashMap<>();
+    private final Set<Long> insufficientUsers = new HashSet<>();
+
+    private DividendChunkService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        AllocationMapper allocationMapper = stub(AllocationMapper.class, (name, args) -> {
+            switch (name) {
+                case "findPaidUserIds":
+                    return ((Collection<Long>) args[1]).stream().filter(payments::containsKey).toList();
+                case "insertPayments":
+                    payments.putAll((Map<Long, BigDecimal>) args[1]);
+                    return null;
+                case "deletePayments":
+                    ((Collection<Long>) args[1]).forEach(payments::remove);
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(name);
+            }
+        });
+        PointService pointService = new PointService(null, null, null) {
+            @Override
+            public void allocateDividendBulk(Map<Long, BigDecimal> dividendMap) {
+                dividendMap.forEach((userId, amount) -> credited.merge(userId, amount, BigDecimal::add));
+            }
+
+            @Override
+            public Map<Long, BigDecimal> cancelDividendBulk(Map<Long, BigDecimal> dividendMap) {
+                Map<Long, BigDecimal> uncollected = new HashMap<>();
+                dividendMap.forEach((userId, amount) -> {
+                    if (insufficientUsers.contains(userId)) {
+                        uncollected.put(userId, amount);
+                    } else {
+                        credited.merge(userId, amount.negate(), BigDecimal::add);
+                    }
+                });
+                return uncollected;
+            }
+        };
+        service = new DividendChunkService(pointService, allocationMapper);
+    }
+
+    @Test
+    @DisplayName("회수하지 못한 사용자는 재처리 시 다시 지급되지 않는다")
+    void retrySkipsUncollectedUsers() {
+        List<DividendPaymentDTO> chunk = List.of(holder(1L, 2), holder(2L, 3));
+        DividendChunkResult paid = service.payChunkTransactional(allocation(), chunk, 1, 1.0);
+        insufficientUsers.add(2L);
+
+        Map<Long, BigDecimal> uncollected = service.compensateChunkTransactional(paid);
+        DividendChunkResult retried = service.payChunkTransactional(allocation(), chunk, 1, 1.0);
+
+        assertEquals(Set.of(2L), uncollected.keySet());
+        assertEquals(Set.of(1L), retried.getPaidAmounts().keySet());
+        assertEquals(0, new BigDecimal("200").compareTo(credited.get(1L)));
+        assertEquals(0, new BigDecimal("300").compareTo(credited.get(2L)));
+    }
+
+    @Test
+    @DisplayName("보상이 실행되지 않은 청크의 사용자는 재처리 시 제외된다")
+    void retrySkipsUsersOfUncompensatedChunk() {
+        List<DividendPaymentDTO> chunk = List.of(holder(1L, 1), holder(2L, 1));
+        service.payChunkTransactional(allocation(), chunk, 1, 1.0);
+
+        DividendChunkResult retried = service.payChunkTransactional(allocation(), chunk, 1, 1.0);
+
+        assertTrue(retried.getPaidAmounts().isEmpty());
+        assertEquals(0, new BigDecimal("100").compareTo(credited.get(1L)));
+        assertEquals(Set.of(1L, 2L), payments.keySet());
+    }
+
+    private static AllocationVO allocation() {
+        return AllocationVO.builder()
+                .allocationsId(ALLOCATION_ID)
+                .dividendPerShare(new BigDecimal("100"))
+                .build();
+    }
+
+    private static DividendPaymentDTO holder(Long userId, int shareCount) {
+        return DividendPaymentDTO.builder()
+                .userId(userId)
+                .shareCount(shareCount)
+                .build();
+    }
+
+    private interface Answer {
+        Object answer(String methodName, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answer.answer(method.getName(), args));
+    }
+}
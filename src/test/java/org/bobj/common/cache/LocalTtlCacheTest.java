@@ -0,0 +1,178 @@
+package org.bobj.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalTtlCacheTest {
+
+    private static final Duration ONE_MINUTE = Duration.ofMinutes(1);
+
+    @Test
+    @DisplayName("TTL 안에서는 로더를 다시 실행하지 않는다.")
+    void cachesUntilTtl() throws InterruptedException {
+        LocalTtlCache<String, String> cache = new LocalTtlCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get("k", () -> "v" + loads.incrementAndGet(), v -> Duration.ofMillis(50)));
+        assertEquals("v1", cache.get("k", () -> "v" + loads.incrementAndGet(), v -> Duration.ofMillis(50)));
+        assertEquals(1, loads.get());
+
+        Thread.sleep(80);
+        assertNull(cache.getIfPresent("k"));
+        assertEquals("v2", cache.get("k", () -> "v" + loads.incrementAndGet(), v -> Duration.ofMillis(50)));
+    }
+
+    @Test
+    @DisplayName("TTL이 0이면 캐싱하지 않고, null 결과는 TTL이 있으면 캐싱한다.")
+    void zeroTtlAndNullValues() {
+        LocalTtlCache<String, String> cache = new LocalTtlCache<>(10);
+
+        cache.get("zero", () -> "v", v -> Duration.ZERO);
+        assertFalse(cache.containsKey("zero"));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("null", () -> { loads.incrementAndGet(); return null; }, v -> ONE_MINUTE);
+        assertNull(cache.get("null", () -> { loads.incrementAndGet(); return null; }, v -> ONE_MINUTE));
+        assertTrue(cache.containsKey("null"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회하면 로더는 한 번만 실행된다.")
+    void singleFlight() throws Exception {
+        LocalTtlCache<String, String> cache = new LocalTtlCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return "value";
+            }, v -> ONE_MINUTE));
+            assertTrue(loaderStarted.await(1, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(() -> cache.get("k", () -> "other" + loads.incrementAndGet(), v -> ONE_MINUTE));
+            Future<String> third = executor.submit(() -> cache.get("k", () -> "other" + loads.incrementAndGet(), v -> ONE_MINUTE));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals("value", first.get(1, TimeUnit.SECONDS));
+            assertEquals("value", second.get(1, TimeUnit.SECONDS));
+            assertEquals("value", third.get(1, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로더 예외는 대기 중인 스레드에도 전달되고 캐싱되지 않는다.")
+    void loaderRuntimeExceptionIsSharedAndNotCached() throws Exception {
+        LocalTtlCache<String, String> cache = new LocalTtlCache<>(10);
+        IllegalStateException failure = new IllegalStateException("로딩 실패");
+
+        Throwable waiterError = runWithWaiter(cache, failure);
+        assertSame(failure, waiterError);
+
+        assertFalse(cache.containsKey("k"));
+        assertEquals("ok", cache.get("k", () -> "ok", v -> ONE_MINUTE));
+    }
+
+    @Test
+    @DisplayName("로더가 Error를 던져도 대기 중인 스레드가 멈추지 않는다.")
+    void loaderErrorReleasesWaiters() {
+        LocalTtlCache<String, String> cache = new LocalTtlCache<>(10);
+        AssertionError failure = new AssertionError("로딩 중 Error");
+
+        Throwable waiterError = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> runWithWaiter(cache, failure));
+        assertSame(failure, waiterError);
+        assertEquals("ok", cache.get("k", () -> "ok", v -> ONE_MINUTE));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 만료가 가까운 항목부터 제거한다.")
+    void evictsNearestExpiryFirst() {
+        LocalTtlCache<Integer, Integer> cache = new LocalTtlCache<>(10);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i, Duration.ofSeconds(100 + i));
+        }
+        cache.put(10, 10, Duration.ofSeconds(1000));
+
+        assertTrue(cache.size() <= 10);
+        assertFalse(cache.containsKey(0));
+        assertTrue(cache.containsKey(10));
+        assertTrue(cache.containsKey(9));
+    }
+
+    // 로더 실행 중에 같은 키를 기다리는 스레드를 하나 두고, 로더가 failure를 던졌을 때 대기 스레드가 받은 예외를 반환
+    private static Throwable runWithWaiter(LocalTtlCache<String, String> cache, Throwable failure) throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> loader = executor.submit(() -> cache.get("k", () -> {
+                loaderStarted.countDown();
+                await(release);
+                throwUnchecked(failure);
+                return null;
+            }, v -> ONE_MINUTE));
+            assertTrue(loaderStarted.await(1, TimeUnit.SECONDS));
+
+            Future<String> waiter = executor.submit(() -> cache.get("k", () -> "waiter", v -> ONE_MINUTE));
+            Thread.sleep(50);
+            release.countDown();
+
+            ExecutionException loaderError = assertThrows(ExecutionException.class, () -> loader.get(1, TimeUnit.SECONDS));
+            assertSame(failure, loaderError.getCause());
+
+            try {
+                String value = waiter.get(1, TimeUnit.SECONDS);
+                // 대기 스레드가 로더 종료 후 들어왔다면 직접 로딩했으므로 결과만 확인
+                assertEquals("waiter", value);
+                return failure;
+            } catch (ExecutionException e) {
+                assertInstanceOf(failure.getClass(), e.getCause());
+                return e.getCause();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void throwUnchecked(Throwable t) {
+        if (t instanceof RuntimeException e) {
+            throw e;
+        }
+        throw (Error) t;
+    }
+}
@@ -0,0 +1,71 @@
+package org.bobj.common.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ImageResizerTest {
+
+    @Test
+    @DisplayName("가로 폭에 맞춰 비율을 유지하며 줄인다.")
+    void keepsAspectRatio() throws IOException {
+        BufferedImage resized = read(ImageResizer.resizeToJpeg(png(1600, 1200, BufferedImage.TYPE_INT_RGB), 320, 0.8f));
+
+        assertEquals(320, resized.getWidth());
+        assertEquals(240, resized.getHeight());
+    }
+
+    @Test
+    @DisplayName("절반씩 줄이는 단계가 끝난 뒤에도 목표 폭에 정확히 맞춘다.")
+    void hitsTargetWidthAfterHalving() throws IOException {
+        BufferedImage resized = read(ImageResizer.resizeToJpeg(png(1000, 333, BufferedImage.TYPE_INT_RGB), 320, 0.8f));
+
+        assertEquals(320, resized.getWidth());
+        assertEquals(Math.round(333f * 320 / 1000), resized.getHeight());
+    }
+
+    @Test
+    @DisplayName("원본이 목표보다 작으면 확대하지 않는다.")
+    void doesNotUpscale() throws IOException {
+        BufferedImage resized = read(ImageResizer.resizeToJpeg(png(200, 100, BufferedImage.TYPE_INT_ARGB), 320, 0.8f));
+
+        assertEquals(200, resized.getWidth());
+        assertEquals(100, resized.getHeight());
+    }
+
+    @Test
+    @DisplayName("아주 납작한 이미지도 높이가 1px 아래로 내려가지 않는다.")
+    void keepsMinimumHeight() throws IOException {
+        BufferedImage resized = read(ImageResizer.resizeToJpeg(png(4000, 2, BufferedImage.TYPE_INT_RGB), 320, 0.8f));
+
+        assertEquals(320, resized.getWidth());
+        assertEquals(1, resized.getHeight());
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 데이터는 null을 반환한다.")
+    void returnsNullForUnreadableImage() throws IOException {
+        assertNull(ImageResizer.resizeToJpeg("not an image".getBytes(StandardCharsets.UTF_8), 320, 0.8f));
+    }
+
+    private static byte[] png(int width, int height, int type) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] jpeg) throws IOException {
+        assertNotNull(jpeg);
+        return ImageIO.read(new ByteArrayInputStream(jpeg));
+    }
+}
@@ -0,0 +1,46 @@
+package org.bobj.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimitFilterTest {
+
+    private static final String PROXY = "10.0.0.1";
+
+    @Test
+    @DisplayName("신뢰 프록시가 아닌 곳에서 온 X-Forwarded-For는 무시한다.")
+    void ignoresForwardedForFromUntrustedClient() {
+        RateLimitFilter filter = new RateLimitFilter(null, null, PROXY);
+
+        assertEquals("203.0.113.7", filter.clientIp(request("203.0.113.7", "1.2.3.4")));
+        assertEquals("203.0.113.7", filter.clientIp(request("203.0.113.7", null)));
+        // 프록시 설정이 없으면 항상 접속 주소
+        assertEquals(PROXY, new RateLimitFilter(null, null, "").clientIp(request(PROXY, "1.2.3.4")));
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시를 거친 요청은 뒤에서부터 신뢰 프록시가 아닌 첫 주소를 쓴다.")
+    void usesRightmostUntrustedHop() {
+        RateLimitFilter filter = new RateLimitFilter(null, null, " 10.0.0.1, 10.0.0.2 ");
+
+        assertEquals("198.51.100.9", filter.clientIp(request(PROXY, "198.51.100.9")));
+        // 클라이언트가 앞에 넣은 값은 무시
+        assertEquals("198.51.100.9", filter.clientIp(request(PROXY, "1.2.3.4, 198.51.100.9")));
+        assertEquals("198.51.100.9", filter.clientIp(request(PROXY, "1.2.3.4, 198.51.100.9, 10.0.0.2")));
+        // 헤더가 없거나 모두 프록시면 접속 주소
+        assertEquals(PROXY, filter.clientIp(request(PROXY, null)));
+        assertEquals(PROXY, filter.clientIp(request(PROXY, "10.0.0.2, ")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/order-books/1");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
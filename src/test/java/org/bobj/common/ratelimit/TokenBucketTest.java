@@ -0,0 +1,93 @@
+package org.bobj.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("처음에는 용량만큼 버스트를 허용하고, 다 쓰면 거절한다.")
+    void burstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1, now::get);
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("흐른 시간만큼 토큰이 채워지고, 용량을 넘어 쌓이지 않는다.")
+    void refillsOverTimeUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 4, now::get);
+        drain(bucket);
+
+        advanceMillis(200);     // 0.8개
+        assertFalse(bucket.tryAcquire());
+        advanceMillis(50);      // 1.0개
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        advanceMillis(60_000);
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("다음 토큰까지 남은 시간은 초 단위로 올림하고 최소 1초다.")
+    void secondsUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(1, 0.5, now::get);
+        assertEquals(0, bucket.secondsUntilNextToken());
+
+        assertTrue(bucket.tryAcquire());
+        assertEquals(2, bucket.secondsUntilNextToken());
+
+        advanceMillis(500);     // 1.5초 남음 → 2초
+        assertEquals(2, bucket.secondsUntilNextToken());
+        advanceMillis(1_400);   // 0.1초 남음 → 1초
+        assertEquals(1, bucket.secondsUntilNextToken());
+        assertFalse(bucket.tryAcquire());
+
+        advanceMillis(100);
+        assertEquals(0, bucket.secondsUntilNextToken());
+        assertTrue(bucket.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("느린 충전 속도에서는 남은 시간이 수 초 단위로 계산된다.")
+    void secondsUntilNextTokenSlowRefill() {
+        TokenBucket bucket = new TokenBucket(1, 0.1, now::get);
+        drain(bucket);
+        assertEquals(10, bucket.secondsUntilNextToken());
+        advanceMillis(9_001);
+        assertEquals(1, bucket.secondsUntilNextToken());
+    }
+
+    @Test
+    @DisplayName("용량이나 충전 속도가 0 이하면 생성할 수 없다.")
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+    }
+
+    private void drain(TokenBucket bucket) {
+        while (bucket.tryAcquire()) {
+            // 토큰 모두 사용
+        }
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
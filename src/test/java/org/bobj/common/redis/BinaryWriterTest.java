@@ -0,0 +1,129 @@
+package org.bobj.common.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryWriterTest {
+
+    @Test
+    @DisplayName("가변 길이 정수는 음수와 long 범위 끝까지 그대로 읽힌다.")
+    void varLongRoundTrip() {
+        long[] values = {0, 1, -1, 63, -64, 64, -65, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Long.MAX_VALUE, Long.MIN_VALUE};
+        BinaryWriter writer = new BinaryWriter(0);
+        for (long value : values) {
+            writer.writeVarLong(value);
+        }
+        BinaryReader reader = new BinaryReader(writer.toByteArray(), 0);
+        for (long value : values) {
+            assertEquals(value, reader.readVarLong());
+        }
+    }
+
+    @Test
+    @DisplayName("작은 절대값은 부호와 관계없이 1바이트로 기록된다.")
+    void smallVarLongIsOneByte() {
+        assertEquals(1, new BinaryWriter(0).writeVarLong(-64).toByteArray().length);
+        assertEquals(1, new BinaryWriter(0).writeVarLong(63).toByteArray().length);
+        assertEquals(2, new BinaryWriter(0).writeVarLong(64).toByteArray().length);
+        assertEquals(10, new BinaryWriter(0).writeVarLong(Long.MIN_VALUE).toByteArray().length);
+    }
+
+    @Test
+    @DisplayName("BigDecimal은 scale과 부호를 유지하고, long 범위를 넘는 값도 읽힌다.")
+    void decimalRoundTrip() {
+        BigDecimal[] values = {
+                new BigDecimal("5000.00"),
+                new BigDecimal("-0.001"),
+                BigDecimal.ZERO,
+                new BigDecimal("1E+3"),                                    // 음수 scale
+                BigDecimal.valueOf(Long.MAX_VALUE, 2),
+                BigDecimal.valueOf(Long.MIN_VALUE, 0),
+                new BigDecimal("92233720368547758080.5"),                  // long 범위 초과
+                new BigDecimal("-123456789012345678901234567890.123456789"),
+                null};
+        BinaryWriter writer = new BinaryWriter(0);
+        for (BigDecimal value : values) {
+            writer.writeDecimal(value);
+        }
+        BinaryReader reader = new BinaryReader(writer.toByteArray(), 0);
+        for (BigDecimal value : values) {
+            // equals로 scale까지 비교
+            assertEquals(value, reader.readDecimal());
+        }
+    }
+
+    @Test
+    @DisplayName("null 가능 필드는 null과 값을 섞어 써도 순서대로 읽힌다.")
+    void nullableFieldsRoundTrip() {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 7, 25, 10, 0, 0, 123_456_789);
+        LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59);
+        byte[] bytes = new BinaryWriter(0)
+                .writeString(null)
+                .writeString("")
+                .writeString("래미안 퍼스티지 🏠")
+                .writeInteger(null)
+                .writeInteger(Integer.MIN_VALUE)
+                .writeDouble(null)
+                .writeDouble(-0.0)
+                .writeDouble(Double.NaN)
+                .writeDouble(37.4979)
+                .writeDateTime(null)
+                .writeDateTime(timestamp)
+                .writeDateTime(beforeEpoch)
+                .writeBytes(new byte[]{1, -1, 0})
+                .toByteArray();
+
+        BinaryReader reader = new BinaryReader(bytes, 0);
+        assertNull(reader.readString());
+        assertEquals("", reader.readString());
+        assertEquals("래미안 퍼스티지 🏠", reader.readString());
+        assertNull(reader.readInteger());
+        assertEquals(Integer.MIN_VALUE, reader.readInteger());
+        assertNull(reader.readDouble());
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(reader.readDouble()));
+        assertEquals(Double.NaN, reader.readDouble());
+        assertEquals(37.4979, reader.readDouble());
+        assertNull(reader.readDateTime());
+        assertEquals(timestamp, reader.readDateTime());
+        assertEquals(beforeEpoch, reader.readDateTime());
+        assertArrayEquals(new byte[]{1, -1, 0}, reader.readBytes());
+    }
+
+    @Test
+    @DisplayName("초기 용량보다 긴 데이터도 버퍼를 늘려 기록한다.")
+    void growsBuffer() {
+        String longText = "가".repeat(10_000);
+        byte[] bytes = new BinaryWriter(1).writeString(longText).writeVarLong(-1).toByteArray();
+
+        BinaryReader reader = new BinaryReader(bytes, 0);
+        assertEquals(longText, reader.readString());
+        assertEquals(-1, reader.readVarLong());
+    }
+
+    @Test
+    @DisplayName("데이터가 중간에 끝나거나 길이가 잘못되면 IllegalStateException")
+    void truncatedData() {
+        byte[] bytes = new BinaryWriter(0).writeString("hello").toByteArray();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThrows(IllegalStateException.class, () -> new BinaryReader(truncated, 0).readString());
+        assertThrows(IllegalStateException.class, () -> new BinaryReader(new byte[0], 0).readVarLong());
+        // 계속 비트만 있는 varint
+        byte[] endless = new byte[11];
+        Arrays.fill(endless, (byte) 0x80);
+        assertThrows(IllegalStateException.class, () -> new BinaryReader(endless, 0).readVarLong());
+        // 음수 길이
+        byte[] negativeLength = new BinaryWriter(0).writeVarLong(-5).toByteArray();
+        assertThrows(IllegalStateException.class, () -> new BinaryReader(negativeLength, 0).readBytes());
+    }
+}
@@ -0,0 +1,91 @@
+package org.bobj.common.redis;
+
+import org.bobj.orderbook.dto.OrderBookEntryDTO;
+import org.bobj.orderbook.dto.response.OrderBookResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderBookRedisSerializerTest {
+
+    private final OrderBookRedisSerializer serializer = new OrderBookRedisSerializer();
+
+    @Test
+    @DisplayName("호가창을 직렬화 후 읽으면 같은 값이 나온다.")
+    void roundTrip() {
+        OrderBookResponseDTO orderBook = sampleOrderBook(10);
+
+        assertEquals(orderBook, serializer.deserialize(serializer.serialize(orderBook)));
+    }
+
+    @Test
+    @DisplayName("null 필드, 빈 호가, null 호가 목록도 그대로 읽힌다.")
+    void nullAndEmptyFields() {
+        List<OrderBookEntryDTO> withNulls = new ArrayList<>();
+        withNulls.add(new OrderBookEntryDTO(null, null));
+        withNulls.add(new OrderBookEntryDTO(new BigDecimal("99999999999999999999.99"), 0));
+        OrderBookResponseDTO orderBook = OrderBookResponseDTO.builder()
+                .currentPrice(null)
+                .upperLimitPrice(new BigDecimal("6500.00"))
+                .lowerLimitPrice(null)
+                .buyOrders(List.of())
+                .sellOrders(withNulls)
+                .timestamp(null)
+                .build();
+        assertEquals(orderBook, serializer.deserialize(serializer.serialize(orderBook)));
+
+        OrderBookResponseDTO nullLists = OrderBookResponseDTO.builder().build();
+        assertEquals(nullLists, serializer.deserialize(serializer.serialize(nullLists)));
+    }
+
+    @Test
+    @DisplayName("null은 빈 바이트로 쓰고, 빈 값/다른 버전(이전 JSON 캐시)은 캐시 미스(null)로 읽는다.")
+    void versionMismatchIsCacheMiss() {
+        assertArrayEquals(new byte[0], serializer.serialize(null));
+        assertNull(serializer.deserialize(null));
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize("{\"currentPrice\":5000}".getBytes(StandardCharsets.UTF_8)));
+
+        byte[] bytes = serializer.serialize(sampleOrderBook(1));
+        bytes[0] = 2;
+        assertNull(serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("버전은 맞지만 손상된 값은 SerializationException")
+    void corruptedValue() {
+        byte[] bytes = serializer.serialize(sampleOrderBook(3));
+
+        assertThrows(SerializationException.class,
+                () -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length / 2)));
+    }
+
+    static OrderBookResponseDTO sampleOrderBook(int levels) {
+        List<OrderBookEntryDTO> buys = new ArrayList<>();
+        List<OrderBookEntryDTO> sells = new ArrayList<>();
+        for (int i = 0; i < levels; i++) {
+            buys.add(new OrderBookEntryDTO(new BigDecimal("4990.00").subtract(BigDecimal.TEN.multiply(BigDecimal.valueOf(i))), 10 + i * 7));
+            sells.add(new OrderBookEntryDTO(new BigDecimal("5010.00").add(BigDecimal.TEN.multiply(BigDecimal.valueOf(i))), 5 + i * 11));
+        }
+        return OrderBookResponseDTO.builder()
+                .currentPrice(new BigDecimal("5000.00"))
+                .upperLimitPrice(new BigDecimal("6500.00"))
+                .lowerLimitPrice(new BigDecimal("3500.00"))
+                .buyOrders(buys)
+                .sellOrders(sells)
+                .timestamp(LocalDateTime.of(2025, 7, 25, 10, 0, 0))
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package org.bobj.common.redis;
+
+import org.bobj.property.dto.RealEstateTransactionDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RealEstateTransactionsRedisSerializerTest {
+
+    private final RealEstateTransactionsRedisSerializer serializer = new RealEstateTransactionsRedisSerializer();
+
+    @Test
+    @DisplayName("실거래가 목록을 직렬화 후 읽으면 같은 값이 나온다.")
+    void roundTrip() {
+        List<RealEstateTransactionDTO> transactions = sampleTransactions(100);
+
+        assertEquals(transactions, serializer.deserialize(serializer.serialize(transactions)));
+    }
+
+    @Test
+    @DisplayName("좌표/거리가 계산되지 않은 항목과 빈 목록도 그대로 읽힌다.")
+    void nullFieldsAndEmptyList() {
+        List<RealEstateTransactionDTO> transactions = List.of(
+                RealEstateTransactionDTO.builder().aptNm("한신").dealAmount("120,000").build(),
+                new RealEstateTransactionDTO());
+
+        assertEquals(transactions, serializer.deserialize(serializer.serialize(transactions)));
+        assertEquals(List.of(), serializer.deserialize(serializer.serialize(List.of())));
+    }
+
+    @Test
+    @DisplayName("null은 빈 바이트로 쓰고, 다른 버전(이전 JSON 캐시)은 캐시 미스(null)로 읽는다.")
+    void versionMismatchIsCacheMiss() {
+        assertArrayEquals(new byte[0], serializer.serialize(null));
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize("[\"java.util.ArrayList\",[]]".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("버전은 맞지만 손상된 값은 SerializationException")
+    void corruptedValue() {
+        byte[] bytes = serializer.serialize(sampleTransactions(3));
+
+        assertThrows(SerializationException.class,
+                () -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length - 3)));
+    }
+
+    static List<RealEstateTransactionDTO> sampleTransactions(int count) {
+        List<RealEstateTransactionDTO> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(RealEstateTransactionDTO.builder()
+                    .aptNm("래미안퍼스티지" + (i % 7))
+                    .dealAmount(String.format("%,d", 150_000 + i * 1_250))
+                    .jibun((i % 50 + 1) + "-" + (i % 9))
+                    .umdNm("반포동")
+                    .estateAgentSggNm("서울 서초구")
+                    .latitude(37.5040 + i * 0.0001)
+                    .longitude(127.0050 - i * 0.0001)
+                    .distanceFromProperty(i * 0.0123)
+                    .build());
+        }
+        return transactions;
+    }
+}
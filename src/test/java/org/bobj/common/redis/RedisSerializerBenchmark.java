@@ -0,0 +1,95 @@
+package org.bobj.common.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.bobj.orderbook.dto.response.OrderBookResponseDTO;
+import org.bobj.property.dto.RealEstateTransactionDTO;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Redis 값 직렬화 벤치마크 - 기존 JSON 직렬화기 vs 바이너리 직렬화기 (크기, 직렬화/역직렬화 시간)
+ * - 호가창: 매수/매도 10단계, 기존 Jackson2JsonRedisSerializer(OrderBookResponseDTO)
+ * - 실거래가: 100건 목록, 기존 redisTemplate의 JSON 형식 (왕복 비교를 위해 목록 타입을 지정한 Jackson2JsonRedisSerializer로 읽음)
+ * 빌드에 JMH가 없어 워밍업 후 반복 측정하는 단순 벤치마크로 작성했다. 측정 전 왕복 결과가 원본과 같은지 확인한다.
+ * (기존 JSON은 기준 시각을 초 단위로만 저장하므로 샘플 시각은 초 단위로 맞춤)
+ *
+ * 실행: 테스트 클래스 경로에서 main 실행 (예: java -cp build/classes/java/main:build/classes/java/test:... org.bobj.common.redis.RedisSerializerBenchmark)
+ */
+public class RedisSerializerBenchmark {
+
+    private static final int WARMUP_ROUNDS = 50_000;
+    private static final int MEASURE_ROUNDS = 200_000;
+
+    public static void main(String[] args) {
+        // RedisConfig.objectMapper()와 같은 설정
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+        Jackson2JsonRedisSerializer<OrderBookResponseDTO> orderBookJson = new Jackson2JsonRedisSerializer<>(OrderBookResponseDTO.class);
+        orderBookJson.setObjectMapper(objectMapper);
+        OrderBookResponseDTO orderBook = OrderBookRedisSerializerTest.sampleOrderBook(10);
+        run("호가창 (10+10단계)", orderBook, orderBookJson, new OrderBookRedisSerializer());
+
+        Jackson2JsonRedisSerializer<List<RealEstateTransactionDTO>> transactionsJson = new Jackson2JsonRedisSerializer<>(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, RealEstateTransactionDTO.class));
+        transactionsJson.setObjectMapper(objectMapper);
+        List<RealEstateTransactionDTO> transactions = RealEstateTransactionsRedisSerializerTest.sampleTransactions(100);
+        run("실거래가 100건", transactions, transactionsJson, new RealEstateTransactionsRedisSerializer());
+    }
+
+    private static <T> void run(String name, T value, RedisSerializer<T> json, RedisSerializer<T> binary) {
+        byte[] jsonBytes = json.serialize(value);
+        byte[] binaryBytes = binary.serialize(value);
+        if (!Objects.equals(value, json.deserialize(jsonBytes)) || !Objects.equals(value, binary.deserialize(binaryBytes))) {
+            throw new IllegalStateException(name + " - 왕복 결과가 원본과 다릅니다.");
+        }
+
+        double jsonWrite = measureSerialize(json, value);
+        double jsonRead = measureDeserialize(json, jsonBytes);
+        double binaryWrite = measureSerialize(binary, value);
+        double binaryRead = measureDeserialize(binary, binaryBytes);
+        System.out.printf("%s - JSON %,d B, %.2f/%.2f us -> 바이너리 %,d B, %.2f/%.2f us (직렬화/역직렬화)%n",
+                name, jsonBytes.length, jsonWrite / 1_000, jsonRead / 1_000,
+                binaryBytes.length, binaryWrite / 1_000, binaryRead / 1_000);
+    }
+
+    private static <T> double measureSerialize(RedisSerializer<T> serializer, T value) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += serializer.serialize(value).length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += serializer.serialize(value).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(sink);
+        return (double) elapsed / MEASURE_ROUNDS;
+    }
+
+    private static <T> double measureDeserialize(RedisSerializer<T> serializer, byte[] bytes) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += Objects.hashCode(serializer.deserialize(bytes));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += Objects.hashCode(serializer.deserialize(bytes));
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(sink);
+        return (double) elapsed / MEASURE_ROUNDS;
+    }
+
+    private static void consume(long sink) {
+        if (sink == Long.MIN_VALUE) {
+            System.out.println(sink);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.bobj.common.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3ServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final long WINDOW_MS = 60_000;
+    private static final long VALIDITY_MS = 180_000;
+
+    @Test
+    @DisplayName("키에서 UUID_ 접두어를 뗀 파일명을 꺼낸다.")
+    void filenameFromKey() {
+        String uuid = "123e4567-e89b-12d3-a456-426614174000";
+
+        assertEquals("report.pdf", S3Service.filenameFromKey("uploads/document/" + uuid + "_report.pdf"));
+        // 파일명 자체에 '_'가 있어도 첫 구분자만 본다
+        assertEquals("my_file_v2.pdf", S3Service.filenameFromKey("uploads/document/" + uuid + "_my_file_v2.pdf"));
+        // 폴더 없는 키
+        assertEquals("a.txt", S3Service.filenameFromKey(uuid + "_a.txt"));
+    }
+
+    @Test
+    @DisplayName("UUID 접두어가 없는 키는 마지막 경로 조각을 그대로 쓴다.")
+    void filenameFromKeyWithoutUuid() {
+        assertEquals("short_name.pdf", S3Service.filenameFromKey("uploads/document/short_name.pdf"));
+        assertEquals("plain.pdf", S3Service.filenameFromKey("plain.pdf"));
+        assertEquals("", S3Service.filenameFromKey("uploads/document/"));
+    }
+
+    @Test
+    @DisplayName("같은 키는 시간 구간 안에서 한 번만 서명하고, 키가 다르면 따로 서명한다.")
+    void presignedUrlCachedPerWindow() {
+        List<GeneratePresignedUrlRequest> requests = new ArrayList<>();
+        S3Service s3Service = s3Service(requests);
+
+        String first;
+        String second;
+        long window;
+        // 호출 사이에 구간이 바뀌면 다시 측정
+        do {
+            requests.clear();
+            window = System.currentTimeMillis() / WINDOW_MS;
+            first = s3Service.getPresignedDownloadUrl("docs/a.pdf", "a.pdf");
+            second = s3Service.getPresignedDownloadUrl("docs/a.pdf", "a.pdf");
+        } while (window != System.currentTimeMillis() / WINDOW_MS);
+
+        assertEquals(first, second);
+        assertEquals(1, countFor(requests, "docs/a.pdf"));
+
+        String other = s3Service.getPresignedDownloadUrl("docs/b.pdf", "b.pdf");
+        assertNotEquals(first, other);
+        assertEquals(1, countFor(requests, "docs/b.pdf"));
+    }
+
+    @Test
+    @DisplayName("캐시된 URL도 최소 유효 시간을 보장하도록 만료를 구간 끝 기준으로 잡는다.")
+    void presignedUrlExpirationAnchoredToWindowEnd() {
+        List<GeneratePresignedUrlRequest> requests = new ArrayList<>();
+        S3Service s3Service = s3Service(requests);
+
+        long before = System.currentTimeMillis();
+        s3Service.getPresignedDownloadUrl("docs/c.pdf", null);
+        long after = System.currentTimeMillis();
+
+        GeneratePresignedUrlRequest request = requests.get(0);
+        long expiration = request.getExpiration().getTime();
+        // 구간 끝 + 3분이므로 분 단위로 떨어진다
+        assertEquals(0, expiration % WINDOW_MS);
+        // 구간의 마지막 순간에 캐시에서 꺼내도 3분은 남는다
+        assertTrue(expiration >= (before / WINDOW_MS + 1) * WINDOW_MS + VALIDITY_MS);
+        assertTrue(expiration <= after + WINDOW_MS + VALIDITY_MS);
+        // 원본 파일명이 없으면 키의 파일명으로 다운로드 이름을 정한다
+        assertEquals("attachment; filename=\"c.pdf\"", request.getResponseHeaders().getContentDisposition());
+    }
+
+    @Test
+    @DisplayName("기존 문서 파일명은 S3 메타데이터의 원본 파일명을 쓰고, 메타데이터나 객체가 없으면 키에서 추출한다.")
+    void originalFilenameFromMetadata() {
+        String uuid = "123e4567-e89b-12d3-a456-426614174000";
+        S3Service s3Service = metadataS3Service((bucket, key) -> {
+            ObjectMetadata metadata = new ObjectMetadata();
+            if (key.endsWith("____.pdf")) {
+                metadata.addUserMetadata("original-filename", "등기 부.pdf");
+            } else if (key.endsWith("missing.pdf")) {
+                AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+                notFound.setStatusCode(404);
+                throw notFound;
+            } else if (key.endsWith("denied.pdf")) {
+                AmazonS3Exception denied = new AmazonS3Exception("Access Denied");
+                denied.setStatusCode(403);
+                throw denied;
+            }
+            return metadata;
+        });
+
+        assertEquals("등기 부.pdf", s3Service.getOriginalFilenameFromS3("uploads/document/" + uuid + "_____.pdf"));
+        assertEquals("plain.pdf", s3Service.getOriginalFilenameFromS3("uploads/document/" + uuid + "_plain.pdf"));
+        assertEquals("missing.pdf", s3Service.getOriginalFilenameFromS3("uploads/document/" + uuid + "_missing.pdf"));
+        // 일시적인 오류는 잘못된 파일명을 저장하지 않도록 그대로 던진다
+        assertThrows(AmazonS3Exception.class,
+                () -> s3Service.getOriginalFilenameFromS3("uploads/document/" + uuid + "_denied.pdf"));
+    }
+
+    private interface MetadataAnswer {
+        ObjectMetadata answer(String bucket, String key);
+    }
+
+    private static S3Service metadataS3Service(MetadataAnswer answer) {
+        AmazonS3 amazonS3 = (AmazonS3) Proxy.newProxyInstance(
+                AmazonS3.class.getClassLoader(),
+                new Class<?>[]{AmazonS3.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getObjectMetadata") || args.length != 2) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return answer.answer((String) args[0], (String) args[1]);
+                });
+        S3Service s3Service = new S3Service(amazonS3, null);
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+        return s3Service;
+    }
+
+    private static S3Service s3Service(List<GeneratePresignedUrlRequest> requests) {
+        AmazonS3 amazonS3 = (AmazonS3) Proxy.newProxyInstance(
+                AmazonS3.class.getClassLoader(),
+                new Class<?>[]{AmazonS3.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("generatePresignedUrl") || args.length != 1) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    GeneratePresignedUrlRequest request = (GeneratePresignedUrlRequest) args[0];
+                    requests.add(request);
+                    return url("https://" + request.getBucketName() + ".s3.amazonaws.com/" + request.getKey()
+                            + "?signature=" + requests.size());
+                });
+        S3Service s3Service = new S3Service(amazonS3, null);
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+        return s3Service;
+    }
+
+    private static long countFor(List<GeneratePresignedUrlRequest> requests, String key) {
+        return requests.stream().filter(request -> request.getKey().equals(key)).count();
+    }
+
+    private static URL url(String spec) {
+        try {
+            return new URL(spec);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
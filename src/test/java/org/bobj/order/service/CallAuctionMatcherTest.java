@@ -0,0 +1,119 @@
+package org.bobj.order.service;
+
+import org.bobj.order.domain.OrderType;
+import org.bobj.order.domain.OrderVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CallAuctionMatcherTest {
+
+    private static final LocalDateTime OPEN = LocalDateTime.of(2025, 7, 25, 8, 30);
+
+    @Test
+    @DisplayName("체결 수량이 같으면 미체결 잔량이 작은 가격을 고르고, 가격 우선→시간 우선으로 채운다.")
+    void maxVolumeThenMinImbalanceAndFillAllocation() {
+        List<OrderVO> orders = List.of(
+                order(1L, OrderType.BUY, "102", 10, 1),
+                order(2L, OrderType.BUY, "101", 5, 2),
+                order(3L, OrderType.BUY, "100", 3, 3),
+                order(4L, OrderType.SELL, "99", 4, 1),
+                order(5L, OrderType.SELL, "100", 8, 2),
+                order(6L, OrderType.SELL, "102", 5, 3));
+
+        // 100원: 체결 12, 잔량 6 / 101원: 체결 12, 잔량 3
+        CallAuctionMatcher.Result result = CallAuctionMatcher.uncross(orders, null);
+
+        assertEquals(0, new BigDecimal("101").compareTo(result.getPrice()));
+        assertEquals(12, result.getVolume());
+        assertEquals(List.of("1<-4:4", "1<-5:6", "2<-5:2"), describe(result));
+    }
+
+    @Test
+    @DisplayName("체결 수량과 잔량이 같으면 기준가에 가까운 가격, 같은 거리거나 기준가가 없으면 낮은 가격")
+    void referencePriceThenLowerPrice() {
+        List<OrderVO> orders = List.of(
+                order(1L, OrderType.BUY, "101", 5, 1),
+                order(2L, OrderType.SELL, "99", 5, 1));
+
+        assertEquals(0, new BigDecimal("101").compareTo(CallAuctionMatcher.uncross(orders, new BigDecimal("101")).getPrice()));
+        assertEquals(0, new BigDecimal("101").compareTo(CallAuctionMatcher.uncross(orders, new BigDecimal("150")).getPrice()));
+        assertEquals(0, new BigDecimal("99").compareTo(CallAuctionMatcher.uncross(orders, new BigDecimal("98")).getPrice()));
+        assertEquals(0, new BigDecimal("99").compareTo(CallAuctionMatcher.uncross(orders, new BigDecimal("100")).getPrice()));
+        assertEquals(0, new BigDecimal("99").compareTo(CallAuctionMatcher.uncross(orders, null).getPrice()));
+    }
+
+    @Test
+    @DisplayName("체결 수량이 가장 큰 가격이 잔량이 작은 가격보다 우선한다.")
+    void maxVolumeBeatsImbalance() {
+        List<OrderVO> orders = List.of(
+                order(1L, OrderType.BUY, "101", 1, 1),
+                order(2L, OrderType.BUY, "100", 10, 1),
+                order(3L, OrderType.SELL, "100", 5, 1));
+
+        // 100원: 체결 5(잔량 6) / 101원: 체결 1(잔량 4) - 기준가가 101원이어도 체결 수량이 먼저
+        CallAuctionMatcher.Result result = CallAuctionMatcher.uncross(orders, new BigDecimal("101"));
+
+        assertEquals(0, new BigDecimal("100").compareTo(result.getPrice()));
+        assertEquals(5, result.getVolume());
+        assertEquals(List.of("1<-3:1", "2<-3:4"), describe(result));
+    }
+
+    @Test
+    @DisplayName("같은 가격은 먼저 접수된 주문부터, 접수 시각이 같으면 주문 ID 순으로 채운다.")
+    void timePriorityWithinPrice() {
+        List<OrderVO> orders = List.of(
+                order(7L, OrderType.BUY, "100", 3, 2),
+                order(5L, OrderType.BUY, "100", 3, 1),
+                order(6L, OrderType.BUY, "100", 3, 1),
+                order(8L, OrderType.BUY, "100", 3, null),
+                order(9L, OrderType.SELL, "100", 8, 1));
+
+        CallAuctionMatcher.Result result = CallAuctionMatcher.uncross(orders, null);
+
+        assertEquals(8, result.getVolume());
+        // 접수 시각이 없는 주문은 가장 뒤
+        assertEquals(List.of("5<-9:3", "6<-9:3", "7<-9:2"), describe(result));
+    }
+
+    @Test
+    @DisplayName("가격이 교차하지 않거나 한쪽 주문이 없으면 체결하지 않는다.")
+    void noCross() {
+        assertNull(CallAuctionMatcher.uncross(List.of(
+                order(1L, OrderType.BUY, "99", 5, 1),
+                order(2L, OrderType.SELL, "101", 5, 1)), null));
+        assertNull(CallAuctionMatcher.uncross(List.of(
+                order(1L, OrderType.BUY, "99", 5, 1),
+                order(2L, OrderType.BUY, "101", 5, 1)), null));
+        // 잔량이 0인 주문은 무시
+        assertNull(CallAuctionMatcher.uncross(List.of(
+                order(1L, OrderType.BUY, "101", 5, 1),
+                order(2L, OrderType.SELL, "99", 0, 1)), null));
+        assertNull(CallAuctionMatcher.uncross(List.of(), null));
+    }
+
+    private static List<String> describe(CallAuctionMatcher.Result result) {
+        return result.getFills().stream()
+                .map(fill -> fill.getBuyOrder().getOrderId() + "<-" + fill.getSellOrder().getOrderId() + ":" + fill.getCount())
+                .toList();
+    }
+
+    private static OrderVO order(Long orderId, OrderType type, String price, int count, Integer minutesAfterOpen) {
+        return OrderVO.builder()
+                .orderId(orderId)
+                .userId(orderId)
+                .fundingId(1L)
+                .orderType(type)
+                .orderPricePerShare(new BigDecimal(price))
+                .orderShareCount(count)
+                .remainingShareCount(count)
+                .createdAt(minutesAfterOpen != null ? OPEN.plusMinutes(minutesAfterOpen) : null)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package org.bobj.order.service;
+
+import org.bobj.order.domain.OrderType;
+import org.bobj.order.domain.OrderVO;
+import org.bobj.order.mapper.OrderMapper;
+import org.bobj.point.domain.PointVO;
+import org.bobj.point.mapper.PointMapper;
+import org.bobj.point.repository.PointRepository;
+import org.bobj.share.mapper.ShareMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderLedgerServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long FUNDING_ID = 10L;
+
+    // DB 상태 대용
+    private final List<OrderVO> openOrders = new ArrayList<>();
+    private final Map<Long, BigDecimal> points = new HashMap<>();
+    private final Map<Long, Integer> shares = new HashMap<>();
+    private final AtomicInteger openOrderQueries = new AtomicInteger();
+
+    private OrderLedgerService ledger;
+
+    @BeforeEach
+    void setUp() {
+        OrderMapper orderMapper = stub(OrderMapper.class, (name, args) -> {
+            if (name.equals("findOpenOrdersByUserId")) {
+                openOrderQueries.incrementAndGet();
+                return openOrders.stream().filter(o -> o.getUserId().equals(args[0])).toList();
+            }
+            throw new UnsupportedOperationException(name);
+        });
+        PointMapper pointMapper = stub(PointMapper.class, (name, args) -> {
+            if (name.equals("findByUserId")) {
+                BigDecimal amount = points.get((Long) args[0]);
+                return amount != null ? PointVO.builder().userId((Long) args[0]).amount(amount).build() : null;
+            }
+            throw new UnsupportedOperationException(name);
+        });
+        ShareMapper shareMapper = stub(ShareMapper.class, (name, args) -> {
+            if (name.equals("findUserShareCount")) {
+                return shares.get((Long) args[0]);
+            }
+            throw new UnsupportedOperationException(name);
+        });
+        ledger = new OrderLedgerService(orderMapper, new PointRepository(pointMapper), shareMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("매수 예약은 주문 가능 포인트를 넘을 수 없고, 예약분만큼 다음 주문 한도가 줄어든다.")
+    void reserveBuyWithinAvailablePoints() {
+        points.put(USER_ID, new BigDecimal("10000"));
+
+        ledger.reserve(order(100L, OrderType.BUY, "1000", 6));
+        assertEquals(new BigDecimal("6000"), ledger.getReservedPoints(USER_ID));
+
+        assertThrows(IllegalArgumentException.class, () -> ledger.reserve(order(101L, OrderType.BUY, "1000", 5)));
+        ledger.reserve(order(102L, OrderType.BUY, "1000", 4));
+        assertEquals(new BigDecimal("10000"), ledger.getReservedPoints(USER_ID));
+    }
+
+    @Test
+    @DisplayName("매도 예약은 보유 주식에서 같은 종목의 미체결 매도분을 뺀 만큼만 가능하다.")
+    void reserveSellWithinHeldShares() {
+        shares.put(USER_ID, 10);
+
+        ledger.reserve(order(100L, OrderType.SELL, "1000", 7));
+        assertThrows(IllegalArgumentException.class, () -> ledger.reserve(order(101L, OrderType.SELL, "1000", 4)));
+        ledger.reserve(order(102L, OrderType.SELL, "1000", 3));
+
+        shares.put(2L, 0);
+        OrderVO notHeld = order(200L, OrderType.SELL, "1000", 1);
+        notHeld.setUserId(2L);
+        assertThrows(IllegalStateException.class, () -> ledger.reserve(notHeld));
+        // 거절된 사용자의 빈 장부는 남지 않는다
+        assertEquals(1, ledger.accountCount());
+    }
+
+    @Test
+    @DisplayName("체결 후 남은 수량으로 예약을 줄이고, 같은 체결이 두 번 와도 결과가 같으며 0이면 해제한다.")
+    void updateRemaining() {
+        points.put(USER_ID, new BigDecimal("10000"));
+        ledger.reserve(order(100L, OrderType.BUY, "1000", 6));
+
+        ledger.updateRemaining(USER_ID, 100L, 4);
+        ledger.updateRemaining(USER_ID, 100L, 4);
+        assertEquals(new BigDecimal("4000"), ledger.getReservedPoints(USER_ID));
+
+        // 늦게 도착한 이전 체결(더 큰 남은 수량)은 예약을 늘리지 않는다
+        ledger.updateRemaining(USER_ID, 100L, 5);
+        assertEquals(new BigDecimal("4000"), ledger.getReservedPoints(USER_ID));
+
+        ledger.updateRemaining(USER_ID, 100L, 0);
+        assertEquals(0, ledger.accountCount());
+        assertEquals(BigDecimal.ZERO, ledger.getReservedPoints(USER_ID));
+    }
+
+    @Test
+    @DisplayName("마지막 예약이 해제되면 장부를 메모리에서 지우고, 다음 사용 시 DB로 다시 채운다.")
+    void releaseDropsEmptyAccountAndReseeds() {
+        points.put(USER_ID, new BigDecimal("10000"));
+        ledger.reserve(order(100L, OrderType.BUY, "1000", 6));
+        ledger.release(USER_ID, 100L);
+        assertEquals(0, ledger.accountCount());
+
+        // 다른 경로로 DB에 생긴 미체결 주문도 다시 읽어 한도에 반영
+        OrderVO open = order(300L, OrderType.BUY, "1000", 8);
+        open.setRemainingShareCount(8);
+        openOrders.add(open);
+        assertThrows(IllegalArgumentException.class, () -> ledger.reserve(order(101L, OrderType.BUY, "1000", 3)));
+        ledger.reserve(order(102L, OrderType.BUY, "1000", 2));
+        assertEquals(new BigDecimal("10000"), ledger.getReservedPoints(USER_ID));
+
+        // 장부에 없는 주문에 대한 갱신/해제는 무시
+        ledger.release(USER_ID, 999L);
+        ledger.updateRemaining(99L, 1L, 0);
+        assertEquals(1, ledger.accountCount());
+    }
+
+    @Test
+    @DisplayName("예약 조회만 한 사용자는 장부를 만들지 않는다.")
+    void getReservedPointsDoesNotRetainAccount() {
+        OrderVO open = order(300L, OrderType.BUY, "2500", 4);
+        open.setRemainingShareCount(2);
+        openOrders.add(open);
+        openOrders.add(order(301L, OrderType.SELL, "9999", 1));
+
+        assertEquals(new BigDecimal("5000"), ledger.getReservedPoints(USER_ID));
+        assertEquals(new BigDecimal("5000"), ledger.getReservedPoints(USER_ID));
+        assertEquals(0, ledger.accountCount());
+        assertEquals(2, openOrderQueries.get());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 예약을 해제하고, 커밋되면 유지한다.")
+    void releasesOnRollback() {
+        points.put(USER_ID, new BigDecimal("10000"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.reserve(order(100L, OrderType.BUY, "1000", 6));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(0, ledger.accountCount());
+
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.reserve(order(101L, OrderType.BUY, "1000", 6));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(new BigDecimal("6000"), ledger.getReservedPoints(USER_ID));
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static OrderVO order(Long orderId, OrderType type, String price, int count) {
+        return OrderVO.builder()
+                .orderId(orderId)
+                .userId(USER_ID)
+                .fundingId(FUNDING_ID)
+                .orderType(type)
+                .orderPricePerShare(new BigDecimal(price))
+                .orderShareCount(count)
+                .remainingShareCount(count)
+                .build();
+    }
+
+    private interface Answer {
+        Object answer(String methodName, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answer.answer(method.getName(), args));
+    }
+}
@@ -0,0 +1,93 @@
+package org.bobj.property.util;
+
+import org.bobj.property.dto.RentalTransactionDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RentalMatchIndexTest {
+
+    @Test
+    @DisplayName("붙여 쓴 아파트명도 키워드가 포함되면 매칭된다.")
+    void aptNameSubstringMatch() {
+        RentalTransactionDTO raemian = rental("래미안퍼스티지", "반포동", "1-1", "2024", "5", "1");
+        RentalTransactionDTO other = rental("아크로리버파크", "반포동", "2-2", "2024", "6", "1");
+        RentalMatchIndex index = RentalMatchIndex.build(List.of(raemian, other));
+
+        assertSame(raemian, index.findBestMatch("서울특별시 서초구 래미안"));
+        assertSame(raemian, index.findBestMatch("서울특별시 서초구 퍼스티지"));
+        assertSame(other, index.findBestMatch("서울특별시 서초구 리버파크"));
+    }
+
+    @Test
+    @DisplayName("띄어 쓴 아파트명은 공백을 무시하고 전체 이름/단어 모두 매칭된다.")
+    void aptNameWithSpaces() {
+        RentalTransactionDTO raemian = rental("래미안 퍼스티지", "반포동", "1-1", "2024", "5", "1");
+        RentalMatchIndex index = RentalMatchIndex.build(List.of(raemian));
+
+        assertSame(raemian, index.findBestMatch("래미안퍼스티지"));
+        assertSame(raemian, index.findBestMatch("퍼스티지"));
+        assertSame(raemian, index.findBestMatch("래미안퍼스티지아파트"));
+        assertNull(index.findBestMatch("자이"));
+    }
+
+    @Test
+    @DisplayName("읍면동+지번 일치가 아파트명 일치보다 우선한다.")
+    void umdJibunBeatsAptName() {
+        RentalTransactionDTO byJibun = rental("한신", "역삼동", "123-45", "2023", "1", "1");
+        RentalTransactionDTO byName = rental("역삼래미안", "도곡동", "9", "2024", "12", "31");
+        RentalMatchIndex index = RentalMatchIndex.build(List.of(byJibun, byName));
+
+        assertSame(byJibun, index.findBestMatch("서울 강남구 역삼동 123-45 래미안"));
+        // 본번만 있어도 지번 매칭
+        assertSame(byJibun, index.findBestMatch("서울 강남구 역삼동 123"));
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 계약일이 가장 최근인 거래를 고른다.")
+    void tieBreaksOnLatestDealDate() {
+        RentalTransactionDTO older = rental("래미안", "반포동", "1", "2023", "12", "31");
+        RentalTransactionDTO newer = rental("래미안", "반포동", "1", "2024", "1", "2");
+        RentalTransactionDTO sameYearOlderMonth = rental("래미안", "반포동", "1", "2024", "1", "1");
+        RentalMatchIndex index = RentalMatchIndex.build(List.of(older, newer, sameYearOlderMonth));
+
+        assertSame(newer, index.findBestMatch("래미안"));
+    }
+
+    @Test
+    @DisplayName("읍면동만 일치해도 후보가 되고, 아무것도 맞지 않으면 null")
+    void umdOnlyAndNoMatch() {
+        RentalTransactionDTO rental = rental("한신", "역삼동", "1", "2024", "1", "1");
+        RentalMatchIndex index = RentalMatchIndex.build(List.of(rental));
+
+        assertSame(rental, index.findBestMatch("서울 강남구 역삼동"));
+        assertNull(index.findBestMatch("부산 해운대구 우동"));
+        assertNull(index.findBestMatch(" "));
+        assertEquals(0, RentalMatchIndex.build(List.of()).size());
+    }
+
+    @Test
+    @DisplayName("주소 키워드는 특수문자를 제거하고 2글자 이상 또는 숫자만 남긴다.")
+    void extractKeywords() {
+        assertEquals(List.of("서울", "강남구", "역삼동", "123-45", "래미안"),
+                RentalMatchIndex.extractKeywords("서울 강남구, 역삼동 123-45 (래미안) 동"));
+        assertEquals(List.of(), RentalMatchIndex.extractKeywords(null));
+    }
+
+    private static RentalTransactionDTO rental(String aptNm, String umdNm, String jibun,
+                                               String year, String month, String day) {
+        return RentalTransactionDTO.builder()
+                .aptNm(aptNm)
+                .umdNm(umdNm)
+                .jibun(jibun)
+                .dealYear(year)
+                .dealMonth(month)
+                .dealDay(day)
+                .build();
+    }
+}
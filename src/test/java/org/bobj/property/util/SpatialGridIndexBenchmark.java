@@ -0,0 +1,76 @@
+package org.bobj.property.util;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * 반경 필터링 벤치마크 - 기존 방식(좌표마다 haversine + String.format 중복 키) vs SpatialGridIndex(격자 조회 + long 중복 키)
+ * 월 수천 건 거래가 있는 밀집 구역에서 매물 1km 반경 거래를 고르는 경우를 측정한다.
+ * 빌드에 JMH가 없어 워밍업 후 반복 측정하는 단순 벤치마크로 작성했다.
+ *
+ * 실행: 테스트 클래스 경로에서 main 실행 (예: java -cp build/classes/java/main:build/classes/java/test org.bobj.property.util.SpatialGridIndexBenchmark)
+ */
+public class SpatialGridIndexBenchmark {
+
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LNG = 127.0276;
+    private static final double RADIUS_KM = 1.0;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 1_000;
+
+    public static void main(String[] args) {
+        for (int trades : new int[]{1_000, 5_000, 20_000}) {
+            // 구 하나 크기(약 ±3km)에 거래가 몰린 경우
+            List<double[]> points = SpatialGridIndexTest.randomPoints(new Random(7), trades, 0.03);
+
+            double loopNanos = measure(points, SpatialGridIndexBenchmark::haversineLoop);
+            double gridNanos = measure(points, SpatialGridIndexBenchmark::gridIndex);
+            System.out.printf("거래 %,d건 - haversine 순회: %,.1f us/op, 격자 인덱스(구축 포함): %,.1f us/op, %.1fx%n",
+                    trades, loopNanos / 1_000, gridNanos / 1_000, loopNanos / gridNanos);
+        }
+    }
+
+    // 기존 PropertyMapService 방식
+    static int haversineLoop(List<double[]> points) {
+        Set<String> uniqueCoordinates = new HashSet<>();
+        for (double[] point : points) {
+            if (GeoUtils.calculateDistance(CENTER_LAT, CENTER_LNG, point[0], point[1]) > RADIUS_KM) {
+                continue;
+            }
+            uniqueCoordinates.add(String.format("%.6f,%.6f", point[0], point[1]));
+        }
+        return uniqueCoordinates.size();
+    }
+
+    // 현재 방식 - 월별 좌표로 인덱스를 만들고 반경 안의 좌표만 중복 검사
+    static int gridIndex(List<double[]> points) {
+        SpatialGridIndex<double[]> index = new SpatialGridIndex<>();
+        for (double[] point : points) {
+            index.add(point[0], point[1], point);
+        }
+        Set<Long> uniqueCoordinates = new HashSet<>();
+        for (double[] point : index.findWithinRadius(CENTER_LAT, CENTER_LNG, RADIUS_KM)) {
+            uniqueCoordinates.add(SpatialGridIndex.coordinateKey(point[0], point[1]));
+        }
+        return uniqueCoordinates.size();
+    }
+
+    private static double measure(List<double[]> points, ToIntFunction<List<double[]>> task) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += task.applyAsInt(points);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += task.applyAsInt(points);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == Long.MIN_VALUE) {
+            System.out.println(sink);
+        }
+        return (double) elapsed / MEASURE_ROUNDS;
+    }
+}
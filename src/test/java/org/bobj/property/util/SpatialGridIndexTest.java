@@ -0,0 +1,140 @@
+package org.bobj.property.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpatialGridIndexTest {
+
+    // 서울 강남구 부근
+    private static final double CENTER_LAT = 37.4979;
+    private static final double CENTER_LNG = 127.0276;
+    // 격자 판정(등장방형, 111.32km/도)과 haversine(지구 반지름 6371km)의 차이를 허용하는 경계 폭
+    private static final double BOUNDARY_TOLERANCE = 0.005;
+
+    @Test
+    @DisplayName("반경 검색 결과가 haversine 전체 순회 결과와 같다.")
+    void matchesHaversineLoop() {
+        Random random = new Random(42);
+        List<double[]> points = randomPoints(random, 5_000, 0.05);
+        SpatialGridIndex<Integer> index = new SpatialGridIndex<>();
+        for (int i = 0; i < points.size(); i++) {
+            index.add(points.get(i)[0], points.get(i)[1], i);
+        }
+
+        for (double radiusKm : new double[]{0.3, 1.0, 2.5}) {
+            Set<Integer> expected = new HashSet<>();
+            Set<Integer> nearBoundary = new HashSet<>();
+            for (int i = 0; i < points.size(); i++) {
+                double distance = GeoUtils.calculateDistance(CENTER_LAT, CENTER_LNG, points.get(i)[0], points.get(i)[1]);
+                if (Math.abs(distance - radiusKm) <= radiusKm * BOUNDARY_TOLERANCE) {
+                    nearBoundary.add(i);
+                } else if (distance <= radiusKm) {
+                    expected.add(i);
+                }
+            }
+
+            Set<Integer> actual = new HashSet<>(index.findWithinRadius(CENTER_LAT, CENTER_LNG, radiusKm));
+            actual.removeAll(nearBoundary);
+            assertEquals(expected, actual, "radius " + radiusKm + "km");
+            assertFalse(expected.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("반경이 셀 경계를 넘어도 이웃 셀의 좌표를 찾는다.")
+    void findsAcrossCellBoundaries() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>();
+        // 중심은 셀 경계 바로 안쪽, 대상은 경계 바로 바깥(다른 셀)
+        double centerLat = 37.50 + 1e-7;
+        double centerLng = 127.03 + 1e-7;
+        index.add(37.50 - 0.001, centerLng, "south");
+        index.add(centerLat, 127.03 - 0.001, "west");
+        index.add(37.50 - 0.001, 127.03 - 0.001, "south-west");
+
+        List<String> found = index.findWithinRadius(centerLat, centerLng, 0.5);
+        assertEquals(Set.of("south", "west", "south-west"), new HashSet<>(found));
+    }
+
+    @Test
+    @DisplayName("반경 안쪽 경계의 좌표는 포함하고 바깥 좌표는 제외한다.")
+    void radiusBoundary() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>();
+        double radiusKm = 1.0;
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        index.add(CENTER_LAT + latDelta * 0.999, CENTER_LNG, "inside");
+        index.add(CENTER_LAT + latDelta * 1.001, CENTER_LNG, "outside");
+        index.add(CENTER_LAT, CENTER_LNG, "center");
+
+        List<String> found = index.findWithinRadius(CENTER_LAT, CENTER_LNG, radiusKm);
+        assertEquals(Set.of("inside", "center"), new HashSet<>(found));
+        assertTrue(index.findWithinRadius(CENTER_LAT, CENTER_LNG, 0).contains("center"));
+        assertTrue(new SpatialGridIndex<String>().findWithinRadius(CENTER_LAT, CENTER_LNG, radiusKm).isEmpty());
+    }
+
+    @Test
+    @DisplayName("음수 좌표(남반구/서경)와 0도 경계에서도 반경 검색이 동작한다.")
+    void negativeCoordinates() {
+        SpatialGridIndex<String> index = new SpatialGridIndex<>();
+        index.add(-0.001, -0.001, "sw");
+        index.add(0.001, 0.001, "ne");
+        index.add(-0.001, 0.001, "se");
+        index.add(0.001, -0.001, "nw");
+        index.add(-33.8688, 151.2093, "sydney");
+
+        assertEquals(Set.of("sw", "ne", "se", "nw"), new HashSet<>(index.findWithinRadius(0, 0, 0.5)));
+        assertEquals(List.of("sydney"), index.findWithinRadius(-33.8690, 151.2090, 0.5));
+    }
+
+    @Test
+    @DisplayName("셀 키는 음수 셀을 포함해 서로 다른 셀에서 충돌하지 않는다.")
+    void cellKeyIsUniquePerCell() {
+        Set<Long> keys = new HashSet<>();
+        int[] cells = {Integer.MIN_VALUE, -18_000, -1, 0, 1, 18_000, Integer.MAX_VALUE};
+        for (int lat : cells) {
+            for (int lng : cells) {
+                assertTrue(keys.add(SpatialGridIndex.cellKey(lat, lng)), lat + "," + lng);
+            }
+        }
+        assertNotEquals(SpatialGridIndex.cellKey(0, -1), SpatialGridIndex.cellKey(-1, 0));
+        assertEquals(GeoUtils.toGridCell(-0.001), -1);
+        assertEquals(GeoUtils.toGridCell(0.0), 0);
+    }
+
+    @Test
+    @DisplayName("좌표 키는 소수점 6자리 반올림 기준으로 같은 좌표만 같다.")
+    void coordinateKey() {
+        assertEquals(SpatialGridIndex.coordinateKey(37.4979001, 127.0276001),
+                SpatialGridIndex.coordinateKey(37.4979004, 127.0276004));
+        assertNotEquals(SpatialGridIndex.coordinateKey(37.497900, 127.027600),
+                SpatialGridIndex.coordinateKey(37.497901, 127.027600));
+        assertNotEquals(SpatialGridIndex.coordinateKey(37.497900, 127.027600),
+                SpatialGridIndex.coordinateKey(37.497900, 127.027601));
+        // 경도 부호/범위 끝에서도 이웃 위도의 키와 겹치지 않음
+        assertNotEquals(SpatialGridIndex.coordinateKey(0.000001, -180),
+                SpatialGridIndex.coordinateKey(0, 180));
+        assertNotEquals(SpatialGridIndex.coordinateKey(-1, 180),
+                SpatialGridIndex.coordinateKey(1, -180));
+    }
+
+    // 중심에서 ±spreadDegrees 범위의 무작위 좌표
+    static List<double[]> randomPoints(Random random, int count, double spreadDegrees) {
+        List<double[]> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new double[]{
+                    CENTER_LAT + (random.nextDouble() * 2 - 1) * spreadDegrees,
+                    CENTER_LNG + (random.nextDouble() * 2 - 1) * spreadDegrees});
+        }
+        return points;
+    }
+}